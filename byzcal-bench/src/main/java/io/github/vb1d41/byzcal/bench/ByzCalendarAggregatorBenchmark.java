@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.bench;
+
+import io.github.vb1d41.byzcal.ByzCalendarAggregator;
+import io.github.vb1d41.byzcal.ByzCalendarAggregator.Field;
+import io.github.vb1d41.byzcal.ByzDate;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Counting a batch of timestamps by the Byzantine month, with a ByzDate
+ * per event and with a ByzCalendarAggregator.
+ *
+ * @version 1.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ByzCalendarAggregatorBenchmark {
+
+    @Benchmark
+    public long[] months_ByzDate(Inputs in) {
+        var counts = new long[1 << 8];
+        for (long epochMilli : in.epochMillis) {
+            ByzDate date = in.converter.toByzDate(epochMilli);
+            counts[date.year() * 12 + date.month().ordinal() & 0xFF]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public ByzCalendarAggregator months_Aggregator(Inputs in) {
+        var aggregator = ByzCalendarAggregator.of(Field.MONTH, in.zone);
+        aggregator.addEpochMillis(in.epochMillis);
+        return aggregator;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.bench;
+
+import io.github.vb1d41.byzcal.ByzDate;
+import io.github.vb1d41.byzcal.ByzDateFormatter;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the ByzDate entry points.
+ *
+ * @version 1.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ByzDateBenchmark {
+
+    @Benchmark
+    public ByzDate of(Inputs in) {
+        int i = in.next();
+        return ByzDate.of(in.years[i], in.months[i], in.daysOfMonth[i]);
+    }
+
+    @Benchmark
+    public ByzDate fromGregorian(Inputs in) {
+        int i = in.next();
+        return ByzDate.fromGregorian(in.greYears[i], in.greMonths[i], in.greDaysOfMonth[i]);
+    }
+
+    @Benchmark
+    public ByzDate fromGregorian_Cache(Inputs in) {
+        int i = in.next();
+        return in.cache.fromGregorian(in.greYears[i], in.greMonths[i], in.greDaysOfMonth[i]);
+    }
+
+    @Benchmark
+    public ByzDate fromGregorian_LocalDate(Inputs in) {
+        return ByzDate.fromGregorian(in.localDates[in.next()]);
+    }
+
+    @Benchmark
+    public ByzDate ofEpochMilli(Inputs in) {
+        return ByzDate.ofEpochMilli(in.epochMillis[in.next()], in.zone);
+    }
+
+    @Benchmark
+    public ByzDate ofEpochMilli_Converter(Inputs in) {
+        return in.converter.toByzDate(in.epochMillis[in.next()]);
+    }
+
+    @Benchmark
+    public ByzDate now(Inputs in) {
+        return ByzDate.now(in.clock);
+    }
+
+    @Benchmark
+    public ByzDate now_LocalDate(Inputs in) {
+        return ByzDate.fromGregorian(LocalDate.now(in.clock));
+    }
+
+    @Benchmark
+    public ByzDate addDays(Inputs in) {
+        int i = in.next();
+        return in.dates[i].addDays(i);
+    }
+
+    @Benchmark
+    public ByzDate addMonths(Inputs in) {
+        int i = in.next();
+        return in.dates[i].addMonths(i & 0xFF);
+    }
+
+    @Benchmark
+    public ByzDate addYears(Inputs in) {
+        int i = in.next();
+        return in.dates[i].addYears(i & 0xFF);
+    }
+
+    @Benchmark
+    public int compareTo(Inputs in) {
+        int i = in.next();
+        return in.dates[i].compareTo(in.dates[Inputs.MASK - i]);
+    }
+
+    @Benchmark
+    public int hashCode(Inputs in) {
+        return in.dates[in.next()].hashCode();
+    }
+
+    @Benchmark
+    public String toString(Inputs in) {
+        return in.dates[in.next()].toString();
+    }
+
+    @Benchmark
+    public int formatTo_ByteArray(Inputs in) {
+        return ByzDateFormatter.TEXTUAL.formatTo(in.dates[in.next()], in.buffer, 0);
+    }
+
+    @Benchmark
+    public ByzDate parse(Inputs in) {
+        return ByzDateFormatter.NUMERIC.parse(in.numericTexts[in.next()]);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.bench;
+
+import io.github.vb1d41.byzcal.ByzDate;
+import io.github.vb1d41.byzcal.ByzDateIntMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Counting events per day, in a HashMap and in a ByzDateIntMap.
+ *
+ * @version 1.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ByzDateMapBenchmark {
+
+    @Benchmark
+    public Integer count_HashMap(Inputs in, Maps maps) {
+        return maps.hashMap.merge(in.dates[in.next()], 1, Integer::sum);
+    }
+
+    @Benchmark
+    public int count_IntMap(Inputs in, Maps maps) {
+        return maps.intMap.addTo(in.dates[in.next()], 1);
+    }
+
+    @Benchmark
+    public Integer get_HashMap(Inputs in, Maps maps) {
+        int i = in.next();
+        return maps.hashMap.get(ByzDate.of(in.years[i], in.months[i], in.daysOfMonth[i]));
+    }
+
+    @Benchmark
+    public int get_IntMap(Inputs in, Maps maps) {
+        int i = in.next();
+        return maps.intMap.get(in.years[i], in.months[i], in.daysOfMonth[i], 0);
+    }
+
+    /**
+     * The maps of the input dates.
+     */
+    @State(Scope.Thread)
+    public static class Maps {
+
+        final Map<ByzDate, Integer> hashMap = new HashMap<>();
+        final ByzDateIntMap intMap = new ByzDateIntMap();
+
+        @Setup
+        public void setup(Inputs in) {
+            for (var date : in.dates) {
+                this.hashMap.merge(date, 1, Integer::sum);
+                this.intMap.addTo(date, 1);
+            }
+        }
+    }
+}
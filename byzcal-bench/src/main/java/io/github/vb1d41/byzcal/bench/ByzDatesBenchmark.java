@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.bench;
+
+import io.github.vb1d41.byzcal.ByzDate;
+import io.github.vb1d41.byzcal.ByzDates;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost per date of the bulk conversions of ByzDates, compared with a loop
+ * over ByzDate.fromGregorian.
+ *
+ * @version 1.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ByzDatesBenchmark {
+
+    static final int SIZE = 1 << 20;
+
+    final int[] years = new int[SIZE];
+    final int[] months = new int[SIZE];
+    final int[] daysOfMonth = new int[SIZE];
+    final long[] epochDays = new long[SIZE];
+
+    final int[] outYears = new int[SIZE];
+    final byte[] outMonths = new byte[SIZE];
+    final byte[] outDaysOfMonth = new byte[SIZE];
+    final byte[] outDaysOfWeek = new byte[SIZE];
+
+    @Setup
+    public void setup() {
+        var random = new Random(7532);
+        for (int i = 0; i < SIZE; i++) {
+            var date = LocalDate.ofEpochDay(random.nextInt(200_000) - 100_000);
+            this.years[i] = date.getYear();
+            this.months[i] = date.getMonthValue();
+            this.daysOfMonth[i] = date.getDayOfMonth();
+            this.epochDays[i] = date.toEpochDay();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void convertGregorian() {
+        ByzDates.convertGregorian(this.years, this.months, this.daysOfMonth,
+            this.outYears, this.outMonths, this.outDaysOfMonth, this.outDaysOfWeek);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void convertEpochDays() {
+        ByzDates.convertEpochDays(this.epochDays,
+            this.outYears, this.outMonths, this.outDaysOfMonth, this.outDaysOfWeek);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void fromGregorianLoop(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(ByzDate.fromGregorian(this.years[i], this.months[i], this.daysOfMonth[i]));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.bench;
+
+import io.github.vb1d41.byzcal.ByzDate;
+
+/**
+ * Prints the time of the first conversion in a bare JVM; the classes it
+ * initializes are checked by ByzDateStartupTest of the library.
+ *
+ * StartupBenchmark runs in a JVM which has already loaded the JMH harness,
+ * and with it much of java.lang.invoke; this class measures the first call
+ * as a command line tool sees it.
+ *
+ * @version 1.3.0
+ */
+public final class FirstConversion {
+
+    private FirstConversion() {
+    }
+
+    public static void main(String[] args) {
+        long start = System.nanoTime();
+        var date = ByzDate.fromGregorian(2023, 4, 16);
+        long nanos = System.nanoTime() - start;
+
+        System.out.println(date + " in " + nanos / 1000 + " us");
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.bench;
+
+import io.github.vb1d41.byzcal.ByzDate;
+import io.github.vb1d41.byzcal.ByzDateCache;
+import io.github.vb1d41.byzcal.ByzDateFormatter;
+import io.github.vb1d41.byzcal.ByzMonth;
+import io.github.vb1d41.byzcal.ByzZoneConverter;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Random dates between 7000 and 8000 (Byzantine), the same for every run.
+ *
+ * The benchmarks cycle through the dates so that the JIT cannot fold
+ * the conversions into constants.
+ *
+ * @version 1.3.0
+ */
+@State(Scope.Thread)
+public class Inputs {
+
+    static final int SIZE = 1 << 12;
+    static final int MASK = SIZE - 1;
+
+    final int[] years = new int[SIZE];
+    final ByzMonth[] months = new ByzMonth[SIZE];
+    final int[] monthValues = new int[SIZE]; // [1,12], September is 1
+    final int[] daysOfMonth = new int[SIZE];
+
+    final int[] greYears = new int[SIZE];
+    final int[] greMonths = new int[SIZE];
+    final int[] greDaysOfMonth = new int[SIZE];
+    final LocalDate[] localDates = new LocalDate[SIZE];
+
+    final ByzDate[] dates = new ByzDate[SIZE];
+    final String[] numericTexts = new String[SIZE];
+    final byte[] buffer = new byte[32];
+
+    // increasing timestamps about a minute apart, as in an event stream
+    final long[] epochMillis = new long[SIZE];
+    final ZoneId zone = ZoneId.of("Europe/Athens");
+    final ByzZoneConverter converter = ByzZoneConverter.of(this.zone);
+    final Clock clock = Clock.system(this.zone);
+
+    // large enough for all the dates, every lookup after the first round hits
+    final ByzDateCache cache = ByzDateCache.of(2 * SIZE);
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        var random = new Random(7532);
+        var byzMonths = ByzMonth.values();
+
+        long millis = 1_680_000_000_000L;
+        for (int i = 0; i < SIZE; i++) {
+            millis += random.nextInt(120_000);
+            this.epochMillis[i] = millis;
+
+            this.years[i] = 7000 + random.nextInt(1000);
+            this.monthValues[i] = 1 + random.nextInt(12);
+            this.months[i] = byzMonths[this.monthValues[i] - 1];
+            this.daysOfMonth[i] = 1 + random.nextInt(28);
+
+            // from 1583, the first full year after the minimum, to 2500
+            var localDate = LocalDate.of(1583 + random.nextInt(918),
+                1 + random.nextInt(12), 1 + random.nextInt(28));
+            this.greYears[i] = localDate.getYear();
+            this.greMonths[i] = localDate.getMonthValue();
+            this.greDaysOfMonth[i] = localDate.getDayOfMonth();
+            this.localDates[i] = localDate;
+
+            this.dates[i] = ByzDate.of(this.years[i], this.months[i], this.daysOfMonth[i]);
+            this.numericTexts[i] = ByzDateFormatter.NUMERIC.format(this.dates[i]);
+        }
+    }
+
+    int next() {
+        this.index = (this.index + 1) & MASK;
+        return this.index;
+    }
+}
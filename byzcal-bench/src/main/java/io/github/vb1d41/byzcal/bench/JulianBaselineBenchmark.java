@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.bench;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.threeten.extra.chrono.JulianDate;
+
+/**
+ * The same operations as in ByzDateBenchmark, performed with the
+ * JulianChronology of ThreeTen-Extra on top of java.time.
+ *
+ * The Byzantine year is mapped to the Julian year with the fixed offset
+ * 5508, which is what a caller of java.time would do by hand.
+ *
+ * @version 1.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JulianBaselineBenchmark {
+
+    @State(Scope.Thread)
+    public static class JulianDates {
+
+        final JulianDate[] dates = new JulianDate[Inputs.SIZE];
+
+        @Setup
+        public void setup(Inputs in) {
+            for (int i = 0; i < Inputs.SIZE; i++)
+                this.dates[i] = of(in, i);
+        }
+    }
+
+    @Benchmark
+    public JulianDate of(Inputs in) {
+        return of(in, in.next());
+    }
+
+    @Benchmark
+    public JulianDate fromGregorian_LocalDate(Inputs in) {
+        return JulianDate.from(in.localDates[in.next()]);
+    }
+
+    @Benchmark
+    public JulianDate addDays(Inputs in, JulianDates julian) {
+        int i = in.next();
+        return julian.dates[i].plus(i, ChronoUnit.DAYS);
+    }
+
+    @Benchmark
+    public JulianDate addMonths(Inputs in, JulianDates julian) {
+        int i = in.next();
+        return julian.dates[i].plus(i & 0xFF, ChronoUnit.MONTHS);
+    }
+
+    @Benchmark
+    public JulianDate addYears(Inputs in, JulianDates julian) {
+        int i = in.next();
+        return julian.dates[i].plus(i & 0xFF, ChronoUnit.YEARS);
+    }
+
+    @Benchmark
+    public int compareTo(Inputs in, JulianDates julian) {
+        int i = in.next();
+        return julian.dates[i].compareTo(julian.dates[Inputs.MASK - i]);
+    }
+
+    @Benchmark
+    public int hashCode(Inputs in, JulianDates julian) {
+        return julian.dates[in.next()].hashCode();
+    }
+
+    @Benchmark
+    public String toString(Inputs in, JulianDates julian) {
+        return julian.dates[in.next()].toString();
+    }
+
+    // September is the first month of the Byzantine year
+    private static JulianDate of(Inputs in, int i) {
+        int month = (in.monthValues[i] + 7) % 12 + 1;
+        int year = in.years[i] - (month >= 9 ? 5509 : 5508);
+        return JulianDate.of(year, month, in.daysOfMonth[i]);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.cli;
+
+import io.github.vb1d41.byzcal.ByzDateFormatter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Converts the Gregorian dates of a CSV or NDJSON file to Byzantine dates.
+ *
+ * Usage: {@code java -jar byzcal-cli.jar [options] INPUT OUTPUT}, where
+ * INPUT and OUTPUT are paths, or - for the standard input and output.
+ * The summary of the conversion is printed to the standard error.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzCalCli {
+
+    private static final String USAGE = """
+        Usage: java -jar byzcal-cli.jar [options] INPUT OUTPUT
+
+        Converts the Gregorian dates (yyyy-MM-dd) of a CSV or NDJSON file to
+        Byzantine dates. INPUT and OUTPUT are paths, or - for stdin and stdout.
+
+        Options:
+          -c, --column N       the column of the date in CSV, from 1 (default 1)
+          -f, --field NAME     the field of the date in NDJSON; selects NDJSON
+          -p, --pattern P      the pattern of the Byzantine dates, written in UTF-8
+                               (default yyyy-MM-dd)
+          -t, --threads N      the number of workers (default: the processors)
+          -s, --chunk-size MB  the size of a chunk in MiB (default 4, at most 256)
+          -q, --quiet          does not print the summary
+        """;
+
+    // a line may take 4 chunks, which must fit an array
+    private static final int MAX_CHUNK_MIB = 256;
+
+    private static final int EXIT_USAGE = 2;
+    private static final int EXIT_FAILURE = 1;
+
+    private int column = 1;
+    private String field;
+    private String pattern = "yyyy-MM-dd";
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int chunkSize = 4 << 20;
+    private boolean quiet;
+    private String input;
+    private String output;
+
+    private ByzCalCli() {
+    }
+
+    /**
+     * Runs the conversion.
+     *
+     * @param args the command line arguments, not null
+     */
+    public static void main(String[] args) {
+        System.exit(run(args, System.err));
+    }
+
+    // the exit status
+    static int run(String[] args, PrintStream err) {
+        var cli = new ByzCalCli();
+        LineConverter converter;
+        try {
+            cli.parseArgs(args);
+            var formatter = ByzDateFormatter.ofPattern(cli.pattern);
+            converter = cli.field != null
+                ? LineConverter.ndjson(cli.field, formatter)
+                : LineConverter.csv(cli.column - 1, formatter);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.print(USAGE);
+            return EXIT_USAGE;
+        }
+
+        var pipeline = new ChunkPipeline(converter, cli.threads, cli.chunkSize);
+        long start = System.nanoTime();
+        try (var in = cli.openInput(); var out = cli.openOutput()) {
+            var result = pipeline.run(in, out);
+            if (!cli.quiet)
+                err.println(summary(result, System.nanoTime() - start));
+            return 0;
+        } catch (IOException e) {
+            err.println("byzcal-cli: " + e.getMessage());
+            return EXIT_FAILURE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EXIT_FAILURE;
+        }
+    }
+
+    private void parseArgs(String[] args) {
+        int i = 0;
+        while (i < args.length && args[i].startsWith("-") && !"-".equals(args[i])) {
+            String option = args[i++];
+            switch (option) {
+                case "-q", "--quiet" -> this.quiet = true;
+                case "-c", "--column" -> this.column = positive(option, value(args, i++, option), Integer.MAX_VALUE);
+                case "-f", "--field" -> this.field = value(args, i++, option);
+                case "-p", "--pattern" -> this.pattern = pattern(option, value(args, i++, option));
+                case "-t", "--threads" -> this.threads = positive(option, value(args, i++, option), Integer.MAX_VALUE);
+                case "-s", "--chunk-size" -> this.chunkSize =
+                    positive(option, value(args, i++, option), MAX_CHUNK_MIB) << 20;
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+        if (args.length - i != 2)
+            throw new IllegalArgumentException("Expected INPUT and OUTPUT");
+        this.input = args[i];
+        this.output = args[i + 1];
+    }
+
+    private static String value(String[] args, int i, String option) {
+        if (i >= args.length)
+            throw new IllegalArgumentException("Missing the value of " + option);
+        return args[i];
+    }
+
+    // the pattern, which the locale of the shell could not decode if it has a replacement character
+    private static String pattern(String option, String value) {
+        if (value.indexOf('\uFFFD') >= 0)
+            throw new IllegalArgumentException("Invalid value of " + option + ", use a UTF-8 locale: " + value);
+        return value;
+    }
+
+    private static int positive(String option, String value, int max) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0 && number <= max)
+                return number;
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid value of " + option + ": " + value);
+    }
+
+    private ReadableByteChannel openInput() throws IOException {
+        if ("-".equals(this.input))
+            return Channels.newChannel(System.in);
+        return FileChannel.open(Path.of(this.input), StandardOpenOption.READ);
+    }
+
+    private WritableByteChannel openOutput() throws IOException {
+        if ("-".equals(this.output))
+            return Channels.newChannel(System.out);
+        return FileChannel.open(Path.of(this.output), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static String summary(ChunkPipeline.Result result, long nanos) {
+        double seconds = nanos / 1e9;
+        return String.format(Locale.ROOT,
+            "%d lines, %d dates converted, %d lines copied, %.1f MiB in %.2f s (%.1f MiB/s)",
+            result.lines, result.converted, result.lines - result.converted,
+            result.bytesIn / 1048576.0, seconds, result.bytesIn / 1048576.0 / seconds);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.cli;
+
+import java.util.Arrays;
+
+/**
+ * The converted lines of a chunk of the input.
+ *
+ * This class is not thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+final class Chunk {
+
+    byte[] bytes;
+    int length;
+
+    // the lines of the chunk, and the lines with a converted date
+    long lines;
+    long converted;
+
+    Chunk(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    // ensures that the extra bytes can be appended
+    void ensureCapacity(int extra) {
+        if (this.length + extra > this.bytes.length)
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.length + extra));
+    }
+
+    void append(byte[] source, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(source, offset, this.bytes, this.length, count);
+        this.length += count;
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Converts a stream of lines in chunks on a pool of workers.
+ *
+ * A reader thread cuts the input into chunks which end on a line feed and
+ * hands them to the workers. The calling thread writes the converted chunks
+ * in the order of the input. The queue of the chunks is bounded, so the
+ * reader waits when the workers or the writer fall behind: at most
+ * 2 * threads + 2 chunks are in memory, each with its input and output.
+ * A chunk grows past the chunk size only to hold a line longer than the
+ * chunk size, up to MAX_LINE_CHUNKS chunk sizes; a longer line fails.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+final class ChunkPipeline {
+
+    // the end of the input, in the queue of the chunks
+    private static final Future<Chunk> END = CompletableFuture.completedFuture(null);
+
+    // the longest line, in chunk sizes
+    static final int MAX_LINE_CHUNKS = 4;
+
+    // the largest array the VM allocates
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final LineConverter converter;
+    private final int threads;
+    private final int chunkSize;
+    private final int maxLineLength;
+
+    /**
+     * Creates a pipeline.
+     *
+     * @param converter the converter of the lines, not null
+     * @param threads the number of workers, positive
+     * @param chunkSize the number of bytes read at once, positive
+     */
+    ChunkPipeline(LineConverter converter, int threads, int chunkSize) {
+        assert converter != null;
+        assert threads > 0 && chunkSize > 0;
+
+        this.converter = converter;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        this.maxLineLength = (int) Math.min((long) MAX_LINE_CHUNKS * chunkSize, MAX_ARRAY_LENGTH);
+    }
+
+    /**
+     * Converts the input to the output.
+     *
+     * The channels are not closed.
+     *
+     * @param input the input, not null
+     * @param output the output, not null
+     * @return the counts of the conversion, not null
+     * @throws IOException if the input cannot be read or the output written
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    Result run(ReadableByteChannel input, WritableByteChannel output)
+            throws IOException, InterruptedException {
+        BlockingQueue<Future<Chunk>> queue = new ArrayBlockingQueue<>(2 * this.threads);
+        ExecutorService workers = Executors.newFixedThreadPool(this.threads);
+        var reader = new Reader(input, queue, workers);
+        var readerThread = new Thread(reader, "byzcal-reader");
+
+        readerThread.start();
+        try {
+            var result = new Result();
+            for (var future = queue.take(); future != END; future = queue.take()) {
+                var chunk = future.get();
+                write(output, chunk);
+                result.lines += chunk.lines;
+                result.converted += chunk.converted;
+                result.bytesOut += chunk.length;
+            }
+            if (reader.failure instanceof IOException e)
+                throw e;
+            if (reader.failure != null)
+                throw new IOException("The input cannot be read", reader.failure);
+            result.bytesIn = reader.bytesIn;
+            return result;
+        } catch (ExecutionException e) {
+            throw new IOException("The conversion failed", e.getCause());
+        } finally {
+            readerThread.interrupt();
+            workers.shutdownNow();
+            readerThread.join();
+        }
+    }
+
+    private static void write(WritableByteChannel output, Chunk chunk) throws IOException {
+        var buffer = ByteBuffer.wrap(chunk.bytes, 0, chunk.length);
+        while (buffer.hasRemaining())
+            output.write(buffer);
+    }
+
+    /**
+     * The counts of a conversion.
+     */
+    static final class Result {
+
+        long lines;
+        long converted;
+        long bytesIn;
+        long bytesOut;
+    }
+
+    // reads the chunks and submits them to the workers
+    private final class Reader implements Runnable {
+
+        private final ReadableByteChannel input;
+        private final BlockingQueue<Future<Chunk>> queue;
+        private final ExecutorService workers;
+
+        long bytesIn;
+        Throwable failure;
+
+        Reader(ReadableByteChannel input, BlockingQueue<Future<Chunk>> queue, ExecutorService workers) {
+            this.input = input;
+            this.queue = queue;
+            this.workers = workers;
+        }
+
+        @Override
+        public void run() {
+            try {
+                readChunks();
+            } catch (InterruptedException e) {
+                // the writer has stopped, so putting END fails at once
+                Thread.currentThread().interrupt();
+            } catch (IOException | RuntimeException | Error e) {
+                this.failure = e;
+            } finally {
+                putEnd();
+            }
+        }
+
+        // the writer waits for END, whatever stopped the reader
+        private void putEnd() {
+            try {
+                this.queue.put(END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void readChunks() throws IOException, InterruptedException {
+            var buffer = new byte[chunkSize];
+            int length = 0;
+            boolean eof = false;
+
+            while (!eof) {
+                var target = ByteBuffer.wrap(buffer, length, buffer.length - length);
+                while (target.hasRemaining()) {
+                    if (this.input.read(target) < 0) {
+                        eof = true;
+                        break;
+                    }
+                }
+                int read = target.position();
+                this.bytesIn += read - length;
+                length = read;
+
+                // the chunk ends after the last line feed, or at the end of the input
+                int end = eof ? length : lastLineFeed(buffer, length) + 1;
+                if (end == 0 && !eof) {
+                    // a line longer than the chunk
+                    if (buffer.length >= maxLineLength)
+                        throw new IOException("A line is longer than " + maxLineLength + " bytes");
+                    buffer = Arrays.copyOf(buffer, (int) Math.min(2L * buffer.length, maxLineLength));
+                    continue;
+                }
+                if (end > 0)
+                    submit(buffer, end);
+
+                var next = new byte[Math.max(chunkSize, length - end)];
+                System.arraycopy(buffer, end, next, 0, length - end);
+                buffer = next;
+                length -= end;
+            }
+        }
+
+        private void submit(byte[] chunk, int length) throws InterruptedException {
+            this.queue.put(this.workers.submit(() -> converter.convert(chunk, length)));
+        }
+
+        private int lastLineFeed(byte[] buffer, int length) {
+            for (int i = length - 1; i >= 0; i--) {
+                if (buffer[i] == '\n')
+                    return i;
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.cli;
+
+import io.github.vb1d41.byzcal.ByzDate;
+import io.github.vb1d41.byzcal.ByzDateCache;
+import io.github.vb1d41.byzcal.ByzDateFormatter;
+import io.github.vb1d41.byzcal.ByzMonth;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Replaces the Gregorian date of every line with the Byzantine date.
+ *
+ * The date is read in the form yyyy-MM-dd straight from the bytes of the
+ * line, from a column of CSV or from a string field of NDJSON. A line with
+ * no valid date (a header, a date before October 15, 1582) is copied as is.
+ *
+ * This class is thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+final class LineConverter {
+
+    // the bytes of yyyy-MM-dd
+    private static final int DATE_LENGTH = 10;
+
+    // the first supported Gregorian date
+    private static final int MIN_DATE = 1582_10_15;
+
+    private static final int[] DAYS_IN_MONTH = { 0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
+    // no date in the line
+    private static final int NO_DATE = -1;
+
+    private final int column; // of CSV, from 0, or -1 for NDJSON
+    private final byte[] fieldName; // of NDJSON, with the quotes
+    private final ByzDateFormatter formatter;
+    private final int maxDateLength;
+
+    // the same dates repeat through an export
+    private final ByzDateCache cache = ByzDateCache.of(1 << 12);
+
+    /**
+     * Creates a converter of the column of CSV.
+     *
+     * @param column the column, from 0
+     * @param formatter the formatter of the Byzantine dates, not null
+     * @return the converter, not null
+     */
+    static LineConverter csv(int column, ByzDateFormatter formatter) {
+        assert column >= 0;
+
+        return new LineConverter(column, null, formatter);
+    }
+
+    /**
+     * Creates a converter of the string field of NDJSON.
+     *
+     * The field is found by its name anywhere in the line, the objects of
+     * the line are not parsed.
+     *
+     * @param fieldName the name of the field, not null
+     * @param formatter the formatter of the Byzantine dates, not null
+     * @return the converter, not null
+     */
+    static LineConverter ndjson(String fieldName, ByzDateFormatter formatter) {
+        assert fieldName != null;
+
+        byte[] quoted = ("\"" + fieldName + "\"").getBytes(StandardCharsets.UTF_8);
+        return new LineConverter(-1, quoted, formatter);
+    }
+
+    /**
+     * Converts the lines of the input to the chunk.
+     *
+     * The input ends after a line feed, or at the end of the file.
+     *
+     * @param input the bytes of the lines, not null
+     * @param length the number of bytes of the lines
+     * @return the converted lines, not null
+     */
+    Chunk convert(byte[] input, int length) {
+        var chunk = new Chunk(length + length / 8 + this.maxDateLength);
+
+        int start = 0;
+        while (start < length) {
+            int end = indexOf(input, (byte) '\n', start, length);
+            int next = end < 0 ? length : end + 1;
+            convertLine(input, start, next, chunk);
+            start = next;
+        }
+        return chunk;
+    }
+
+    // the line is from start to next (exclusive), with the line feed
+    private void convertLine(byte[] input, int start, int next, Chunk chunk) {
+        int end = next;
+        if (end > start && input[end - 1] == '\n')
+            end--;
+        if (end > start && input[end - 1] == '\r')
+            end--;
+
+        int dateStart = this.column >= 0 ? csvDate(input, start, end) : ndjsonDate(input, start, end);
+        int gregorian = dateStart < 0 ? NO_DATE : parse(input, dateStart);
+
+        chunk.lines++;
+        if (gregorian == NO_DATE) {
+            chunk.append(input, start, next - start);
+            return;
+        }
+
+        var date = this.cache.fromGregorian(gregorian / 10_000, gregorian / 100 % 100, gregorian % 100);
+        chunk.ensureCapacity(next - start + this.maxDateLength);
+        chunk.append(input, start, dateStart - start);
+        chunk.length = this.formatter.formatTo(date, chunk.bytes, chunk.length);
+        chunk.append(input, dateStart + DATE_LENGTH, next - dateStart - DATE_LENGTH);
+        chunk.converted++;
+    }
+
+    // the start of the date in the column, or -1
+    private int csvDate(byte[] input, int start, int end) {
+        int column = 0;
+        int fieldStart = start;
+        boolean quoted = false;
+
+        for (int i = start; i <= end; i++) {
+            if (i < end && input[i] == '"') {
+                quoted = !quoted;
+            } else if (i == end || input[i] == ',' && !quoted) {
+                if (column == this.column)
+                    return dateIn(input, fieldStart, i);
+                column++;
+                fieldStart = i + 1;
+            }
+        }
+        return -1;
+    }
+
+    // the start of the date of the field, or -1
+    private int ndjsonDate(byte[] input, int start, int end) {
+        // the name may also be a string value, which is not followed by a colon
+        int i = start;
+        do {
+            i = indexOf(input, this.fieldName, i, end);
+            if (i < 0)
+                return -1;
+            i = skipSpaces(input, i + this.fieldName.length, end);
+        } while (i >= end || input[i] != ':');
+        i = skipSpaces(input, i + 1, end);
+
+        int valueEnd = i + DATE_LENGTH + 2;
+        if (valueEnd > end || input[i] != '"' || input[valueEnd - 1] != '"')
+            return -1;
+        return i + 1;
+    }
+
+    // the start of the date which is the whole field, quoted or not, or -1
+    private static int dateIn(byte[] input, int fieldStart, int fieldEnd) {
+        int length = fieldEnd - fieldStart;
+        if (length == DATE_LENGTH)
+            return fieldStart;
+        if (length == DATE_LENGTH + 2 && input[fieldStart] == '"' && input[fieldEnd - 1] == '"')
+            return fieldStart + 1;
+        return -1;
+    }
+
+    // the date yyyy-MM-dd as the decimal number yyyyMMdd, or NO_DATE
+    static int parse(byte[] input, int offset) {
+        int year = digits(input, offset, 4);
+        int month = digits(input, offset + 5, 2);
+        int dayOfMonth = digits(input, offset + 8, 2);
+
+        if (year < 0 || month < 1 || month > 12 || dayOfMonth < 1
+                || input[offset + 4] != '-' || input[offset + 7] != '-')
+            return NO_DATE;
+        if (dayOfMonth > DAYS_IN_MONTH[month] && !(month == 2 && dayOfMonth == 29 && isLeapYear(year)))
+            return NO_DATE;
+
+        int date = year * 10_000 + month * 100 + dayOfMonth;
+        return date < MIN_DATE ? NO_DATE : date;
+    }
+
+    private static int digits(byte[] input, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = input[i] - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int skipSpaces(byte[] input, int from, int to) {
+        int i = from;
+        while (i < to && (input[i] == ' ' || input[i] == '\t'))
+            i++;
+        return i;
+    }
+
+    static int indexOf(byte[] input, byte value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (input[i] == value)
+                return i;
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte[] input, byte[] value, int from, int to) {
+        int last = to - value.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < value.length; j++) {
+                if (input[i + j] != value[j])
+                    continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private LineConverter(int column, byte[] fieldName, ByzDateFormatter formatter) {
+        assert formatter != null;
+
+        this.column = column;
+        this.fieldName = fieldName;
+        this.formatter = formatter;
+        // the widest month name and numbers in UTF-8, with room for the sign
+        var widest = ByzDate.of(9999, ByzMonth.SEPTEMBER, 30);
+        this.maxDateLength = formatter.format(widest).getBytes(StandardCharsets.UTF_8).length + 8;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.cli;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Writes a CSV file of random events for the benchmark of the converter.
+ *
+ * Usage: {@code java -cp byzcal-cli.jar io.github.vb1d41.byzcal.cli.SampleFile LINES OUTPUT}.
+ * The lines are id,date,amount,comment with the dates from 2000 to 2030,
+ * about 60 bytes per line.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class SampleFile {
+
+    private SampleFile() {
+    }
+
+    /**
+     * Writes the file.
+     *
+     * @param args the number of lines and the path of the file, not null
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        long lines = Long.parseLong(args[0]);
+        var random = new Random(7532);
+        long first = LocalDate.of(2000, 1, 1).toEpochDay();
+
+        try (BufferedWriter out = Files.newBufferedWriter(Path.of(args[1]), StandardCharsets.US_ASCII)) {
+            out.write("id,date,amount,comment\n");
+            for (long i = 0; i < lines; i++) {
+                var date = LocalDate.ofEpochDay(first + random.nextInt(11_000));
+                out.write(i + "," + date + "," + random.nextInt(1_000_000) / 100.0
+                    + ",\"event " + Long.toHexString(random.nextLong()) + "\"\n");
+            }
+        }
+    }
+}
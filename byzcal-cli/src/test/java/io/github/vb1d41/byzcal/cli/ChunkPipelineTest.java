@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.cli;
+
+import io.github.vb1d41.byzcal.ByzDate;
+import io.github.vb1d41.byzcal.ByzDateFormatter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * @version 1.3.0
+ */
+public class ChunkPipelineTest {
+
+    @Test
+    public void testRun_Order() throws Exception {
+        var random = new Random(7531);
+        var input = new StringBuilder("id,date\n");
+        var expected = new StringBuilder("id,date\n");
+        for (int i = 0; i < 20_000; i++) {
+            var date = LocalDate.ofEpochDay(10_000 + random.nextInt(10_000));
+            // some lines are longer than a chunk
+            String padding = i % 5_000 == 0 ? "x".repeat(300) : "";
+            input.append(i).append(',').append(date).append(',').append(padding).append('\n');
+            expected.append(i).append(',').append(ByzDateFormatter.NUMERIC.format(ByzDate.fromGregorian(date)))
+                .append(',').append(padding).append('\n');
+        }
+        input.append("last,2023-04-16"); // no line feed
+        expected.append("last,7531-08-03");
+
+        for (int threads : new int[] { 1, 4 }) {
+            var pipeline = new ChunkPipeline(LineConverter.csv(1, ByzDateFormatter.NUMERIC), threads, 256);
+            var out = new ByteArrayOutputStream();
+            byte[] bytes = input.toString().getBytes(StandardCharsets.UTF_8);
+
+            var result = pipeline.run(Channels.newChannel(new ByteArrayInputStream(bytes)),
+                Channels.newChannel(out));
+
+            assertEquals(out.toString(StandardCharsets.UTF_8), expected.toString());
+            assertEquals(result.lines, 20_002);
+            assertEquals(result.converted, 20_001);
+            assertEquals(result.bytesIn, bytes.length);
+            assertEquals(result.bytesOut, out.size());
+        }
+    }
+
+    @Test(timeOut = 10_000)
+    public void testRun_LongLine() {
+        var pipeline = new ChunkPipeline(LineConverter.csv(0, ByzDateFormatter.NUMERIC), 2, 256);
+        // a line of the longest length, then a longer one without a line feed
+        String input = "x".repeat(ChunkPipeline.MAX_LINE_CHUNKS * 256 - 1) + "\n"
+            + "x".repeat(ChunkPipeline.MAX_LINE_CHUNKS * 256 * 8);
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+
+        var e = expectThrows(IOException.class, () -> pipeline.run(
+            Channels.newChannel(new ByteArrayInputStream(bytes)), Channels.newChannel(new ByteArrayOutputStream())));
+        assertEquals(e.getMessage(), "A line is longer than 1024 bytes");
+    }
+
+    @Test(timeOut = 10_000)
+    public void testRun_ReaderFailure() {
+        var pipeline = new ChunkPipeline(LineConverter.csv(0, ByzDateFormatter.NUMERIC), 2, 256);
+        var failure = new IllegalStateException("broken channel");
+        var input = new ReadableByteChannel() {
+            private int reads;
+
+            @Override
+            public int read(ByteBuffer target) {
+                if (++this.reads > 3)
+                    throw failure;
+                target.put("2023-04-16\n".getBytes(StandardCharsets.UTF_8));
+                return 11;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+        // the writer is not left waiting for the end of the input
+        var e = expectThrows(IOException.class, () -> pipeline.run(input,
+            Channels.newChannel(new ByteArrayOutputStream())));
+        assertSame(e.getCause(), failure);
+    }
+
+    @Test
+    public void testMain() throws IOException {
+        var input = Files.createTempFile("byzcal", ".ndjson");
+        var output = Files.createTempFile("byzcal", ".ndjson");
+        try {
+            Files.writeString(input, "{\"when\": \"2023-04-16\"}\n{\"when\": \"2023-04-17\"}\n");
+            var err = new ByteArrayOutputStream();
+
+            int status = ByzCalCli.run(new String[] { "-f", "when", "-p", "MONTH d, y", "-t", "2",
+                input.toString(), output.toString() }, new PrintStream(err, true, StandardCharsets.UTF_8));
+
+            assertEquals(status, 0);
+            assertEquals(Files.readString(output), "{\"when\": \"APRIL 3, 7531\"}\n{\"when\": \"APRIL 4, 7531\"}\n");
+            assertEquals(err.toString(StandardCharsets.UTF_8).split(",")[0], "2 lines");
+        } finally {
+            Files.delete(input);
+            Files.delete(output);
+        }
+    }
+
+    @Test
+    public void testMain_Usage() {
+        var err = new ByteArrayOutputStream();
+        var stream = new PrintStream(err, true, StandardCharsets.UTF_8);
+
+        assertEquals(ByzCalCli.run(new String[] { "-t", "0", "in", "out" }, stream), 2);
+        assertEquals(ByzCalCli.run(new String[] { "-s", "2048", "in", "out" }, stream), 2);
+        assertEquals(ByzCalCli.run(new String[] { "-s", "257", "in", "out" }, stream), 2);
+        assertEquals(ByzCalCli.run(new String[] { "-p", "d \uFFFD MONTH yyyy", "in", "out" }, stream), 2);
+        assertEquals(ByzCalCli.run(new String[] { "--bogus", "in", "out" }, stream), 2);
+        assertEquals(ByzCalCli.run(new String[] { "in" }, stream), 2);
+        assertEquals(ByzCalCli.run(new String[] { "-q", "/nonexistent/in", "out" }, stream), 1);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal.cli;
+
+import io.github.vb1d41.byzcal.ByzDateFormatter;
+
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * @version 1.3.0
+ */
+public class LineConverterTest {
+
+    @Test
+    public void testCsv() {
+        var converter = LineConverter.csv(1, ByzDateFormatter.NUMERIC);
+
+        assertConvert(converter, """
+            id,date,comment
+            1,2023-04-16,"a, b"
+            2,"2023-04-17",c\r
+            3,2023-02-29,invalid
+            4,1582-10-14,too early
+            5,1582-10-15
+            """, """
+            id,date,comment
+            1,7531-08-03,"a, b"
+            2,"7531-08-04",c\r
+            3,2023-02-29,invalid
+            4,1582-10-14,too early
+            5,7091-02-05
+            """, 6, 3);
+    }
+
+    @Test
+    public void testCsv_QuotedComma() {
+        var converter = LineConverter.csv(2, ByzDateFormatter.TEXTUAL);
+
+        assertConvert(converter, "\"x, y\",1,2024-02-29", "\"x, y\",1,FEBRUARY 16, 7532", 1, 1);
+    }
+
+    @Test
+    public void testCsv_NonAsciiPattern() {
+        var converter = LineConverter.csv(1, ByzDateFormatter.ofPattern("d \u2014 MONTH yyyy"));
+
+        assertConvert(converter, "a,2023-04-16\n", "a,3 \u2014 APRIL 7531\n", 1, 1);
+    }
+
+    @Test
+    public void testNdjson() {
+        var converter = LineConverter.ndjson("date", ByzDateFormatter.NUMERIC);
+
+        assertConvert(converter, """
+            {"id": 1, "date": "2023-04-16", "note": "x"}
+            {"id":2,"date":"2023-04-17"}
+            {"id": 3, "date": null}
+            {"id": 4}
+            {"note":"date","date":"2023-04-16"}
+            {"note": "date"}
+            """, """
+            {"id": 1, "date": "7531-08-03", "note": "x"}
+            {"id":2,"date":"7531-08-04"}
+            {"id": 3, "date": null}
+            {"id": 4}
+            {"note":"date","date":"7531-08-03"}
+            {"note": "date"}
+            """, 6, 3);
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals(LineConverter.parse(bytes("2023-04-16"), 0), 2023_04_16);
+        assertEquals(LineConverter.parse(bytes("2024-02-29"), 0), 2024_02_29);
+        assertEquals(LineConverter.parse(bytes("2100-02-29"), 0), -1);
+        assertEquals(LineConverter.parse(bytes("2023-13-01"), 0), -1);
+        assertEquals(LineConverter.parse(bytes("2023-04-00"), 0), -1);
+        assertEquals(LineConverter.parse(bytes("2023/04/16"), 0), -1);
+        assertEquals(LineConverter.parse(bytes("date,x,yz"), 0), -1);
+    }
+
+    private static void assertConvert(LineConverter converter, String input, String expected,
+            long lines, long converted) {
+        byte[] bytes = bytes(input);
+        var chunk = converter.convert(bytes, bytes.length);
+
+        assertEquals(new String(chunk.bytes, 0, chunk.length, StandardCharsets.UTF_8), expected);
+        assertEquals(chunk.lines, lines);
+        assertEquals(chunk.converted, converted);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A snapshot of the metrics of the conversion entry points.
+ *
+ * The instrumentation is off by default. It is turned on with the system
+ * property io.github.vb1d41.byzcal.metrics=true, which is read once; when
+ * off, the entry points do not record anything. When on, every call is
+ * counted with striped counters, and one call in 64 (the system property
+ * io.github.vb1d41.byzcal.eventSampleRate) is committed as a JDK Flight
+ * Recorder event, if the event io.github.vb1d41.byzcal.Conversion is
+ * enabled in the recording.
+ *
+ * A call is a table hit if the date is in the years of the table (see
+ * io.github.vb1d41.byzcal.tableMinYear).
+ *
+ * This class is immutable and thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzCalMetrics {
+
+    static final String ENABLED_PROPERTY = "io.github.vb1d41.byzcal.metrics";
+    static final String SAMPLE_RATE_PROPERTY = "io.github.vb1d41.byzcal.eventSampleRate";
+
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final int SAMPLE_RATE = Math.max(1, Integer.getInteger(SAMPLE_RATE_PROPERTY, 64));
+
+    private static final EntryPoint[] ENTRY_POINTS = EntryPoint.values();
+
+    /**
+     * An instrumented entry point.
+     */
+    public enum EntryPoint {
+        /**
+         * ByzDate.of(int, ByzMonth, int).
+         */
+        OF,
+        /**
+         * ByzDate.fromGregorian.
+         */
+        FROM_GREGORIAN,
+        /**
+         * ByzDate.addDays(int).
+         */
+        ADD_DAYS,
+        /**
+         * ByzDate.addMonths(int).
+         */
+        ADD_MONTHS,
+        /**
+         * ByzDate.addYears(int).
+         */
+        ADD_YEARS
+    }
+
+    // the values by the ordinal of the entry point
+    private final long[] calls;
+    private final long[] totalNanos;
+    private final long[] maxNanos;
+    private final long[] tableHits;
+
+    /**
+     * Checks if the instrumentation is on.
+     *
+     * @return true if the metrics are recorded
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Takes a snapshot of the metrics.
+     *
+     * The counters are read one by one, so a snapshot taken under load is
+     * not atomic.
+     *
+     * @return the snapshot, not null
+     */
+    public static ByzCalMetrics snapshot() {
+        return new ByzCalMetrics();
+    }
+
+    /**
+     * Resets the metrics to zero.
+     */
+    public static void reset() {
+        for (var counters : Registry.COUNTERS)
+            counters.reset();
+    }
+
+    /**
+     * Returns the number of calls of the entry point.
+     *
+     * @param entryPoint the entry point, not null
+     * @return the number of calls
+     */
+    public long calls(EntryPoint entryPoint) {
+        return this.calls[entryPoint.ordinal()];
+    }
+
+    /**
+     * Returns the total latency of the calls of the entry point.
+     *
+     * @param entryPoint the entry point, not null
+     * @return the total latency in nanoseconds
+     */
+    public long totalNanos(EntryPoint entryPoint) {
+        return this.totalNanos[entryPoint.ordinal()];
+    }
+
+    /**
+     * Returns the maximum latency of a call of the entry point.
+     *
+     * @param entryPoint the entry point, not null
+     * @return the maximum latency in nanoseconds
+     */
+    public long maxNanos(EntryPoint entryPoint) {
+        return this.maxNanos[entryPoint.ordinal()];
+    }
+
+    /**
+     * Returns the number of calls of the entry point served from the table.
+     *
+     * @param entryPoint the entry point, not null
+     * @return the number of table hits
+     */
+    public long tableHits(EntryPoint entryPoint) {
+        return this.tableHits[entryPoint.ordinal()];
+    }
+
+    /**
+     * Returns the share of the calls of the entry point served from the table.
+     *
+     * @param entryPoint the entry point, not null
+     * @return the share, from 0 to 1, or 0 if there were no calls
+     */
+    public double tableHitRatio(EntryPoint entryPoint) {
+        long calls = calls(entryPoint);
+        return calls == 0 ? 0 : (double) tableHits(entryPoint) / calls;
+    }
+
+    /**
+     * Returns a string representation of this snapshot.
+     *
+     * For example, OF: calls=10, totalNanos=2000, maxNanos=400, tableHits=10.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        var builder = new StringBuilder();
+        for (var entryPoint : ENTRY_POINTS) {
+            if (!builder.isEmpty())
+                builder.append("; ");
+            builder.append(entryPoint)
+                .append(": calls=").append(calls(entryPoint))
+                .append(", totalNanos=").append(totalNanos(entryPoint))
+                .append(", maxNanos=").append(maxNanos(entryPoint))
+                .append(", tableHits=").append(tableHits(entryPoint));
+        }
+        return builder.toString();
+    }
+
+    // the start time of a call, or 0 if the instrumentation is off
+    static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    // records the call that started at startNanos, and returns its date
+    static ByzDate stop(EntryPoint entryPoint, long startNanos, ByzDate date) {
+        if (ENABLED)
+            record(entryPoint, startNanos, date);
+        return date;
+    }
+
+    private static void record(EntryPoint entryPoint, long startNanos, ByzDate date) {
+        long nanos = System.nanoTime() - startNanos;
+        boolean tableHit = ByzYearTable.isInTable(date.year());
+
+        Registry.COUNTERS[entryPoint.ordinal()].add(nanos, tableHit);
+
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0) {
+            var event = new ByzConversionEvent();
+            if (event.isEnabled()) {
+                event.entryPoint = entryPoint.name();
+                event.year = date.year();
+                event.tableHit = tableHit;
+                event.latency = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    private ByzCalMetrics() {
+        int n = ENTRY_POINTS.length;
+        this.calls = new long[n];
+        this.totalNanos = new long[n];
+        this.maxNanos = new long[n];
+        this.tableHits = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            var counters = Registry.COUNTERS[i];
+            this.calls[i] = counters.calls.sum();
+            this.totalNanos[i] = counters.totalNanos.sum();
+            this.maxNanos[i] = counters.maxNanos.get();
+            this.tableHits[i] = counters.tableHits.sum();
+        }
+    }
+
+    // the holder of the counters, initialized on first use, so that the
+    // entry points do not load them when the instrumentation is off
+    private static final class Registry {
+
+        static final Counters[] COUNTERS = new Counters[ENTRY_POINTS.length];
+
+        static {
+            for (int i = 0; i < COUNTERS.length; i++)
+                COUNTERS[i] = new Counters();
+        }
+    }
+
+    // the striped counters of an entry point
+    private static final class Counters {
+
+        final LongAdder calls = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder tableHits = new LongAdder();
+
+        void add(long nanos, boolean tableHit) {
+            this.calls.increment();
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+            if (tableHit)
+                this.tableHits.increment();
+        }
+
+        void reset() {
+            this.calls.reset();
+            this.totalNanos.reset();
+            this.maxNanos.reset();
+            this.tableHits.reset();
+        }
+    }
+}
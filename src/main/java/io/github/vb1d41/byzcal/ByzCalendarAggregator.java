@@ -0,0 +1,423 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Counts and sums of events by the Byzantine year, month, day of the week
+ * or indiction.
+ *
+ * The events are epoch days or instants (milliseconds from the Epoch),
+ * added one at a time or in arrays, optionally with a value which is
+ * summed. No instance of ByzDate is created per event: the date is decoded
+ * only when an event falls outside the year or month of the previous one,
+ * which is rare for a stream of timestamps. The memory is bounded by the
+ * number of buckets, the years from the first to the last year seen.
+ *
+ * An aggregator is meant for one worker; the aggregators of parallel
+ * workers are combined with {@link #merge(ByzCalendarAggregator)}.
+ *
+ * This class is not thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzCalendarAggregator {
+
+    private static final int MIN_BUCKETS = 16;
+
+    /**
+     * The field of the date which selects the bucket of an event.
+     */
+    public enum Field {
+        /**
+         * The Byzantine year; the bucket is the year.
+         */
+        YEAR,
+        /**
+         * The month of a Byzantine year; the bucket is the year times 12
+         * plus the ordinal of ByzMonth (September is 0).
+         */
+        MONTH,
+        /**
+         * The day of the week; the bucket is the ordinal of ByzDayOfWeek
+         * (Lordsday is 0).
+         */
+        DAY_OF_WEEK,
+        /**
+         * The indiction; the bucket is the indiction, from 1 to 15.
+         */
+        INDICTION;
+
+        /**
+         * Returns the bucket of the date.
+         *
+         * @param date the Byzantine date, not null
+         * @return the bucket
+         */
+        public int bucketOf(ByzDate date) {
+            assert date != null;
+
+            return switch (this) {
+                case YEAR -> date.year();
+                case MONTH -> date.year() * 12 + date.month().ordinal();
+                case DAY_OF_WEEK -> date.dayOfWeek().ordinal();
+                case INDICTION -> date.indiction();
+            };
+        }
+    }
+
+    /**
+     * An action on a bucket and its totals.
+     */
+    @FunctionalInterface
+    public interface BucketConsumer {
+        /**
+         * Performs the action.
+         *
+         * @param bucket the bucket, see {@link Field}
+         * @param count the number of events
+         * @param sum the sum of the values of the events
+         */
+        void accept(int bucket, long count, long sum);
+    }
+
+    private final Field field;
+    private final ByzZoneConverter converter;
+
+    // the totals of the buckets from base (inclusive) to base + length
+    private long[] counts;
+    private long[] sums;
+    private int base;
+
+    // the bucket of the epoch days from runStart (inclusive) to runEnd
+    private long runStart;
+    private long runEnd;
+    private int runBucket;
+
+    /**
+     * Creates an aggregator which takes the dates of instants in UTC.
+     *
+     * @param field the field which selects the buckets, not null
+     * @return the aggregator, not null
+     */
+    public static ByzCalendarAggregator of(Field field) {
+        return of(field, ZoneOffset.UTC);
+    }
+
+    /**
+     * Creates an aggregator which takes the dates of instants in the time
+     * zone.
+     *
+     * @param field the field which selects the buckets, not null
+     * @param zone the time zone of the instants, not null
+     * @return the aggregator, not null
+     */
+    public static ByzCalendarAggregator of(Field field, ZoneId zone) {
+        assert field != null;
+
+        return new ByzCalendarAggregator(field, ByzZoneConverter.of(zone));
+    }
+
+    /**
+     * Returns the field of this aggregator.
+     *
+     * @return the field, not null
+     */
+    public Field field() {
+        return this.field;
+    }
+
+    /**
+     * Returns the time zone of the instants.
+     *
+     * @return the time zone, not null
+     */
+    public ZoneId zone() {
+        return this.converter.zone();
+    }
+
+    /**
+     * Adds an event on the epoch day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian)
+     */
+    public void addEpochDay(long epochDay) {
+        int slot = slot(bucket(epochDay));
+        this.counts[slot]++;
+    }
+
+    /**
+     * Adds an event with the value on the epoch day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian)
+     * @param value the value of the event
+     */
+    public void addEpochDay(long epochDay, long value) {
+        int slot = slot(bucket(epochDay));
+        this.counts[slot]++;
+        this.sums[slot] += value;
+    }
+
+    /**
+     * Adds an event at the instant.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00:00Z
+     */
+    public void addEpochMilli(long epochMilli) {
+        addEpochDay(this.converter.toEpochDay(epochMilli));
+    }
+
+    /**
+     * Adds an event with the value at the instant.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00:00Z
+     * @param value the value of the event
+     */
+    public void addEpochMilli(long epochMilli, long value) {
+        addEpochDay(this.converter.toEpochDay(epochMilli), value);
+    }
+
+    /**
+     * Adds an event on each of the epoch days.
+     *
+     * @param epochDays the epoch days, not null
+     */
+    public void addEpochDays(long[] epochDays) {
+        assert epochDays != null;
+
+        for (long epochDay : epochDays)
+            addEpochDay(epochDay);
+    }
+
+    /**
+     * Adds the events with the values on the epoch days.
+     *
+     * @param epochDays the epoch days, not null
+     * @param values the values of the events, not null
+     */
+    public void addEpochDays(long[] epochDays, long[] values) {
+        assert epochDays != null && values != null;
+        assert values.length >= epochDays.length;
+
+        for (int i = 0; i < epochDays.length; i++)
+            addEpochDay(epochDays[i], values[i]);
+    }
+
+    /**
+     * Adds an event at each of the instants.
+     *
+     * @param epochMillis the milliseconds from 1970-01-01T00:00:00Z, not null
+     */
+    public void addEpochMillis(long[] epochMillis) {
+        assert epochMillis != null;
+
+        for (long epochMilli : epochMillis)
+            addEpochDay(this.converter.toEpochDay(epochMilli));
+    }
+
+    /**
+     * Adds the events with the values at the instants.
+     *
+     * @param epochMillis the milliseconds from 1970-01-01T00:00:00Z, not null
+     * @param values the values of the events, not null
+     */
+    public void addEpochMillis(long[] epochMillis, long[] values) {
+        assert epochMillis != null && values != null;
+        assert values.length >= epochMillis.length;
+
+        for (int i = 0; i < epochMillis.length; i++)
+            addEpochDay(this.converter.toEpochDay(epochMillis[i]), values[i]);
+    }
+
+    /**
+     * Adds the totals of the other aggregator to this aggregator.
+     *
+     * @param other the aggregator with the same field, not null
+     * @return this aggregator, not null
+     */
+    public ByzCalendarAggregator merge(ByzCalendarAggregator other) {
+        assert other != null;
+        assert other.field == this.field;
+
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] == 0)
+                continue;
+            int slot = slot(other.base + i);
+            this.counts[slot] += other.counts[i];
+            this.sums[slot] += other.sums[i];
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of events in the bucket.
+     *
+     * @param bucket the bucket, see {@link Field}
+     * @return the number of events
+     */
+    public long count(int bucket) {
+        int i = bucket - this.base;
+        return i >= 0 && i < this.counts.length ? this.counts[i] : 0;
+    }
+
+    /**
+     * Returns the sum of the values of the events in the bucket.
+     *
+     * @param bucket the bucket, see {@link Field}
+     * @return the sum of the values
+     */
+    public long sum(int bucket) {
+        int i = bucket - this.base;
+        return i >= 0 && i < this.sums.length ? this.sums[i] : 0;
+    }
+
+    /**
+     * Returns the number of events.
+     *
+     * @return the number of events
+     */
+    public long count() {
+        long count = 0;
+        for (long c : this.counts)
+            count += c;
+        return count;
+    }
+
+    /**
+     * Returns the sum of the values of the events.
+     *
+     * @return the sum of the values
+     */
+    public long sum() {
+        long sum = 0;
+        for (long s : this.sums)
+            sum += s;
+        return sum;
+    }
+
+    /**
+     * Performs the action for each bucket with events, in ascending order
+     * of the buckets.
+     *
+     * @param action the action, not null
+     */
+    public void forEach(BucketConsumer action) {
+        assert action != null;
+
+        for (int i = 0; i < this.counts.length; i++) {
+            if (this.counts[i] != 0)
+                action.accept(this.base + i, this.counts[i], this.sums[i]);
+        }
+    }
+
+    /**
+     * Removes all the events from this aggregator.
+     */
+    public void clear() {
+        allocate();
+    }
+
+    /**
+     * Returns a string representation of this aggregator.
+     *
+     * For example, ByzCalendarAggregator[MONTH, UTC, count=1000].
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return "ByzCalendarAggregator[" + this.field + ", " + zone() + ", count=" + count() + "]";
+    }
+
+    // the bucket of the epoch day
+    private int bucket(long epochDay) {
+        if (epochDay >= this.runStart && epochDay < this.runEnd)
+            return this.runBucket;
+        if (this.field == Field.DAY_OF_WEEK)
+            return ByzYearTable.dayOfWeek(epochDay);
+
+        long fields = ByzYearTable.fields(epochDay);
+        int year = ByzYearTable.year(fields);
+        if (this.field == Field.MONTH) {
+            int month = ByzYearTable.month(fields);
+            this.runBucket = year * 12 + month;
+            this.runStart = epochDay - ByzYearTable.dayOfMonth(fields) + 1;
+            this.runEnd = this.runStart + ByzYearTable.lengthOfMonth(year, month);
+        } else {
+            this.runBucket = this.field == Field.YEAR ? year : ByzYearTable.indiction(year);
+            this.runStart = ByzYearTable.yearStart(year);
+            this.runEnd = this.runStart + ByzYearTable.lengthOfYear(year);
+        }
+        return this.runBucket;
+    }
+
+    // the index of the bucket, growing the arrays to cover it
+    private int slot(int bucket) {
+        int i = bucket - this.base;
+        if (i < 0 || i >= this.counts.length) {
+            grow(bucket);
+            i = bucket - this.base;
+        }
+        return i;
+    }
+
+    private void grow(int bucket) {
+        int length = this.counts.length;
+        if (length == 0) {
+            this.base = bucket - MIN_BUCKETS / 2;
+            this.counts = new long[MIN_BUCKETS];
+            this.sums = new long[MIN_BUCKETS];
+            return;
+        }
+
+        int from = Math.min(this.base, bucket);
+        int to = Math.max(this.base + length, bucket + 1);
+        int newLength = Math.max(to - from, 2 * length);
+        if (bucket < this.base)
+            from = to - newLength;
+
+        var counts = new long[newLength];
+        var sums = new long[newLength];
+        System.arraycopy(this.counts, 0, counts, this.base - from, length);
+        System.arraycopy(this.sums, 0, sums, this.base - from, length);
+        this.counts = counts;
+        this.sums = sums;
+        this.base = from;
+    }
+
+    // the buckets of the fields with a few values are allocated at once
+    private void allocate() {
+        this.runStart = 0;
+        this.runEnd = 0;
+        this.base = this.field == Field.INDICTION ? 1 : 0;
+        this.counts = switch (this.field) {
+            case DAY_OF_WEEK -> new long[7];
+            case INDICTION -> new long[15];
+            default -> new long[0];
+        };
+        this.sums = new long[this.counts.length];
+    }
+
+    private ByzCalendarAggregator(Field field, ByzZoneConverter converter) {
+        this.field = field;
+        this.converter = converter;
+        allocate();
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+
+/**
+ * A date in the Byzantine calendar as a java.time ChronoLocalDate.
+ *
+ * The date is kept as an epoch day, so that it plugs into formatters,
+ * adjusters and ChronoUnit.between without conversions. The months are
+ * numbered from 1 (September) to 12 (August); the days of the week have
+ * the ISO values, from 1 (Monday) to 7 (Lordsday).
+ *
+ * This class is immutable and thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzChronoLocalDate implements ChronoLocalDate, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int epochDay;
+
+    /**
+     * Creates a date from the year, month and day of the month.
+     *
+     * @param year the year in the Byzantine calendar
+     * @param month the month, from 1 (September) to 12 (August)
+     * @param dayOfMonth the day of the month
+     * @return the date, not null
+     * @throws DateTimeException if the date is invalid
+     */
+    public static ByzChronoLocalDate of(int year, int month, int dayOfMonth) {
+        return new ByzChronoLocalDate(ByzChronology.checkedEpochDay(year, month, dayOfMonth));
+    }
+
+    /**
+     * Creates a date from a Byzantine date.
+     *
+     * @param date the Byzantine date, not null
+     * @return the date, not null
+     */
+    public static ByzChronoLocalDate of(ByzDate date) {
+        assert date != null;
+
+        return new ByzChronoLocalDate(date.toEpochDay());
+    }
+
+    /**
+     * Creates a date from the epoch day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian)
+     * @return the date, not null
+     * @throws DateTimeException if the epoch day is out of range
+     */
+    public static ByzChronoLocalDate ofEpochDay(long epochDay) {
+        ByzChronology.INSTANCE.range(ChronoField.EPOCH_DAY).checkValidValue(epochDay, ChronoField.EPOCH_DAY);
+
+        return new ByzChronoLocalDate(epochDay);
+    }
+
+    /**
+     * Obtains a date from a temporal object.
+     *
+     * @param temporal the temporal object, not null
+     * @return the date, not null
+     * @throws DateTimeException if the temporal object has no epoch day
+     */
+    public static ByzChronoLocalDate from(TemporalAccessor temporal) {
+        return ByzChronology.INSTANCE.date(temporal);
+    }
+
+    static ByzChronoLocalDate ofYearDay(int year, int dayOfYear) {
+        ByzChronology.INSTANCE.range(ChronoField.YEAR).checkValidValue(year, ChronoField.YEAR);
+        ByzChronology.INSTANCE.range(ChronoField.DAY_OF_YEAR).checkValidValue(dayOfYear, ChronoField.DAY_OF_YEAR);
+
+        if (dayOfYear > ByzYearTable.lengthOfYear(year))
+            throw new DateTimeException("Invalid day of the year %d in the year %d".formatted(dayOfYear, year));
+        return new ByzChronoLocalDate(ByzYearTable.yearStart(year) + dayOfYear - 1);
+    }
+
+    /**
+     * Converts this date to a Byzantine date.
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate toByzDate() {
+        return ByzDate.fromPacked(this.epochDay);
+    }
+
+    @Override
+    public ByzChronology getChronology() {
+        return ByzChronology.INSTANCE;
+    }
+
+    @Override
+    public ByzEra getEra() {
+        return year() >= 1 ? ByzEra.AM : ByzEra.BEFORE_AM;
+    }
+
+    @Override
+    public int lengthOfMonth() {
+        long fields = ByzYearTable.fields(this.epochDay);
+        return ByzYearTable.lengthOfMonth(ByzYearTable.year(fields), ByzYearTable.month(fields));
+    }
+
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField chronoField) {
+            if (!isSupported(chronoField))
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+
+            return switch (chronoField) {
+                case DAY_OF_MONTH -> ValueRange.of(1, lengthOfMonth());
+                case DAY_OF_YEAR -> ValueRange.of(1, lengthOfYear());
+                case ALIGNED_WEEK_OF_MONTH -> ValueRange.of(1, (lengthOfMonth() + 6) / 7);
+                default -> getChronology().range(chronoField);
+            };
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public long getLong(TemporalField field) {
+        if (field instanceof ChronoField chronoField) {
+            long fields = ByzYearTable.fields(this.epochDay);
+            int year = ByzYearTable.year(fields);
+            int month = ByzYearTable.month(fields);
+            int dayOfMonth = ByzYearTable.dayOfMonth(fields);
+            int dayOfYear = (int) (this.epochDay - ByzYearTable.yearStart(year)) + 1;
+
+            return switch (chronoField) {
+                case DAY_OF_WEEK -> Math.floorMod(this.epochDay + 3, 7) + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH -> (dayOfMonth - 1) % 7 + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR -> (dayOfYear - 1) % 7 + 1;
+                case DAY_OF_MONTH -> dayOfMonth;
+                case DAY_OF_YEAR -> dayOfYear;
+                case EPOCH_DAY -> this.epochDay;
+                case ALIGNED_WEEK_OF_MONTH -> (dayOfMonth - 1) / 7 + 1;
+                case ALIGNED_WEEK_OF_YEAR -> (dayOfYear - 1) / 7 + 1;
+                case MONTH_OF_YEAR -> month + 1;
+                case PROLEPTIC_MONTH -> year * 12L + month;
+                case YEAR_OF_ERA -> year >= 1 ? year : 1 - year;
+                case YEAR -> year;
+                case ERA -> year >= 1 ? 1 : 0;
+                default -> throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            };
+        }
+        return field.getFrom(this);
+    }
+
+    @Override
+    public ByzChronoLocalDate with(TemporalAdjuster adjuster) {
+        return (ByzChronoLocalDate) ChronoLocalDate.super.with(adjuster);
+    }
+
+    @Override
+    public ByzChronoLocalDate with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField chronoField) {
+            if (!isSupported(chronoField))
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            getChronology().range(chronoField).checkValidValue(newValue, chronoField);
+
+            int value = (int) newValue;
+            return switch (chronoField) {
+                case DAY_OF_WEEK, ALIGNED_DAY_OF_WEEK_IN_MONTH, ALIGNED_DAY_OF_WEEK_IN_YEAR, EPOCH_DAY ->
+                    plusDays(newValue - getLong(chronoField));
+                case ALIGNED_WEEK_OF_MONTH, ALIGNED_WEEK_OF_YEAR ->
+                    plusDays((newValue - getLong(chronoField)) * 7);
+                case DAY_OF_MONTH -> of(year(), monthValue(), value);
+                case DAY_OF_YEAR -> ofYearDay(year(), value);
+                case MONTH_OF_YEAR -> resolvePrevious(year(), value, dayOfMonth());
+                case PROLEPTIC_MONTH -> plusMonths(newValue - getLong(chronoField));
+                case YEAR_OF_ERA -> resolvePrevious(year() >= 1 ? value : 1 - value, monthValue(), dayOfMonth());
+                case YEAR -> resolvePrevious(value, monthValue(), dayOfMonth());
+                case ERA -> newValue == getLong(chronoField) ? this
+                    : resolvePrevious(1 - year(), monthValue(), dayOfMonth());
+                default -> throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            };
+        }
+        return (ByzChronoLocalDate) ChronoLocalDate.super.with(field, newValue);
+    }
+
+    @Override
+    public ByzChronoLocalDate plus(TemporalAmount amount) {
+        return (ByzChronoLocalDate) ChronoLocalDate.super.plus(amount);
+    }
+
+    @Override
+    public ByzChronoLocalDate plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit chronoUnit) {
+            return switch (chronoUnit) {
+                case DAYS -> plusDays(amountToAdd);
+                case WEEKS -> plusDays(Math.multiplyExact(amountToAdd, 7));
+                case MONTHS -> plusMonths(amountToAdd);
+                case YEARS -> plusMonths(Math.multiplyExact(amountToAdd, 12));
+                case DECADES -> plusMonths(Math.multiplyExact(amountToAdd, 120));
+                case CENTURIES -> plusMonths(Math.multiplyExact(amountToAdd, 1_200));
+                case MILLENNIA -> plusMonths(Math.multiplyExact(amountToAdd, 12_000));
+                case ERAS -> with(ChronoField.ERA, Math.addExact(getLong(ChronoField.ERA), amountToAdd));
+                default -> throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            };
+        }
+        return (ByzChronoLocalDate) ChronoLocalDate.super.plus(amountToAdd, unit);
+    }
+
+    @Override
+    public ByzChronoLocalDate minus(TemporalAmount amount) {
+        return (ByzChronoLocalDate) ChronoLocalDate.super.minus(amount);
+    }
+
+    @Override
+    public ByzChronoLocalDate minus(long amountToSubtract, TemporalUnit unit) {
+        return (ByzChronoLocalDate) ChronoLocalDate.super.minus(amountToSubtract, unit);
+    }
+
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        var end = from(endExclusive);
+        if (unit instanceof ChronoUnit chronoUnit) {
+            return switch (chronoUnit) {
+                case DAYS -> end.epochDay - (long) this.epochDay;
+                case WEEKS -> (end.epochDay - (long) this.epochDay) / 7;
+                case MONTHS -> monthsUntil(end);
+                case YEARS -> monthsUntil(end) / 12;
+                case DECADES -> monthsUntil(end) / 120;
+                case CENTURIES -> monthsUntil(end) / 1_200;
+                case MILLENNIA -> monthsUntil(end) / 12_000;
+                case ERAS -> end.getLong(ChronoField.ERA) - getLong(ChronoField.ERA);
+                default -> throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            };
+        }
+        return unit.between(this, end);
+    }
+
+    @Override
+    public ChronoPeriod until(ChronoLocalDate endDateExclusive) {
+        var end = from(endDateExclusive);
+        long totalMonths = end.getLong(ChronoField.PROLEPTIC_MONTH) - getLong(ChronoField.PROLEPTIC_MONTH);
+        int days = end.dayOfMonth() - dayOfMonth();
+        if (totalMonths > 0 && days < 0) {
+            totalMonths--;
+            days = (int) (end.epochDay - (long) plusMonths(totalMonths).epochDay);
+        } else if (totalMonths < 0 && days > 0) {
+            totalMonths++;
+            days -= end.lengthOfMonth();
+        }
+        return getChronology().period(Math.toIntExact(totalMonths / 12), (int) (totalMonths % 12), days);
+    }
+
+    @Override
+    public long toEpochDay() {
+        return this.epochDay;
+    }
+
+    /**
+     * Checks if this date is equal to the other object.
+     *
+     * @param other the object to check
+     * @return true if the other is the same date
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ByzChronoLocalDate date
+            && this.epochDay == date.epochDay;
+    }
+
+    /**
+     * Returns a hash code for this date.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return getChronology().getId().hashCode() ^ Integer.hashCode(this.epochDay);
+    }
+
+    /**
+     * Returns a string representation of this date.
+     *
+     * For example, Byzantine AM 7531-08-03.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        int month = monthValue();
+        int dayOfMonth = dayOfMonth();
+        return getChronology().getId() + " " + getEra() + " " + getLong(ChronoField.YEAR_OF_ERA)
+            + (month < 10 ? "-0" : "-") + month
+            + (dayOfMonth < 10 ? "-0" : "-") + dayOfMonth;
+    }
+
+    private int year() {
+        return ByzYearTable.year(ByzYearTable.fields(this.epochDay));
+    }
+
+    private int monthValue() {
+        return ByzYearTable.month(ByzYearTable.fields(this.epochDay)) + 1;
+    }
+
+    private int dayOfMonth() {
+        return ByzYearTable.dayOfMonth(ByzYearTable.fields(this.epochDay));
+    }
+
+    private ByzChronoLocalDate plusDays(long days) {
+        return days == 0 ? this : ofEpochDay(Math.addExact(this.epochDay, days));
+    }
+
+    private ByzChronoLocalDate plusMonths(long months) {
+        if (months == 0)
+            return this;
+
+        long monthCount = getLong(ChronoField.PROLEPTIC_MONTH) + months;
+        getChronology().range(ChronoField.PROLEPTIC_MONTH).checkValidValue(monthCount, ChronoField.PROLEPTIC_MONTH);
+
+        return resolvePrevious((int) Math.floorDiv(monthCount, 12),
+            Math.floorMod(monthCount, 12) + 1, dayOfMonth());
+    }
+
+    // the whole months from this date to the end date
+    private long monthsUntil(ByzChronoLocalDate end) {
+        long packed1 = getLong(ChronoField.PROLEPTIC_MONTH) * 32L + dayOfMonth();
+        long packed2 = end.getLong(ChronoField.PROLEPTIC_MONTH) * 32L + end.dayOfMonth();
+        return (packed2 - packed1) / 32;
+    }
+
+    // the date, with the day of the month pinned to the length of the month
+    private static ByzChronoLocalDate resolvePrevious(int year, int month, int dayOfMonth) {
+        ByzChronology.INSTANCE.range(ChronoField.YEAR).checkValidValue(year, ChronoField.YEAR);
+
+        int length = ByzYearTable.lengthOfMonth(year, month - 1);
+        return of(year, month, Math.min(dayOfMonth, length));
+    }
+
+    private ByzChronoLocalDate(long epochDay) {
+        this.epochDay = Math.toIntExact(epochDay);
+    }
+}
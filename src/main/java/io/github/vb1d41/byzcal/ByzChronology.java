@@ -0,0 +1,195 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.chrono.AbstractChronology;
+import java.time.chrono.Era;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.ValueRange;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Byzantine calendar as a java.time chronology.
+ *
+ * The months are numbered from 1 (September) to 12 (August). The
+ * chronology is registered with the ServiceLoader under the ID
+ * "Byzantine", so that Chronology.of("Byzantine") finds it.
+ *
+ * This class is immutable and thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzChronology extends AbstractChronology implements Serializable {
+
+    /**
+     * The singleton instance of the chronology.
+     */
+    public static final ByzChronology INSTANCE = new ByzChronology();
+
+    static final int MIN_YEAR = -999_999;
+    static final int MAX_YEAR = 999_999;
+
+    static final long MIN_EPOCH_DAY = ByzYearTable.yearStart(MIN_YEAR);
+    static final long MAX_EPOCH_DAY = ByzYearTable.yearStart(MAX_YEAR + 1) - 1;
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates an instance of the chronology.
+     *
+     * This constructor is public for the ServiceLoader; use
+     * {@link #INSTANCE} instead.
+     */
+    public ByzChronology() {
+        super();
+    }
+
+    /**
+     * Returns the ID of the chronology.
+     *
+     * @return "Byzantine", not null
+     */
+    @Override
+    public String getId() {
+        return "Byzantine";
+    }
+
+    /**
+     * Returns the calendar type of the chronology.
+     *
+     * @return null, the Byzantine calendar has no CLDR calendar type
+     */
+    @Override
+    public String getCalendarType() {
+        return null;
+    }
+
+    @Override
+    public ByzChronoLocalDate date(Era era, int yearOfEra, int month, int dayOfMonth) {
+        return date(prolepticYear(era, yearOfEra), month, dayOfMonth);
+    }
+
+    @Override
+    public ByzChronoLocalDate date(int prolepticYear, int month, int dayOfMonth) {
+        return ByzChronoLocalDate.of(prolepticYear, month, dayOfMonth);
+    }
+
+    @Override
+    public ByzChronoLocalDate dateYearDay(Era era, int yearOfEra, int dayOfYear) {
+        return dateYearDay(prolepticYear(era, yearOfEra), dayOfYear);
+    }
+
+    @Override
+    public ByzChronoLocalDate dateYearDay(int prolepticYear, int dayOfYear) {
+        return ByzChronoLocalDate.ofYearDay(prolepticYear, dayOfYear);
+    }
+
+    @Override
+    public ByzChronoLocalDate dateEpochDay(long epochDay) {
+        return ByzChronoLocalDate.ofEpochDay(epochDay);
+    }
+
+    @Override
+    public ByzChronoLocalDate dateNow() {
+        return dateNow(Clock.systemDefaultZone());
+    }
+
+    @Override
+    public ByzChronoLocalDate dateNow(ZoneId zone) {
+        return dateNow(Clock.system(zone));
+    }
+
+    @Override
+    public ByzChronoLocalDate dateNow(Clock clock) {
+        return dateEpochDay(LocalDate.now(clock).toEpochDay());
+    }
+
+    @Override
+    public ByzChronoLocalDate date(TemporalAccessor temporal) {
+        if (temporal instanceof ByzChronoLocalDate date)
+            return date;
+        return dateEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+    }
+
+    @Override
+    public ByzChronoLocalDate resolveDate(Map<TemporalField, Long> fieldValues,
+            ResolverStyle resolverStyle) {
+        return (ByzChronoLocalDate) super.resolveDate(fieldValues, resolverStyle);
+    }
+
+    @Override
+    public boolean isLeapYear(long prolepticYear) {
+        return (prolepticYear & 3) == 0;
+    }
+
+    @Override
+    public int prolepticYear(Era era, int yearOfEra) {
+        if (!(era instanceof ByzEra))
+            throw new ClassCastException("Era must be ByzEra");
+        return era == ByzEra.AM ? yearOfEra : 1 - yearOfEra;
+    }
+
+    @Override
+    public ByzEra eraOf(int eraValue) {
+        return ByzEra.of(eraValue);
+    }
+
+    @Override
+    public List<Era> eras() {
+        return List.of(ByzEra.values());
+    }
+
+    @Override
+    public ValueRange range(ChronoField field) {
+        return switch (field) {
+            case DAY_OF_MONTH -> ValueRange.of(1, 28, 31);
+            case DAY_OF_YEAR -> ValueRange.of(1, 365, 366);
+            case ALIGNED_WEEK_OF_MONTH -> ValueRange.of(1, 4, 5);
+            case ALIGNED_WEEK_OF_YEAR -> ValueRange.of(1, 53);
+            case MONTH_OF_YEAR -> ValueRange.of(1, 12);
+            case PROLEPTIC_MONTH -> ValueRange.of(MIN_YEAR * 12L, MAX_YEAR * 12L + 11);
+            case YEAR_OF_ERA -> ValueRange.of(1, MAX_YEAR, 1 - MIN_YEAR);
+            case YEAR -> ValueRange.of(MIN_YEAR, MAX_YEAR);
+            case ERA -> ValueRange.of(0, 1);
+            case EPOCH_DAY -> ValueRange.of(MIN_EPOCH_DAY, MAX_EPOCH_DAY);
+            default -> field.range();
+        };
+    }
+
+    // the epoch day of the valid date
+    static long checkedEpochDay(int year, int month, int dayOfMonth) {
+        INSTANCE.range(ChronoField.YEAR).checkValidValue(year, ChronoField.YEAR);
+        INSTANCE.range(ChronoField.MONTH_OF_YEAR).checkValidValue(month, ChronoField.MONTH_OF_YEAR);
+        INSTANCE.range(ChronoField.DAY_OF_MONTH).checkValidValue(dayOfMonth, ChronoField.DAY_OF_MONTH);
+
+        if (dayOfMonth > ByzYearTable.lengthOfMonth(year, month - 1)) {
+            throw new DateTimeException("Invalid date '%s %d' in the year %d"
+                .formatted(ByzMonth.values()[month - 1], dayOfMonth, year));
+        }
+        return ByzYearTable.toEpochDay(year, month - 1, dayOfMonth);
+    }
+}
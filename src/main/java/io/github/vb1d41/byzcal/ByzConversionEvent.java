@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JDK Flight Recorder event of a sampled call of a conversion.
+ *
+ * The event is disabled by default; enable it in the recording settings
+ * with the name io.github.vb1d41.byzcal.Conversion.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@Name("io.github.vb1d41.byzcal.Conversion")
+@Label("Byzantine Date Conversion")
+@Description("A sampled call of a ByzDate conversion")
+@Category("byzcal")
+@Enabled(false)
+@StackTrace(false)
+final class ByzConversionEvent extends Event {
+
+    @Label("Entry Point")
+    String entryPoint;
+
+    @Label("Year")
+    int year;
+
+    @Label("Table Hit")
+    boolean tableHit;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+}
@@ -16,24 +16,40 @@
 
 package io.github.vb1d41.byzcal;
 
-import java.time.DayOfWeek;
+import io.github.vb1d41.byzcal.ByzCalMetrics.EntryPoint;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.Month;
+import java.time.ZoneId;
+import java.util.stream.Stream;
 
 /**
  * A date in the Byzantine calendar.
  *
  * This class is immutable and thread-safe.
  *
- * @version 1.2.0
+ * @version 1.3.0
  */
-public final class ByzDate implements Comparable<ByzDate> {
+public final class ByzDate implements Comparable<ByzDate>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ByzMonth[] MONTHS = ByzMonth.values();
+    private static final ByzDayOfWeek[] DAYS_OF_WEEK = ByzDayOfWeek.values();
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private static final String[] DOMINICAL_LETTERS = { "A", "B", "C", "D", "E", "F", "G" };
+    private static final String[] LEAP_DOMINICAL_LETTERS = { "AG", "BA", "CB", "DC", "ED", "FE", "GF" };
 
-    private final long milliseconds; // an offset from the Epoch
+    private final int epochDay; // an offset from the Epoch
     private final int year;
-    private final ByzMonth month;
-    private final int dayOfMonth;
-    private final ByzDayOfWeek dayOfWeek;
+    private final byte month; // the ordinal of ByzMonth
+    private final byte dayOfMonth;
 
     /**
      * Creates an instance of ByzDate.
@@ -48,11 +64,9 @@ public final class ByzDate implements Comparable<ByzDate> {
     public static ByzDate of(int year, ByzMonth month, int dayOfMonth) {
         assert month != null;
 
-        var calendar = new JulGreCalendar();
-        calendar.switchToPureJulian();
-        calendar.set(toCalYear(year, month), toCalMonth(month), dayOfMonth);
-
-        return new ByzDate(calendar);
+        long start = ByzCalMetrics.start();
+        var date = new ByzDate(ByzYearTable.toEpochDay(year, month.ordinal(), dayOfMonth));
+        return ByzCalMetrics.stop(EntryPoint.OF, start, date);
     }
 
     /**
@@ -65,7 +79,7 @@ public final class ByzDate implements Comparable<ByzDate> {
     public static ByzDate of(ByzDate source) {
         assert source != null;
 
-        return new ByzDate(source.calendar());
+        return new ByzDate(source.epochDay);
     }
 
     /**
@@ -79,11 +93,9 @@ public final class ByzDate implements Comparable<ByzDate> {
      * @return the Byzantine date, not null
      */
     public static ByzDate fromGregorian(int year, int month, int dayOfMonth) {
-        var calendar = new JulGreCalendar();
-        calendar.set(year, month, dayOfMonth);
-        calendar.switchToPureJulian();
-
-        return new ByzDate(calendar);
+        long start = ByzCalMetrics.start();
+        var date = new ByzDate(JulGreCalendar.hybridToEpochDay(year, month, dayOfMonth));
+        return ByzCalMetrics.stop(EntryPoint.FROM_GREGORIAN, start, date);
     }
 
     /**
@@ -105,6 +117,111 @@ public final class ByzDate implements Comparable<ByzDate> {
         return fromGregorian(year, month, dayOfMonth);
     }
 
+    /**
+     * Creates an instance of ByzDate from the packed representation.
+     *
+     * @param packed the packed date, see {@link #toPacked()}
+     * @return the Byzantine date, not null
+     * @since 1.3.0
+     */
+    public static ByzDate fromPacked(int packed) {
+        return new ByzDate(packed);
+    }
+
+    /**
+     * Creates an instance of ByzDate from the epoch day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian)
+     * @return the Byzantine date, not null
+     * @since 1.3.0
+     */
+    public static ByzDate ofEpochDay(long epochDay) {
+        return new ByzDate(epochDay);
+    }
+
+    /**
+     * Creates an instance of ByzDate from the instant in the time zone.
+     *
+     * @param instant the instant, not null
+     * @param zone the time zone, not null
+     * @return the Byzantine date, not null
+     * @since 1.3.0
+     * @see ByzZoneConverter
+     */
+    public static ByzDate ofInstant(Instant instant, ZoneId zone) {
+        assert instant != null;
+        assert zone != null;
+
+        long offset = zone.getRules().getOffset(instant).getTotalSeconds();
+        return new ByzDate(Math.floorDiv(instant.getEpochSecond() + offset, SECONDS_PER_DAY));
+    }
+
+    /**
+     * Creates an instance of ByzDate from the instant in the time zone.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00:00Z
+     * @param zone the time zone, not null
+     * @return the Byzantine date, not null
+     * @since 1.3.0
+     * @see ByzZoneConverter
+     */
+    public static ByzDate ofEpochMilli(long epochMilli, ZoneId zone) {
+        return ofInstant(Instant.ofEpochMilli(epochMilli), zone);
+    }
+
+    /**
+     * Returns the current date in the default time zone.
+     *
+     * @return the Byzantine date, not null
+     * @since 1.3.0
+     */
+    public static ByzDate now() {
+        return now(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Returns the current date in the time zone.
+     *
+     * @param zone the time zone, not null
+     * @return the Byzantine date, not null
+     * @since 1.3.0
+     */
+    public static ByzDate now(ZoneId zone) {
+        assert zone != null;
+
+        return ByzToday.of(zone).today(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the current date of the clock.
+     *
+     * The date is cached until the next midnight in the time zone of the
+     * clock, so most calls read the clock and compare the time.
+     *
+     * @param clock the clock, not null
+     * @return the Byzantine date, not null
+     * @since 1.3.0
+     */
+    public static ByzDate now(Clock clock) {
+        assert clock != null;
+
+        return ByzToday.of(clock.getZone()).today(clock.millis());
+    }
+
+    /**
+     * Parses the date in the form of {@link #toString()}, for example
+     * APRIL 3, 7531.
+     *
+     * @param text the text, not null
+     * @return the Byzantine date, not null
+     * @throws java.time.format.DateTimeParseException if the text is not a valid date
+     * @since 1.3.0
+     * @see ByzDateFormatter#TEXTUAL
+     */
+    public static ByzDate parse(CharSequence text) {
+        return ByzDateFormatter.TEXTUAL.parse(text);
+    }
+
     /**
      * Returns the year of this date.
      *
@@ -120,7 +237,7 @@ public final class ByzDate implements Comparable<ByzDate> {
      * @return the Byzantine month, not null
      */
     public ByzMonth month() {
-        return this.month;
+        return MONTHS[this.month];
     }
 
     /**
@@ -138,7 +255,108 @@ public final class ByzDate implements Comparable<ByzDate> {
      * @return the Byzantine day of the week, not null
      */
     public ByzDayOfWeek dayOfWeek() {
-        return this.dayOfWeek;
+        return dayOfWeekOf(this.epochDay);
+    }
+
+    /**
+     * Returns the day of the year of this date.
+     *
+     * @return the day of the year, from 1 (September 1) to 366
+     * @since 1.3.0
+     */
+    public int dayOfYear() {
+        return ByzYearTable.dayOfYear(this.epochDay, this.year);
+    }
+
+    /**
+     * Returns the week of the year of this date.
+     *
+     * The weeks are counted from September 1, the first week has the
+     * days 1 to 7 of the year.
+     *
+     * @return the week of the year, from 1 to 53
+     * @since 1.3.0
+     */
+    public int weekOfYear() {
+        return ByzYearTable.weekOfYear(dayOfYear());
+    }
+
+    /**
+     * Returns the indiction of the year of this date.
+     *
+     * @return the indiction, from 1 to 15
+     * @since 1.3.0
+     */
+    public int indiction() {
+        return ByzYearTable.indiction(this.year);
+    }
+
+    /**
+     * Returns the circle of the sun, the year of the 28-year solar cycle.
+     *
+     * @return the circle of the sun, from 1 to 28
+     * @since 1.3.0
+     */
+    public int solarCycle() {
+        return ByzYearTable.solarCycle(this.year);
+    }
+
+    /**
+     * Returns the circle of the moon, the year of the 19-year lunar cycle.
+     *
+     * @return the circle of the moon, from 1 to 19
+     * @since 1.3.0
+     */
+    public int lunarCycle() {
+        return ByzYearTable.lunarCycle(this.year);
+    }
+
+    /**
+     * Returns the Golden Number of the year of this date, which is the
+     * circle of the moon plus 3.
+     *
+     * @return the Golden Number, from 1 to 19
+     * @since 1.3.0
+     */
+    public int goldenNumber() {
+        return ByzYearTable.goldenNumber(this.year);
+    }
+
+    /**
+     * Returns the dominical (church) letters of the year of this date.
+     *
+     * The letter is the letter (A to G) of the first Sunday of January. A
+     * leap year has two letters, the second one for the days from March.
+     *
+     * @return the letters, for example B or AG, not null
+     * @since 1.3.0
+     */
+    public String dominicalLetters() {
+        int letter = ByzYearTable.dominicalLetter(this.year);
+        return ByzYearTable.isLeapYear(this.year) ? LEAP_DOMINICAL_LETTERS[letter] : DOMINICAL_LETTERS[letter];
+    }
+
+    /**
+     * Returns the packed representation of this date.
+     *
+     * The packed date is the number of days from January 1, 1970
+     * (Gregorian). Packed dates compare in the same order as the dates.
+     *
+     * @return the packed date
+     * @since 1.3.0
+     */
+    public int toPacked() {
+        return this.epochDay;
+    }
+
+    /**
+     * Returns the epoch day of this date.
+     *
+     * @return the number of days from January 1, 1970 (Gregorian)
+     * @since 1.3.0
+     */
+    public long toEpochDay() {
+        return this.epochDay;
     }
 
     /**
@@ -148,7 +366,8 @@ public final class ByzDate implements Comparable<ByzDate> {
      * @return the Byzantine date, not null
      */
     public ByzDate addYears(int years) {
-        return new ByzDate(calendar().addYears(years));
+        long start = ByzCalMetrics.start();
+        return ByzCalMetrics.stop(EntryPoint.ADD_YEARS, start, plusMonths(years * 12L));
     }
 
     /**
@@ -158,7 +377,8 @@ public final class ByzDate implements Comparable<ByzDate> {
      * @return the Byzantine date, not null
      */
     public ByzDate addMonths(int months) {
-        return new ByzDate(calendar().addMonths(months));
+        long start = ByzCalMetrics.start();
+        return ByzCalMetrics.stop(EntryPoint.ADD_MONTHS, start, plusMonths(months));
     }
 
     /**
@@ -168,7 +388,83 @@ public final class ByzDate implements Comparable<ByzDate> {
      * @return the Byzantine date, not null
      */
     public ByzDate addDays(int days) {
-        return new ByzDate(calendar().addDays(days));
+        long start = ByzCalMetrics.start();
+        return ByzCalMetrics.stop(EntryPoint.ADD_DAYS, start, new ByzDate((long) this.epochDay + days));
+    }
+
+    /**
+     * Returns the number of days from this date to the end date.
+     *
+     * @param endExclusive the end date, not null
+     * @return the number of days, negative if the end date is before this date
+     * @since 1.3.0
+     */
+    public long daysUntil(ByzDate endExclusive) {
+        assert endExclusive != null;
+
+        return (long) endExclusive.epochDay - this.epochDay;
+    }
+
+    /**
+     * Returns the number of whole months from this date to the end date.
+     *
+     * A month is whole when the day of the month of the end date is not
+     * before that of this date; for example, there is no whole month from
+     * JANUARY 31 to FEBRUARY 28.
+     *
+     * @param endExclusive the end date, not null
+     * @return the number of months, negative if the end date is before this date
+     * @since 1.3.0
+     */
+    public long monthsUntil(ByzDate endExclusive) {
+        assert endExclusive != null;
+
+        long packed1 = prolepticMonth() * 32 + this.dayOfMonth;
+        long packed2 = endExclusive.prolepticMonth() * 32 + endExclusive.dayOfMonth;
+        return (packed2 - packed1) / 32;
+    }
+
+    /**
+     * Returns the number of whole years from this date to the end date.
+     *
+     * @param endExclusive the end date, not null
+     * @return the number of years, negative if the end date is before this date
+     * @since 1.3.0
+     */
+    public long yearsUntil(ByzDate endExclusive) {
+        return monthsUntil(endExclusive) / 12;
+    }
+
+    /**
+     * Returns a sequential ordered stream of the dates from this date
+     * (inclusive) to the end date (exclusive).
+     *
+     * The stream splits evenly when run in parallel.
+     *
+     * @param endExclusive the end date, not before this date, not null
+     * @return the stream of the dates, not null
+     * @throws IllegalArgumentException if the end date is before this date
+     * @since 1.3.0
+     */
+    public Stream<ByzDate> datesUntil(ByzDate endExclusive) {
+        return ByzDateRange.of(this, endExclusive).stream();
+    }
+
+    /**
+     * Returns a sequential ordered stream of the dates from this date
+     * (inclusive) to the end date (exclusive), with the step in days.
+     *
+     * The stream splits evenly when run in parallel.
+     *
+     * @param endExclusive the end date, not before this date, not null
+     * @param step the number of days between the dates, positive
+     * @return the stream of the dates, not null
+     * @throws IllegalArgumentException if the end date is before this date,
+     *         or the step is not positive
+     * @since 1.3.0
+     */
+    public Stream<ByzDate> datesUntil(ByzDate endExclusive, int step) {
+        return ByzDateRange.of(this, endExclusive).stream(step);
     }
 
     /**
@@ -180,7 +476,7 @@ public final class ByzDate implements Comparable<ByzDate> {
     public boolean isEqual(ByzDate other) {
         assert other != null;
 
-        return this.milliseconds == other.milliseconds;
+        return this.epochDay == other.epochDay;
     }
 
     /**
@@ -192,7 +488,7 @@ public final class ByzDate implements Comparable<ByzDate> {
     public boolean isBefore(ByzDate other) {
         assert other != null;
 
-        return this.milliseconds < other.milliseconds;
+        return this.epochDay < other.epochDay;
     }
 
     /**
@@ -204,7 +500,7 @@ public final class ByzDate implements Comparable<ByzDate> {
     public boolean isAfter(ByzDate other) {
         assert other != null;
 
-        return this.milliseconds > other.milliseconds;
+        return this.epochDay > other.epochDay;
     }
 
     /**
@@ -244,7 +540,7 @@ public final class ByzDate implements Comparable<ByzDate> {
      */
     @Override
     public int hashCode() {
-        return Long.hashCode(this.milliseconds);
+        return Integer.hashCode(this.epochDay);
     }
 
     /**
@@ -256,58 +552,66 @@ public final class ByzDate implements Comparable<ByzDate> {
      */
     @Override
     public String toString() {
-        return "%s %d, %d".formatted(month(), dayOfMonth(), year());
+        return ByzDateFormatter.TEXTUAL.format(this);
     }
 
-    private static int toByzYear(int calYear, Month calMonth) {
-        return calYear + switch (calMonth) {
-            case JANUARY, FEBRUARY, MARCH, APRIL, MAY, JUNE, JULY, AUGUST -> 5508;
-            case SEPTEMBER, OCTOBER, NOVEMBER, DECEMBER -> 5509;
-        };
+    static int yearOf(int packed) {
+        return ByzYearTable.year(ByzYearTable.fields(packed));
     }
 
-    private static int toCalYear(int byzYear, ByzMonth byzMonth) {
-        return byzYear - switch (byzMonth) {
-            case SEPTEMBER, OCTOBER, NOVEMBER, DECEMBER -> 5509;
-            case JANUARY, FEBRUARY, MARCH, APRIL, MAY, JUNE, JULY, AUGUST -> 5508;
-        };
+    // the date of the decoded fields, the month is the ordinal of ByzMonth
+    static ByzDate ofFields(int packed, int year, int month, int dayOfMonth) {
+        return new ByzDate(packed, year, month, dayOfMonth);
     }
 
-    private static ByzMonth toByzMonth(Month calMonth) {
-        var monthName = calMonth.toString();
-        return ByzMonth.valueOf(monthName);
+    static ByzMonth monthOf(int packed) {
+        return MONTHS[ByzYearTable.month(ByzYearTable.fields(packed))];
     }
 
-    private static Month toCalMonth(ByzMonth byzMonth) {
-        var monthName = byzMonth.toString();
-        return Month.valueOf(monthName);
+    static int dayOfMonthOf(int packed) {
+        return ByzYearTable.dayOfMonth(ByzYearTable.fields(packed));
     }
 
-    private static ByzDayOfWeek toByzDayOfWeek(DayOfWeek calDayOfWeek) {
-        return switch (calDayOfWeek) {
-            case SUNDAY -> ByzDayOfWeek.LORDSDAY;
-            case MONDAY -> ByzDayOfWeek.SECOND;
-            case TUESDAY -> ByzDayOfWeek.THIRD;
-            case WEDNESDAY -> ByzDayOfWeek.FOURTH;
-            case THURSDAY -> ByzDayOfWeek.FIFTH;
-            case FRIDAY -> ByzDayOfWeek.PREPARATION;
-            case SATURDAY -> ByzDayOfWeek.SABBATH;
-        };
+    static ByzDayOfWeek dayOfWeekOf(int packed) {
+        return DAYS_OF_WEEK[ByzYearTable.dayOfWeek(packed)];
     }
 
-    private ByzDate(JulGreCalendar calendar) {
-        this.milliseconds = calendar.milliseconds();
-        this.year = toByzYear(calendar.year(), calendar.month());
-        this.month = toByzMonth(calendar.month());
-        this.dayOfMonth = calendar.dayOfMonth();
-        this.dayOfWeek = toByzDayOfWeek(calendar.dayOfWeek());
+    private Object writeReplace() {
+        return new ByzDateProxy(this.epochDay);
     }
 
-    private JulGreCalendar calendar() {
-        var calendar = new JulGreCalendar();
-        calendar.switchToPureJulian();
-        calendar.set(this.milliseconds);
-        return calendar;
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("ByzDate is deserialized from ByzDateProxy");
     }
-}
 
+    // the number of months from September of year 0
+    long prolepticMonth() {
+        return this.year * 12L + this.month;
+    }
+
+    private ByzDate plusMonths(long months) {
+        long monthCount = prolepticMonth() + months;
+        int year = Math.toIntExact(Math.floorDiv(monthCount, 12));
+        int month = Math.floorMod(monthCount, 12);
+        int dayOfMonth = Math.min(this.dayOfMonth, ByzYearTable.lengthOfMonth(year, month));
+
+        return new ByzDate(ByzYearTable.toEpochDay(year, month, dayOfMonth));
+    }
+
+    private ByzDate(long epochDay) {
+        long fields = ByzYearTable.fields(epochDay);
+
+        this.epochDay = Math.toIntExact(epochDay);
+        this.year = ByzYearTable.year(fields);
+        this.month = (byte) ByzYearTable.month(fields);
+        this.dayOfMonth = (byte) ByzYearTable.dayOfMonth(fields);
+    }
+
+    // the fields must be those of the epoch day
+    private ByzDate(int epochDay, int year, int month, int dayOfMonth) {
+        this.epochDay = epochDay;
+        this.year = year;
+        this.month = (byte) month;
+        this.dayOfMonth = (byte) dayOfMonth;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A growable column of Byzantine dates.
+ *
+ * The dates are kept in packed form (see {@link ByzDate#toPacked()}), four
+ * bytes per date. The fields of a date can be read without creating an
+ * instance of ByzDate.
+ *
+ * This class is not thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzDateArray {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] packed;
+    private int size;
+
+    /**
+     * Creates an empty column.
+     */
+    public ByzDateArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty column with the initial capacity.
+     *
+     * @param capacity the initial capacity, not negative
+     */
+    public ByzDateArray(int capacity) {
+        assert capacity >= 0;
+
+        this.packed = new int[capacity];
+    }
+
+    /**
+     * Creates a column of the packed dates.
+     *
+     * @param packed the packed dates, not null
+     * @return the column, not null
+     */
+    public static ByzDateArray ofPacked(int... packed) {
+        assert packed != null;
+
+        var array = new ByzDateArray(0);
+        array.packed = packed.clone();
+        array.size = packed.length;
+        return array;
+    }
+
+    /**
+     * Returns the number of dates in this column.
+     *
+     * @return the number of dates
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Appends the date to this column.
+     *
+     * @param date the Byzantine date, not null
+     */
+    public void add(ByzDate date) {
+        assert date != null;
+
+        addPacked(date.toPacked());
+    }
+
+    /**
+     * Appends the packed date to this column.
+     *
+     * @param packed the packed date
+     */
+    public void addPacked(int packed) {
+        if (this.size == this.packed.length)
+            this.packed = Arrays.copyOf(this.packed, Math.max(DEFAULT_CAPACITY, this.size * 2));
+        this.packed[this.size++] = packed;
+    }
+
+    /**
+     * Returns the date at the index.
+     *
+     * @param index the index, from 0 to size() - 1
+     * @return the Byzantine date, not null
+     */
+    public ByzDate get(int index) {
+        return ByzDate.fromPacked(getPacked(index));
+    }
+
+    /**
+     * Returns the packed date at the index.
+     *
+     * @param index the index, from 0 to size() - 1
+     * @return the packed date
+     */
+    public int getPacked(int index) {
+        return this.packed[checkIndex(index)];
+    }
+
+    /**
+     * Replaces the date at the index.
+     *
+     * @param index the index, from 0 to size() - 1
+     * @param date the Byzantine date, not null
+     */
+    public void set(int index, ByzDate date) {
+        assert date != null;
+
+        setPacked(index, date.toPacked());
+    }
+
+    /**
+     * Replaces the packed date at the index.
+     *
+     * @param index the index, from 0 to size() - 1
+     * @param packed the packed date
+     */
+    public void setPacked(int index, int packed) {
+        this.packed[checkIndex(index)] = packed;
+    }
+
+    /**
+     * Returns the year of the date at the index.
+     *
+     * @param index the index, from 0 to size() - 1
+     * @return the year in the Byzantine calendar
+     */
+    public int year(int index) {
+        return ByzDate.yearOf(getPacked(index));
+    }
+
+    /**
+     * Returns the month of the date at the index.
+     *
+     * @param index the index, from 0 to size() - 1
+     * @return the Byzantine month, not null
+     */
+    public ByzMonth month(int index) {
+        return ByzDate.monthOf(getPacked(index));
+    }
+
+    /**
+     * Returns the day of the month of the date at the index.
+     *
+     * @param index the index, from 0 to size() - 1
+     * @return the day of the month
+     */
+    public int dayOfMonth(int index) {
+        return ByzDate.dayOfMonthOf(getPacked(index));
+    }
+
+    /**
+     * Returns the day of the week of the date at the index.
+     *
+     * @param index the index, from 0 to size() - 1
+     * @return the Byzantine day of the week, not null
+     */
+    public ByzDayOfWeek dayOfWeek(int index) {
+        return ByzDate.dayOfWeekOf(getPacked(index));
+    }
+
+    /**
+     * Sorts the dates of this column in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(this.packed, 0, this.size);
+    }
+
+    /**
+     * Searches the sorted column for the date.
+     *
+     * @param date the Byzantine date, not null
+     * @return the index of the date, or (-(insertion point) - 1) if not found
+     * @see Arrays#binarySearch(int[], int)
+     */
+    public int binarySearch(ByzDate date) {
+        assert date != null;
+
+        return binarySearchPacked(date.toPacked());
+    }
+
+    /**
+     * Searches the sorted column for the packed date.
+     *
+     * @param packed the packed date
+     * @return the index of the date, or (-(insertion point) - 1) if not found
+     * @see Arrays#binarySearch(int[], int)
+     */
+    public int binarySearchPacked(int packed) {
+        return Arrays.binarySearch(this.packed, 0, this.size, packed);
+    }
+
+    /**
+     * Returns the packed dates of this column.
+     *
+     * @return a new array of the packed dates, not null
+     */
+    public int[] toPackedArray() {
+        return Arrays.copyOf(this.packed, this.size);
+    }
+
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, this.size);
+    }
+}
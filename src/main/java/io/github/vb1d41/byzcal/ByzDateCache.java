@@ -0,0 +1,285 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of Byzantine dates.
+ *
+ * The cache returns one shared instance of ByzDate for the same fields, so
+ * repeated conversions of the same dates do not compute or allocate. The
+ * dates are keyed by the Byzantine fields (see {@link #of(int, ByzMonth, int)})
+ * or the Gregorian fields (see {@link #fromGregorian(int, int, int)}). A day
+ * of the month out of 1 to 31 is not cached.
+ *
+ * The slots are read and replaced without locks; a slot holds an immutable
+ * entry, so a thread sees either the old or the new entry. Two threads may
+ * both miss the same date and create two instances, one of which is kept.
+ * A hit in the most recently used slot does not write. A hit in the other
+ * slot of a set swaps the two slots with compare-and-set, so concurrent
+ * hits do not duplicate an entry; a lookup racing with the swap may still
+ * miss and replace an entry, which costs a hit but not a wrong date.
+ *
+ * This class is thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzDateCache {
+
+    private static final int MIN_CAPACITY = 2;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // the kinds of keys
+    private static final int BYZANTINE = 0;
+    private static final int GREGORIAN = 1;
+
+    // the fields which are not cached
+    private static final long NO_KEY = -1;
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Entry[].class);
+
+    /**
+     * The policy which decides the entry replaced on a miss.
+     */
+    public enum Eviction {
+        /**
+         * Every key has one slot, a miss replaces the entry of the slot.
+         * The cheapest policy, for a working set well under the capacity.
+         */
+        DIRECT_MAPPED,
+        /**
+         * Every key has a set of two slots, a miss replaces the least
+         * recently used entry of the set. Fewer misses when keys collide.
+         */
+        TWO_WAY_LRU
+    }
+
+    private final Entry[] entries;
+    private final int mask; // of the index of the set
+    private final Eviction eviction;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache with the two-way LRU eviction.
+     *
+     * @param capacity the maximum number of dates, rounded up to a power of two
+     * @return the cache, not null
+     */
+    public static ByzDateCache of(int capacity) {
+        return of(capacity, Eviction.TWO_WAY_LRU);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity the maximum number of dates, rounded up to a power of two
+     * @param eviction the eviction policy, not null
+     * @return the cache, not null
+     */
+    public static ByzDateCache of(int capacity, Eviction eviction) {
+        assert capacity > 0 && capacity <= MAX_CAPACITY;
+        assert eviction != null;
+
+        return new ByzDateCache(capacity, eviction);
+    }
+
+    /**
+     * Returns the cached date of the Byzantine fields.
+     *
+     * @param year the year in the Byzantine calendar
+     * @param month the Byzantine month, not null
+     * @param dayOfMonth the day of the month
+     * @return the Byzantine date, not null
+     * @see ByzDate#of(int, ByzMonth, int)
+     */
+    public ByzDate of(int year, ByzMonth month, int dayOfMonth) {
+        assert month != null;
+
+        long key = key(BYZANTINE, year, month.ordinal(), dayOfMonth);
+        if (key == NO_KEY)
+            return ByzDate.of(year, month, dayOfMonth);
+
+        var date = get(key);
+        if (date == null)
+            date = put(key, ByzDate.of(year, month, dayOfMonth));
+        return date;
+    }
+
+    /**
+     * Returns the cached date of the Gregorian fields.
+     *
+     * @param year the year in the Gregorian calendar
+     * @param month the month, from 1 (Jan) to 12 (Dec)
+     * @param dayOfMonth the day of the month
+     * @return the Byzantine date, not null
+     * @see ByzDate#fromGregorian(int, int, int)
+     */
+    public ByzDate fromGregorian(int year, int month, int dayOfMonth) {
+        long key = key(GREGORIAN, year, month, dayOfMonth);
+        if (key == NO_KEY)
+            return ByzDate.fromGregorian(year, month, dayOfMonth);
+
+        var date = get(key);
+        if (date == null)
+            date = put(key, ByzDate.fromGregorian(year, month, dayOfMonth));
+        return date;
+    }
+
+    /**
+     * Returns the maximum number of dates in this cache.
+     *
+     * @return the capacity, a power of two
+     */
+    public int capacity() {
+        return this.entries.length;
+    }
+
+    /**
+     * Returns the eviction policy of this cache.
+     *
+     * @return the eviction policy, not null
+     */
+    public Eviction eviction() {
+        return this.eviction;
+    }
+
+    /**
+     * Returns the number of lookups which found the date.
+     *
+     * @return the number of hits
+     */
+    public long hitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups which did not find the date.
+     *
+     * @return the number of misses
+     */
+    public long missCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the ratio of the hits to the lookups.
+     *
+     * @return the ratio from 0 to 1, or 0 if there were no lookups
+     */
+    public double hitRatio() {
+        long hitCount = hitCount();
+        long lookups = hitCount + missCount();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * Removes the dates and resets the hit and miss counts.
+     */
+    public void clear() {
+        for (int i = 0; i < this.entries.length; i++)
+            this.entries[i] = null;
+        this.hits.reset();
+        this.misses.reset();
+    }
+
+    /**
+     * Returns a string representation of this cache.
+     *
+     * For example, ByzDateCache[capacity=4096, TWO_WAY_LRU, hits=990, misses=10].
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return "ByzDateCache[capacity=" + capacity() + ", " + this.eviction
+            + ", hits=" + hitCount() + ", misses=" + missCount() + "]";
+    }
+
+    // the key of the fields, or NO_KEY if the fields are not cached
+    static long key(int kind, int year, int month, int dayOfMonth) {
+        if (dayOfMonth < 1 || dayOfMonth > 31 || month < 0 || month > 12)
+            return NO_KEY;
+        return ((long) year << 10 | month << 5 | dayOfMonth) << 1 | kind;
+    }
+
+    private ByzDate get(long key) {
+        Entry[] entries = this.entries;
+        int index = index(key);
+
+        var entry = entries[index];
+        if (entry != null && entry.key == key) {
+            this.hits.increment();
+            return entry.date;
+        }
+        if (this.eviction == Eviction.TWO_WAY_LRU) {
+            var other = entries[index + 1];
+            if (other != null && other.key == key) {
+                // moves the entry to the most recently used slot; a thread
+                // which loses the race to another swap leaves the slots as
+                // they are
+                if (SLOTS.compareAndSet(entries, index, entry, other))
+                    SLOTS.compareAndSet(entries, index + 1, other, entry);
+                this.hits.increment();
+                return other.date;
+            }
+        }
+        this.misses.increment();
+        return null;
+    }
+
+    private ByzDate put(long key, ByzDate date) {
+        Entry[] entries = this.entries;
+        int index = index(key);
+
+        // the least recently used entry of the set is dropped
+        if (this.eviction == Eviction.TWO_WAY_LRU)
+            entries[index + 1] = entries[index];
+        entries[index] = new Entry(key, date);
+        return date;
+    }
+
+    // the first slot of the key
+    private int index(long key) {
+        int hash = (int) (key * 0x9E37_79B9_7F4A_7C15L >>> 32);
+        return this.eviction == Eviction.TWO_WAY_LRU ? (hash & this.mask) << 1 : hash & this.mask;
+    }
+
+    private ByzDateCache(int capacity, Eviction eviction) {
+        int size = Math.max(MIN_CAPACITY, Integer.highestOneBit(capacity - 1) << 1);
+        this.entries = new Entry[size];
+        this.mask = (eviction == Eviction.TWO_WAY_LRU ? size >> 1 : size) - 1;
+        this.eviction = eviction;
+    }
+
+    // a cached date, immutable so that it is safely shared without locks
+    private static final class Entry {
+
+        final long key;
+        final ByzDate date;
+
+        Entry(long key, ByzDate date) {
+            this.key = key;
+            this.date = date;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A fixed-width binary encoding of Byzantine dates.
+ *
+ * A date is written as 4 bytes, big-endian, whatever the order of the
+ * buffer. The unsigned order of the bytes is the order of the dates (see
+ * {@link ByzDate#compareTo(ByzDate)}), so encoded dates can be used as
+ * keys in sorted stores.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzDateCodec {
+
+    /**
+     * The number of bytes of an encoded date.
+     */
+    public static final int BYTES = Integer.BYTES;
+
+    // flipping the sign bit makes the unsigned order of the bytes signed
+    private static final int SIGN_BIT = 0x8000_0000;
+
+    private static final VarHandle INTS = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private ByzDateCodec() {
+    }
+
+    /**
+     * Encodes the date into a new array.
+     *
+     * @param date the Byzantine date, not null
+     * @return the array of 4 bytes, not null
+     */
+    public static byte[] encode(ByzDate date) {
+        var buffer = new byte[BYTES];
+        encode(date, buffer, 0);
+        return buffer;
+    }
+
+    /**
+     * Encodes the date into the array.
+     *
+     * @param date the Byzantine date, not null
+     * @param buffer the array, not null
+     * @param offset the index of the first byte to write
+     */
+    public static void encode(ByzDate date, byte[] buffer, int offset) {
+        assert date != null;
+
+        encodePacked(date.toPacked(), buffer, offset);
+    }
+
+    /**
+     * Encodes the packed date into the array.
+     *
+     * @param packed the packed date, see {@link ByzDate#toPacked()}
+     * @param buffer the array, not null
+     * @param offset the index of the first byte to write
+     */
+    public static void encodePacked(int packed, byte[] buffer, int offset) {
+        INTS.set(buffer, offset, packed ^ SIGN_BIT);
+    }
+
+    /**
+     * Decodes the date from the array.
+     *
+     * @param buffer the array, not null
+     * @param offset the index of the first byte to read
+     * @return the Byzantine date, not null
+     */
+    public static ByzDate decode(byte[] buffer, int offset) {
+        return ByzDate.fromPacked(decodePacked(buffer, offset));
+    }
+
+    /**
+     * Decodes the packed date from the array.
+     *
+     * @param buffer the array, not null
+     * @param offset the index of the first byte to read
+     * @return the packed date
+     */
+    public static int decodePacked(byte[] buffer, int offset) {
+        return (int) INTS.get(buffer, offset) ^ SIGN_BIT;
+    }
+
+    /**
+     * Encodes the date at the position of the buffer, and advances the
+     * position by 4.
+     *
+     * @param date the Byzantine date, not null
+     * @param buffer the buffer, not null
+     */
+    public static void encode(ByzDate date, ByteBuffer buffer) {
+        assert date != null;
+
+        encodePacked(date.toPacked(), buffer);
+    }
+
+    /**
+     * Encodes the packed date at the position of the buffer, and advances
+     * the position by 4.
+     *
+     * @param packed the packed date, see {@link ByzDate#toPacked()}
+     * @param buffer the buffer, not null
+     */
+    public static void encodePacked(int packed, ByteBuffer buffer) {
+        buffer.putInt(bigEndian(buffer, packed ^ SIGN_BIT));
+    }
+
+    /**
+     * Decodes the date at the position of the buffer, and advances the
+     * position by 4.
+     *
+     * @param buffer the buffer, not null
+     * @return the Byzantine date, not null
+     */
+    public static ByzDate decode(ByteBuffer buffer) {
+        return ByzDate.fromPacked(decodePacked(buffer));
+    }
+
+    /**
+     * Decodes the packed date at the position of the buffer, and advances
+     * the position by 4.
+     *
+     * @param buffer the buffer, not null
+     * @return the packed date
+     */
+    public static int decodePacked(ByteBuffer buffer) {
+        return bigEndian(buffer, buffer.getInt()) ^ SIGN_BIT;
+    }
+
+    /**
+     * Encodes the dates at the position of the buffer, and advances the
+     * position by 4 bytes per date.
+     *
+     * @param dates the Byzantine dates, not null
+     * @param out the buffer, not null
+     */
+    public static void encode(ByzDate[] dates, ByteBuffer out) {
+        assert dates != null;
+        assert out.remaining() >= dates.length * BYTES;
+
+        boolean reverse = out.order() != ByteOrder.BIG_ENDIAN;
+        for (var date : dates) {
+            int key = date.toPacked() ^ SIGN_BIT;
+            out.putInt(reverse ? Integer.reverseBytes(key) : key);
+        }
+    }
+
+    /**
+     * Encodes the packed dates at the position of the buffer, and advances
+     * the position by 4 bytes per date.
+     *
+     * @param packed the packed dates, not null
+     * @param out the buffer, not null
+     */
+    public static void encodePacked(int[] packed, ByteBuffer out) {
+        assert packed != null;
+        assert out.remaining() >= packed.length * BYTES;
+
+        boolean reverse = out.order() != ByteOrder.BIG_ENDIAN;
+        for (int p : packed) {
+            int key = p ^ SIGN_BIT;
+            out.putInt(reverse ? Integer.reverseBytes(key) : key);
+        }
+    }
+
+    /**
+     * Decodes the packed dates at the position of the buffer, one per
+     * element of the array, and advances the position by 4 bytes per date.
+     *
+     * @param in the buffer, not null
+     * @param outPacked the packed dates, not null
+     */
+    public static void decodePacked(ByteBuffer in, int[] outPacked) {
+        assert outPacked != null;
+        assert in.remaining() >= outPacked.length * BYTES;
+
+        boolean reverse = in.order() != ByteOrder.BIG_ENDIAN;
+        for (int i = 0; i < outPacked.length; i++) {
+            int key = in.getInt();
+            outPacked[i] = (reverse ? Integer.reverseBytes(key) : key) ^ SIGN_BIT;
+        }
+    }
+
+    // the int read or written in the order of the buffer, as big-endian
+    private static int bigEndian(ByteBuffer buffer, int value) {
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value);
+    }
+}
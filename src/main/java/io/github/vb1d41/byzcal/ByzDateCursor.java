@@ -0,0 +1,218 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+/**
+ * A mutable position on the Byzantine calendar, for walking over days.
+ *
+ * The cursor keeps the fields of the current date and updates them in
+ * place when it moves, rolling over the months and the years at the new
+ * year of September 1. A ByzDate is created only by {@link #toByzDate()}.
+ *
+ * This class is not thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzDateCursor {
+
+    private static final ByzMonth[] MONTHS = ByzMonth.values();
+    private static final ByzDayOfWeek[] DAYS_OF_WEEK = ByzDayOfWeek.values();
+
+    private static final int LAST_MONTH = MONTHS.length - 1;
+    private static final int LAST_DAY_OF_WEEK = DAYS_OF_WEEK.length - 1;
+
+    private int epochDay;
+    private int year;
+    private int month; // the ordinal of ByzMonth
+    private int dayOfMonth;
+    private int dayOfWeek; // the ordinal of ByzDayOfWeek
+    private int lengthOfMonth;
+
+    /**
+     * Creates a cursor at the date.
+     *
+     * @param date the Byzantine date, not null
+     */
+    public ByzDateCursor(ByzDate date) {
+        moveTo(date);
+    }
+
+    /**
+     * Moves this cursor to the date.
+     *
+     * @param date the Byzantine date, not null
+     * @return this cursor, not null
+     */
+    public ByzDateCursor moveTo(ByzDate date) {
+        assert date != null;
+
+        return moveToPacked(date.toPacked());
+    }
+
+    /**
+     * Moves this cursor to the packed date.
+     *
+     * @param packed the packed date, see {@link ByzDate#toPacked()}
+     * @return this cursor, not null
+     */
+    public ByzDateCursor moveToPacked(int packed) {
+        long fields = ByzYearTable.fields(packed);
+
+        this.epochDay = packed;
+        this.year = ByzYearTable.year(fields);
+        this.month = ByzYearTable.month(fields);
+        this.dayOfMonth = ByzYearTable.dayOfMonth(fields);
+        this.dayOfWeek = ByzYearTable.dayOfWeek(packed);
+        this.lengthOfMonth = ByzYearTable.lengthOfMonth(this.year, this.month);
+        return this;
+    }
+
+    /**
+     * Moves this cursor to the next day.
+     *
+     * @return this cursor, not null
+     */
+    public ByzDateCursor next() {
+        this.epochDay = Math.incrementExact(this.epochDay);
+        this.dayOfWeek = this.dayOfWeek == LAST_DAY_OF_WEEK ? 0 : this.dayOfWeek + 1;
+
+        if (this.dayOfMonth < this.lengthOfMonth) {
+            this.dayOfMonth++;
+            return this;
+        }
+
+        if (this.month == LAST_MONTH) {
+            this.month = 0;
+            this.year++;
+        } else {
+            this.month++;
+        }
+        this.dayOfMonth = 1;
+        this.lengthOfMonth = ByzYearTable.lengthOfMonth(this.year, this.month);
+        return this;
+    }
+
+    /**
+     * Moves this cursor to the previous day.
+     *
+     * @return this cursor, not null
+     */
+    public ByzDateCursor previous() {
+        this.epochDay = Math.decrementExact(this.epochDay);
+        this.dayOfWeek = this.dayOfWeek == 0 ? LAST_DAY_OF_WEEK : this.dayOfWeek - 1;
+
+        if (this.dayOfMonth > 1) {
+            this.dayOfMonth--;
+            return this;
+        }
+
+        if (this.month == 0) {
+            this.month = LAST_MONTH;
+            this.year--;
+        } else {
+            this.month--;
+        }
+        this.lengthOfMonth = ByzYearTable.lengthOfMonth(this.year, this.month);
+        this.dayOfMonth = this.lengthOfMonth;
+        return this;
+    }
+
+    /**
+     * Moves this cursor by the number of days.
+     *
+     * @param days the number of days, negative to move back
+     * @return this cursor, not null
+     */
+    public ByzDateCursor advance(long days) {
+        long dayOfMonth = this.dayOfMonth + days;
+        if (dayOfMonth < 1 || dayOfMonth > this.lengthOfMonth)
+            return moveToPacked(Math.toIntExact(this.epochDay + days));
+
+        // the same month
+        this.epochDay += (int) days;
+        this.dayOfMonth = (int) dayOfMonth;
+        this.dayOfWeek = Math.floorMod(this.dayOfWeek + days, DAYS_OF_WEEK.length);
+        return this;
+    }
+
+    /**
+     * Returns the year of the current date.
+     *
+     * @return the year in the Byzantine calendar
+     */
+    public int year() {
+        return this.year;
+    }
+
+    /**
+     * Returns the month of the current date.
+     *
+     * @return the Byzantine month, not null
+     */
+    public ByzMonth month() {
+        return MONTHS[this.month];
+    }
+
+    /**
+     * Returns the day of the month of the current date.
+     *
+     * @return the day of the month
+     */
+    public int dayOfMonth() {
+        return this.dayOfMonth;
+    }
+
+    /**
+     * Returns the day of the week of the current date.
+     *
+     * @return the Byzantine day of the week, not null
+     */
+    public ByzDayOfWeek dayOfWeek() {
+        return DAYS_OF_WEEK[this.dayOfWeek];
+    }
+
+    /**
+     * Returns the current date in packed form.
+     *
+     * @return the packed date, see {@link ByzDate#toPacked()}
+     */
+    public int toPacked() {
+        return this.epochDay;
+    }
+
+    /**
+     * Returns the current date.
+     *
+     * @return a new Byzantine date, not null
+     */
+    public ByzDate toByzDate() {
+        return ByzDate.ofFields(this.epochDay, this.year, this.month, this.dayOfMonth);
+    }
+
+    /**
+     * Returns a string representation of the current date.
+     *
+     * For example, APRIL 3, 7531.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return toByzDate().toString();
+    }
+}
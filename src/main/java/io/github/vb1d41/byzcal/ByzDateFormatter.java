@@ -0,0 +1,419 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * A formatter and parser of Byzantine dates.
+ *
+ * A pattern is compiled once, when the formatter is created. The letters
+ * of a pattern are:
+ * <ul>
+ * <li>MONTH, the name of the month, for example APRIL;</li>
+ * <li>M or MM, the month, from 1 (September) to 12 (August);</li>
+ * <li>d or dd, the day of the month;</li>
+ * <li>y, yyyy, the year.</li>
+ * </ul>
+ * A repeated letter gives the minimum number of digits. Any other
+ * character, except a letter, is printed as is, and written to a byte
+ * array in UTF-8. A pattern must have the
+ * year, the month and the day of the month.
+ *
+ * Dates are appended into the caller's StringBuilder, Appendable or byte
+ * array; the parser reads a CharSequence from a ParsePosition. Neither
+ * creates intermediate strings. Month names are parsed ignoring case.
+ *
+ * This class is immutable and thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzDateFormatter {
+
+    /**
+     * The textual form "MONTH d, y", for example APRIL 3, 7531.
+     */
+    public static final ByzDateFormatter TEXTUAL = ofPattern("MONTH d, y");
+
+    /**
+     * The numeric form "yyyy-MM-dd", for example 7531-08-03.
+     */
+    public static final ByzDateFormatter NUMERIC = ofPattern("yyyy-MM-dd");
+
+    // the kinds of the elements of a pattern
+    private static final int LITERAL = 0;
+    private static final int MONTH_NAME = 1;
+    private static final int MONTH = 2;
+    private static final int DAY = 3;
+    private static final int YEAR = 4;
+
+    private static final String MONTH_NAME_PATTERN = "MONTH";
+
+    private static final ByzMonth[] MONTHS = ByzMonth.values();
+    private static final String[] MONTH_NAMES = new String[MONTHS.length];
+    private static final byte[][] MONTH_BYTES = new byte[MONTHS.length][];
+
+    static {
+        for (var month : MONTHS) {
+            MONTH_NAMES[month.ordinal()] = month.name();
+            MONTH_BYTES[month.ordinal()] = month.name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static final int[] POWERS_OF_10 = {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+
+    // the digits of the largest year
+    private static final int MAX_YEAR_DIGITS = 6;
+
+    private final String pattern;
+    private final int[] elements; // the kind << 16 | the character or the width
+    private final byte[][] literals; // the UTF-8 bytes of the literal elements
+
+    /**
+     * Creates a formatter of the pattern.
+     *
+     * @param pattern the pattern, not null
+     * @return the formatter, not null
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static ByzDateFormatter ofPattern(String pattern) {
+        assert pattern != null;
+
+        var elements = new int[pattern.length()];
+        var literals = new byte[pattern.length()][];
+        int count = 0;
+        int fields = 0; // the bits of the kinds
+        for (int i = 0; i < pattern.length(); ) {
+            char c = pattern.charAt(i);
+            if (pattern.startsWith(MONTH_NAME_PATTERN, i)) {
+                elements[count++] = MONTH_NAME << 16;
+                fields |= 1 << MONTH;
+                i += MONTH_NAME_PATTERN.length();
+                continue;
+            }
+            if (!Character.isLetter(c)) {
+                // a surrogate pair is encoded by its first half
+                boolean pair = Character.isHighSurrogate(c)
+                    && i + 1 < pattern.length() && Character.isLowSurrogate(pattern.charAt(i + 1));
+                literals[count] = pair ? utf8(pattern.substring(i, i + 2)) : utf8(String.valueOf(c));
+                elements[count++] = LITERAL << 16 | c;
+                if (pair) {
+                    literals[count] = new byte[0];
+                    elements[count++] = LITERAL << 16 | pattern.charAt(i + 1);
+                    i++;
+                }
+                i++;
+                continue;
+            }
+
+            int width = 1;
+            while (i + width < pattern.length() && pattern.charAt(i + width) == c)
+                width++;
+
+            int kind = switch (c) {
+                case 'M' -> MONTH;
+                case 'd' -> DAY;
+                case 'y' -> YEAR;
+                default -> throw new IllegalArgumentException("Unknown pattern letter: " + c);
+            };
+            if (width > (kind == YEAR ? MAX_YEAR_DIGITS : 2))
+                throw new IllegalArgumentException("Too many pattern letters: " + c);
+
+            elements[count++] = kind << 16 | width;
+            fields |= 1 << kind;
+            i += width;
+        }
+        if (fields != (1 << MONTH | 1 << DAY | 1 << YEAR))
+            throw new IllegalArgumentException("Pattern must have the year, the month and the day: " + pattern);
+
+        return new ByzDateFormatter(pattern, Arrays.copyOf(elements, count), Arrays.copyOf(literals, count));
+    }
+
+    /**
+     * Formats the date.
+     *
+     * @param date the Byzantine date, not null
+     * @return the string, not null
+     */
+    public String format(ByzDate date) {
+        var builder = new StringBuilder(24);
+        formatTo(date, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the formatted date to the builder.
+     *
+     * @param date the Byzantine date, not null
+     * @param builder the builder, not null
+     * @return the builder, not null
+     */
+    public StringBuilder formatTo(ByzDate date, StringBuilder builder) {
+        try {
+            print(date, builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // a StringBuilder does not throw
+        }
+        return builder;
+    }
+
+    /**
+     * Appends the formatted date to the appendable.
+     *
+     * @param date the Byzantine date, not null
+     * @param out the appendable, not null
+     * @throws IOException if the appendable fails
+     */
+    public void formatTo(ByzDate date, Appendable out) throws IOException {
+        print(date, out);
+    }
+
+    /**
+     * Writes the formatted date to the buffer in UTF-8.
+     *
+     * @param date the Byzantine date, not null
+     * @param buffer the buffer, not null
+     * @param offset the index of the first byte to write
+     * @return the index after the last byte written
+     * @throws ArrayIndexOutOfBoundsException if the buffer is too small
+     */
+    public int formatTo(ByzDate date, byte[] buffer, int offset) {
+        assert date != null && buffer != null;
+
+        int index = offset;
+        for (int i = 0; i < this.elements.length; i++) {
+            int element = this.elements[i];
+            int operand = element & 0xFFFF;
+            switch (element >>> 16) {
+                case LITERAL -> {
+                    byte[] literal = this.literals[i];
+                    if (literal.length == 1) {
+                        buffer[index++] = literal[0];
+                    } else {
+                        System.arraycopy(literal, 0, buffer, index, literal.length);
+                        index += literal.length;
+                    }
+                }
+                case MONTH_NAME -> {
+                    byte[] name = MONTH_BYTES[date.month().ordinal()];
+                    System.arraycopy(name, 0, buffer, index, name.length);
+                    index += name.length;
+                }
+                case MONTH -> index = writeNumber(buffer, index, date.month().ordinal() + 1, operand);
+                case DAY -> index = writeNumber(buffer, index, date.dayOfMonth(), operand);
+                default -> index = writeNumber(buffer, index, date.year(), operand);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Parses the whole text.
+     *
+     * @param text the text, not null
+     * @return the Byzantine date, not null
+     * @throws DateTimeParseException if the text is not a valid date
+     */
+    public ByzDate parse(CharSequence text) {
+        assert text != null;
+
+        var position = new ParsePosition(0);
+        var date = parse(text, position);
+
+        if (date == null || position.getIndex() < text.length()) {
+            int errorIndex = date == null ? position.getErrorIndex() : position.getIndex();
+            throw new DateTimeParseException(
+                "Text '%s' could not be parsed at index %d".formatted(text, errorIndex), text, errorIndex);
+        }
+        return date;
+    }
+
+    /**
+     * Parses the text from the position.
+     *
+     * On success, the index of the position is set after the last parsed
+     * character. On failure, the error index of the position is set and
+     * its index is unchanged.
+     *
+     * @param text the text, not null
+     * @param position the position to parse from, not null
+     * @return the Byzantine date, or null if the text is not a valid date
+     */
+    public ByzDate parse(CharSequence text, ParsePosition position) {
+        assert text != null && position != null;
+
+        int start = position.getIndex();
+        int index = start;
+        int year = 0;
+        int month = 0;
+        int dayOfMonth = 0;
+
+        for (int i = 0; i < this.elements.length; i++) {
+            int element = this.elements[i];
+            int kind = element >>> 16;
+            int operand = element & 0xFFFF;
+
+            if (kind == LITERAL) {
+                if (index >= text.length() || text.charAt(index) != operand)
+                    return fail(position, index);
+                index++;
+            } else if (kind == MONTH_NAME) {
+                month = matchMonthName(text, index) + 1;
+                if (month == 0)
+                    return fail(position, index);
+                index += MONTH_NAMES[month - 1].length();
+            } else {
+                boolean negative = kind == YEAR && index < text.length() && text.charAt(index) == '-';
+                int from = negative ? index + 1 : index;
+                int maxWidth = isNumber(i + 1) ? operand : kind == YEAR ? MAX_YEAR_DIGITS + 1 : 2;
+
+                int value = 0;
+                int end = from;
+                while (end < text.length() && end - from < maxWidth) {
+                    char c = text.charAt(end);
+                    if (c < '0' || c > '9')
+                        break;
+                    value = value * 10 + c - '0';
+                    end++;
+                }
+                if (end - from < operand)
+                    return fail(position, from);
+
+                switch (kind) {
+                    case MONTH -> month = value;
+                    case DAY -> dayOfMonth = value;
+                    default -> year = negative ? -value : value;
+                }
+                index = end;
+            }
+        }
+
+        if (year < ByzChronology.MIN_YEAR || year > ByzChronology.MAX_YEAR
+                || month < 1 || month > MONTHS.length
+                || dayOfMonth < 1 || dayOfMonth > ByzYearTable.lengthOfMonth(year, month - 1))
+            return fail(position, start);
+
+        position.setIndex(index);
+        return ByzDate.of(year, MONTHS[month - 1], dayOfMonth);
+    }
+
+    /**
+     * Returns the pattern of this formatter.
+     *
+     * @return the pattern, not null
+     */
+    @Override
+    public String toString() {
+        return this.pattern;
+    }
+
+    private void print(ByzDate date, Appendable out) throws IOException {
+        assert date != null && out != null;
+
+        for (int element : this.elements) {
+            int operand = element & 0xFFFF;
+            switch (element >>> 16) {
+                case LITERAL -> out.append((char) operand);
+                case MONTH_NAME -> out.append(MONTH_NAMES[date.month().ordinal()]);
+                case MONTH -> appendNumber(out, date.month().ordinal() + 1, operand);
+                case DAY -> appendNumber(out, date.dayOfMonth(), operand);
+                default -> appendNumber(out, date.year(), operand);
+            }
+        }
+    }
+
+    // checks if the element is a number, which limits the width of the previous one
+    private boolean isNumber(int i) {
+        if (i >= this.elements.length)
+            return false;
+        int kind = this.elements[i] >>> 16;
+        return kind == MONTH || kind == DAY || kind == YEAR;
+    }
+
+    private static void appendNumber(Appendable out, int value, int width) throws IOException {
+        if (value < 0)
+            out.append('-');
+
+        int abs = Math.abs(value);
+        int digits = digits(abs);
+        for (int i = digits; i < width; i++)
+            out.append('0');
+        for (int i = digits - 1; i >= 0; i--)
+            out.append((char) ('0' + abs / POWERS_OF_10[i] % 10));
+    }
+
+    private static int writeNumber(byte[] buffer, int offset, int value, int width) {
+        int index = offset;
+        if (value < 0)
+            buffer[index++] = '-';
+
+        int abs = Math.abs(value);
+        int digits = digits(abs);
+        for (int i = digits; i < width; i++)
+            buffer[index++] = '0';
+        for (int i = digits - 1; i >= 0; i--)
+            buffer[index++] = (byte) ('0' + abs / POWERS_OF_10[i] % 10);
+        return index;
+    }
+
+    // the number of decimal digits of the non-negative value
+    private static int digits(int value) {
+        int digits = 1;
+        while (digits < POWERS_OF_10.length && value >= POWERS_OF_10[digits])
+            digits++;
+        return digits;
+    }
+
+    // the ordinal of the month, or -1
+    private static int matchMonthName(CharSequence text, int index) {
+        for (int month = 0; month < MONTH_NAMES.length; month++) {
+            String name = MONTH_NAMES[month];
+            if (index + name.length() > text.length())
+                continue;
+
+            int i = 0;
+            while (i < name.length() && Character.toUpperCase(text.charAt(index + i)) == name.charAt(i))
+                i++;
+            if (i == name.length())
+                return month;
+        }
+        return -1;
+    }
+
+    private static ByzDate fail(ParsePosition position, int errorIndex) {
+        position.setErrorIndex(errorIndex);
+        return null;
+    }
+
+    private static byte[] utf8(String literal) {
+        return literal.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private ByzDateFormatter(String pattern, int[] elements, byte[][] literals) {
+        this.pattern = pattern;
+        this.elements = elements;
+        this.literals = literals;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+/**
+ * A map from Byzantine dates to int values.
+ *
+ * The dates are kept in packed form (see {@link ByzDate#toPacked()}) in an
+ * open addressing table, and the values in an int array, so neither a
+ * lookup nor an update boxes a date or a value. The dates are iterated in
+ * ascending order.
+ *
+ * This class is not thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzDateIntMap extends ByzDateKeys<int[]> {
+
+    /**
+     * An action on the packed date and the value of an entry.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Performs the action.
+         *
+         * @param packed the packed date
+         * @param value the value
+         */
+        void accept(int packed, int value);
+    }
+
+    /**
+     * Creates an empty map.
+     */
+    public ByzDateIntMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map with room for the number of dates.
+     *
+     * @param expectedSize the number of dates put without growing the map
+     */
+    public ByzDateIntMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * Returns the value of the date.
+     *
+     * @param date the Byzantine date, not null
+     * @param defaultValue the value returned if the date is not in this map
+     * @return the value
+     */
+    public int get(ByzDate date, int defaultValue) {
+        assert date != null;
+
+        return getPacked(date.toPacked(), defaultValue);
+    }
+
+    /**
+     * Returns the value of the date with the Byzantine fields.
+     *
+     * @param year the year in the Byzantine calendar
+     * @param month the Byzantine month, not null
+     * @param dayOfMonth the day of the month
+     * @param defaultValue the value returned if the date is not in this map
+     * @return the value
+     * @see ByzDate#of(int, ByzMonth, int)
+     */
+    public int get(int year, ByzMonth month, int dayOfMonth, int defaultValue) {
+        return getPacked(packed(year, month, dayOfMonth), defaultValue);
+    }
+
+    /**
+     * Returns the value of the packed date.
+     *
+     * @param packed the packed date
+     * @param defaultValue the value returned if the date is not in this map
+     * @return the value
+     */
+    public int getPacked(int packed, int defaultValue) {
+        int slot = find(packed);
+        return slot >= 0 ? this.values[slot] : defaultValue;
+    }
+
+    /**
+     * Sets the value of the date.
+     *
+     * @param date the Byzantine date, not null
+     * @param value the value
+     * @return the previous value, or 0 if the date was not in this map
+     */
+    public int put(ByzDate date, int value) {
+        assert date != null;
+
+        return putPacked(date.toPacked(), value);
+    }
+
+    /**
+     * Sets the value of the packed date.
+     *
+     * @param packed the packed date
+     * @param value the value
+     * @return the previous value, or 0 if the date was not in this map
+     */
+    public int putPacked(int packed, int value) {
+        int slot = slotFor(packed);
+        int previous = this.values[slot];
+        this.values[slot] = value;
+        return previous;
+    }
+
+    /**
+     * Adds the increment to the value of the date. A date which is not in
+     * this map starts from 0.
+     *
+     * @param date the Byzantine date, not null
+     * @param increment the number added to the value
+     * @return the new value
+     */
+    public int addTo(ByzDate date, int increment) {
+        assert date != null;
+
+        return addToPacked(date.toPacked(), increment);
+    }
+
+    /**
+     * Adds the increment to the value of the packed date. A date which is
+     * not in this map starts from 0.
+     *
+     * @param packed the packed date
+     * @param increment the number added to the value
+     * @return the new value
+     */
+    public int addToPacked(int packed, int increment) {
+        int slot = slotFor(packed);
+        return this.values[slot] += increment;
+    }
+
+    /**
+     * Removes the date from this map.
+     *
+     * @param date the Byzantine date, not null
+     * @return true if the date was in this map
+     */
+    public boolean remove(ByzDate date) {
+        assert date != null;
+
+        return removePacked(date.toPacked());
+    }
+
+    /**
+     * Removes the packed date from this map.
+     *
+     * @param packed the packed date
+     * @return true if the date was in this map
+     */
+    public boolean removePacked(int packed) {
+        return removeKey(packed);
+    }
+
+    /**
+     * Performs the action for each packed date and value of this map, in
+     * ascending order of the dates.
+     *
+     * @param action the action, not null
+     */
+    public void forEachPacked(EntryConsumer action) {
+        assert action != null;
+
+        for (int slot : orderedSlots())
+            action.accept(this.keys[slot], this.values[slot]);
+    }
+
+    @Override
+    int[] newValues(int capacity) {
+        return new int[capacity];
+    }
+
+    @Override
+    void moveValue(int[] from, int i, int[] to, int j) {
+        to[j] = from[i];
+    }
+
+    @Override
+    Object valueAt(int slot) {
+        return this.values[slot];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        this.values[slot] = 0; // a free slot has the value 0
+    }
+}
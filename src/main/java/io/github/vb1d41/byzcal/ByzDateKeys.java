@@ -0,0 +1,316 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The keys of a hash map of Byzantine dates.
+ *
+ * The keys are packed dates (see {@link ByzDate#toPacked()}) in an open
+ * addressing table with linear probing. The slot of a key is chosen by
+ * Fibonacci hashing, which spreads runs of consecutive days evenly over
+ * the table. A removed key is filled by shifting the following keys back,
+ * so the table has no tombstones. The subclass keeps the values in an
+ * array of the same length as the keys.
+ *
+ * @param <A> the type of the array of the values
+ * @version 1.3.0
+ */
+abstract class ByzDateKeys<A> {
+
+    // the key of a free slot, long before the minimum supported date
+    static final int FREE = Integer.MIN_VALUE;
+
+    private static final long GOLDEN = 0x9E37_79B9_7F4A_7C15L;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    int[] keys;
+    A values;
+    private int size;
+    private int shift; // 64 minus the bits of the capacity
+    private int maxSize; // three quarters of the capacity
+
+    ByzDateKeys(int expectedSize) {
+        assert expectedSize >= 0 && expectedSize <= MAX_CAPACITY - (MAX_CAPACITY >> 2);
+
+        int minCapacity = (int) Math.max(MIN_CAPACITY, (4L * expectedSize + 2) / 3);
+        allocate(Integer.highestOneBit(minCapacity - 1) << 1);
+    }
+
+    /**
+     * Returns the number of dates in this map.
+     *
+     * @return the number of dates
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks if this map has no dates.
+     *
+     * @return true if this map is empty
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Checks if the date is in this map.
+     *
+     * @param date the Byzantine date, not null
+     * @return true if the date has a value
+     */
+    public boolean containsKey(ByzDate date) {
+        assert date != null;
+
+        return containsPacked(date.toPacked());
+    }
+
+    /**
+     * Checks if the packed date is in this map.
+     *
+     * @param packed the packed date
+     * @return true if the date has a value
+     */
+    public boolean containsPacked(int packed) {
+        return find(packed) >= 0;
+    }
+
+    /**
+     * Removes all the dates from this map.
+     *
+     * The capacity of this map is kept.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, FREE);
+        this.values = newValues(this.keys.length);
+        this.size = 0;
+    }
+
+    /**
+     * Returns the packed dates of this map, in ascending order.
+     *
+     * @return the stream of the packed dates, not null
+     */
+    public IntStream packedDates() {
+        return Arrays.stream(orderedSlots()).map(slot -> this.keys[slot]);
+    }
+
+    /**
+     * Returns the dates of this map, in ascending order.
+     *
+     * @return the stream of the dates, not null
+     */
+    public Stream<ByzDate> dates() {
+        return packedDates().mapToObj(ByzDate::fromPacked);
+    }
+
+    /**
+     * Checks if this object is equal to the other object.
+     *
+     * @param other the object to check
+     * @return true if the other is a map of the same dates and values
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == null || getClass() != other.getClass())
+            return false;
+
+        var map = (ByzDateKeys<?>) other;
+        if (this.size != map.size)
+            return false;
+        for (int slot = 0; slot < this.keys.length; slot++) {
+            if (this.keys[slot] == FREE)
+                continue;
+            int otherSlot = map.find(this.keys[slot]);
+            if (otherSlot < 0 || !Objects.equals(valueAt(slot), map.valueAt(otherSlot)))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this map.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int slot = 0; slot < this.keys.length; slot++) {
+            if (this.keys[slot] != FREE)
+                hash += this.keys[slot] ^ Objects.hashCode(valueAt(slot));
+        }
+        return hash;
+    }
+
+    /**
+     * Returns a string representation of this map, in ascending order of
+     * the dates.
+     *
+     * For example, {APRIL 3, 7531=2, APRIL 4, 7531=1}.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("{");
+        for (int slot : orderedSlots()) {
+            if (builder.length() > 1)
+                builder.append(", ");
+            ByzDateFormatter.TEXTUAL.formatTo(ByzDate.fromPacked(this.keys[slot]), builder);
+            builder.append('=').append(valueAt(slot));
+        }
+        return builder.append('}').toString();
+    }
+
+    // a new array of the values
+    abstract A newValues(int capacity);
+
+    // copies the value from the slot i of one array to the slot j of another
+    abstract void moveValue(A from, int i, A to, int j);
+
+    // the value of the slot, boxed
+    abstract Object valueAt(int slot);
+
+    // resets the value of a slot which became free; the value of a free
+    // slot is null, 0 or 0L, which is the value of a new key in slotFor
+    abstract void clearValue(int slot);
+
+    // the packed date of the fields, lenient as ByzDate.of
+    static int packed(int year, ByzMonth month, int dayOfMonth) {
+        assert month != null;
+
+        return Math.toIntExact(ByzYearTable.toEpochDay(year, month.ordinal(), dayOfMonth));
+    }
+
+    // the slot of the key, or the complement of the free slot for the key
+    final int find(int packed) {
+        assert packed != FREE;
+
+        int[] keys = this.keys;
+        int mask = keys.length - 1;
+        for (int slot = home(packed); ; slot = slot + 1 & mask) {
+            int key = keys[slot];
+            if (key == packed)
+                return slot;
+            if (key == FREE)
+                return ~slot;
+        }
+    }
+
+    // puts the key in the free slot, returns the slot of the key
+    final int insert(int freeSlot, int packed) {
+        this.keys[freeSlot] = packed;
+        if (++this.size <= this.maxSize)
+            return freeSlot;
+
+        grow();
+        return find(packed);
+    }
+
+    // the slot of the key, inserted with the value of a free slot if absent
+    final int slotFor(int packed) {
+        int slot = find(packed);
+        return slot >= 0 ? slot : insert(~slot, packed);
+    }
+
+    // removes the key, returns true if it was in the table
+    final boolean removeKey(int packed) {
+        int slot = find(packed);
+        if (slot < 0)
+            return false;
+
+        removeAt(slot);
+        return true;
+    }
+
+    // removes the key of the slot, shifting back the keys of its cluster
+    final void removeAt(int slot) {
+        int[] keys = this.keys;
+        int mask = keys.length - 1;
+        int hole = slot;
+
+        for (int i = slot + 1 & mask; keys[i] != FREE; i = i + 1 & mask) {
+            // a key fills the hole if its home is not between the hole and the key
+            if ((i - home(keys[i]) & mask) >= (i - hole & mask)) {
+                keys[hole] = keys[i];
+                moveValue(this.values, i, this.values, hole);
+                hole = i;
+            }
+        }
+        keys[hole] = FREE;
+        clearValue(hole);
+        this.size--;
+    }
+
+    // the occupied slots, in ascending order of the keys
+    final int[] orderedSlots() {
+        int[] keys = this.keys;
+        var entries = new long[this.size];
+        int n = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != FREE)
+                entries[n++] = (long) keys[slot] << 32 | slot;
+        }
+        Arrays.sort(entries);
+
+        var slots = new int[n];
+        for (int i = 0; i < n; i++)
+            slots[i] = (int) entries[i];
+        return slots;
+    }
+
+    private int home(int packed) {
+        return (int) (packed * GOLDEN >>> this.shift);
+    }
+
+    private void grow() {
+        assert this.keys.length < MAX_CAPACITY;
+
+        int[] oldKeys = this.keys;
+        A oldValues = this.values;
+        allocate(oldKeys.length << 1);
+
+        int[] keys = this.keys;
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == FREE)
+                continue;
+            int slot = home(oldKeys[i]);
+            while (keys[slot] != FREE)
+                slot = slot + 1 & mask;
+            keys[slot] = oldKeys[i];
+            moveValue(oldValues, i, this.values, slot);
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new int[capacity];
+        Arrays.fill(this.keys, FREE);
+        this.values = newValues(capacity);
+        this.shift = Long.numberOfLeadingZeros(capacity) + 1;
+        this.maxSize = capacity - (capacity >> 2);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A map from Byzantine dates to values.
+ *
+ * The dates are kept in packed form (see {@link ByzDate#toPacked()}) in an
+ * open addressing table, so neither a lookup by the packed date nor by the
+ * fields of a date creates an instance of ByzDate. The dates are iterated
+ * in ascending order. The values are not null.
+ *
+ * This class is not thread-safe.
+ *
+ * @param <V> the type of the values
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzDateMap<V> extends ByzDateKeys<Object[]> {
+
+    /**
+     * An action on the packed date and the value of an entry.
+     *
+     * @param <V> the type of the values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        /**
+         * Performs the action.
+         *
+         * @param packed the packed date
+         * @param value the value, not null
+         */
+        void accept(int packed, V value);
+    }
+
+    /**
+     * Creates an empty map.
+     */
+    public ByzDateMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map with room for the number of dates.
+     *
+     * @param expectedSize the number of dates put without growing the map
+     */
+    public ByzDateMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * Returns the value of the date.
+     *
+     * @param date the Byzantine date, not null
+     * @return the value, or null if the date is not in this map
+     */
+    public V get(ByzDate date) {
+        assert date != null;
+
+        return getPacked(date.toPacked());
+    }
+
+    /**
+     * Returns the value of the date with the Byzantine fields.
+     *
+     * @param year the year in the Byzantine calendar
+     * @param month the Byzantine month, not null
+     * @param dayOfMonth the day of the month
+     * @return the value, or null if the date is not in this map
+     * @see ByzDate#of(int, ByzMonth, int)
+     */
+    public V get(int year, ByzMonth month, int dayOfMonth) {
+        return getPacked(packed(year, month, dayOfMonth));
+    }
+
+    /**
+     * Returns the value of the packed date.
+     *
+     * @param packed the packed date
+     * @return the value, or null if the date is not in this map
+     */
+    public V getPacked(int packed) {
+        int slot = find(packed);
+        return slot >= 0 ? value(slot) : null;
+    }
+
+    /**
+     * Sets the value of the date.
+     *
+     * @param date the Byzantine date, not null
+     * @param value the value, not null
+     * @return the previous value, or null if the date was not in this map
+     */
+    public V put(ByzDate date, V value) {
+        assert date != null;
+
+        return putPacked(date.toPacked(), value);
+    }
+
+    /**
+     * Sets the value of the packed date.
+     *
+     * @param packed the packed date
+     * @param value the value, not null
+     * @return the previous value, or null if the date was not in this map
+     */
+    public V putPacked(int packed, V value) {
+        assert value != null;
+
+        int slot = find(packed);
+        if (slot >= 0) {
+            V previous = value(slot);
+            this.values[slot] = value;
+            return previous;
+        }
+        slot = insert(~slot, packed);
+        this.values[slot] = value;
+        return null;
+    }
+
+    /**
+     * Returns the value of the date, computing it if the date is not in
+     * this map.
+     *
+     * For example, map.computeIfAbsent(date, d -&gt; new ArrayList&lt;&gt;()).add(event).
+     *
+     * @param date the Byzantine date, not null
+     * @param function the function which computes a value, not null
+     * @return the current value, not null
+     */
+    public V computeIfAbsent(ByzDate date, Function<? super ByzDate, ? extends V> function) {
+        assert date != null;
+        assert function != null;
+
+        int packed = date.toPacked();
+        int slot = find(packed);
+        if (slot >= 0)
+            return value(slot);
+
+        V value = function.apply(date);
+        assert value != null;
+        slot = insert(~slot, packed);
+        this.values[slot] = value;
+        return value;
+    }
+
+    /**
+     * Removes the date from this map.
+     *
+     * @param date the Byzantine date, not null
+     * @return the removed value, or null if the date was not in this map
+     */
+    public V remove(ByzDate date) {
+        assert date != null;
+
+        return removePacked(date.toPacked());
+    }
+
+    /**
+     * Removes the packed date from this map.
+     *
+     * @param packed the packed date
+     * @return the removed value, or null if the date was not in this map
+     */
+    public V removePacked(int packed) {
+        int slot = find(packed);
+        if (slot < 0)
+            return null;
+
+        V value = value(slot);
+        removeAt(slot);
+        return value;
+    }
+
+    /**
+     * Performs the action for each date and value of this map, in
+     * ascending order of the dates.
+     *
+     * @param action the action, not null
+     */
+    public void forEach(BiConsumer<? super ByzDate, ? super V> action) {
+        assert action != null;
+
+        for (int slot : orderedSlots())
+            action.accept(ByzDate.fromPacked(this.keys[slot]), value(slot));
+    }
+
+    /**
+     * Performs the action for each packed date and value of this map, in
+     * ascending order of the dates.
+     *
+     * @param action the action, not null
+     */
+    public void forEachPacked(EntryConsumer<? super V> action) {
+        assert action != null;
+
+        for (int slot : orderedSlots())
+            action.accept(this.keys[slot], value(slot));
+    }
+
+    @Override
+    Object[] newValues(int capacity) {
+        return new Object[capacity];
+    }
+
+    @Override
+    void moveValue(Object[] from, int i, Object[] to, int j) {
+        to[j] = from[i];
+    }
+
+    @Override
+    Object valueAt(int slot) {
+        return this.values[slot];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        this.values[slot] = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int slot) {
+        return (V) this.values[slot];
+    }
+}
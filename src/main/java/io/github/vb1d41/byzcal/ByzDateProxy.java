@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * The serialized form of ByzDate, the epoch day as 4 bytes.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+final class ByzDateProxy implements Externalizable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int packed;
+
+    /**
+     * Creates an instance for deserialization.
+     */
+    public ByzDateProxy() {
+        // the packed date is read by readExternal
+    }
+
+    ByzDateProxy(int packed) {
+        this.packed = packed;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeInt(this.packed);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        this.packed = in.readInt();
+    }
+
+    private Object readResolve() {
+        return ByzDate.fromPacked(this.packed);
+    }
+}
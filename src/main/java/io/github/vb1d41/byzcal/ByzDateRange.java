@@ -0,0 +1,312 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A range of Byzantine dates, from the start date (inclusive) to the end
+ * date (exclusive).
+ *
+ * The streams of a range are sized and split evenly when run in parallel.
+ *
+ * This class is immutable and thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzDateRange {
+
+    private final ByzDate start;
+    private final ByzDate end;
+
+    /**
+     * Creates a range of dates.
+     *
+     * @param start the start date (inclusive), not null
+     * @param endExclusive the end date (exclusive), not before the start, not null
+     * @return the range, not null
+     * @throws IllegalArgumentException if the end date is before the start date
+     */
+    public static ByzDateRange of(ByzDate start, ByzDate endExclusive) {
+        assert start != null;
+        assert endExclusive != null;
+
+        if (endExclusive.isBefore(start))
+            throw new IllegalArgumentException(endExclusive + " < " + start);
+
+        return new ByzDateRange(start, endExclusive);
+    }
+
+    /**
+     * Returns the start date of this range.
+     *
+     * @return the start date (inclusive), not null
+     */
+    public ByzDate start() {
+        return this.start;
+    }
+
+    /**
+     * Returns the end date of this range.
+     *
+     * @return the end date (exclusive), not null
+     */
+    public ByzDate end() {
+        return this.end;
+    }
+
+    /**
+     * Returns the number of days in this range.
+     *
+     * @return the number of days
+     */
+    public long length() {
+        return this.end.toEpochDay() - this.start.toEpochDay();
+    }
+
+    /**
+     * Checks if this range has no dates.
+     *
+     * @return true if the start date is equal to the end date
+     */
+    public boolean isEmpty() {
+        return length() == 0;
+    }
+
+    /**
+     * Checks if the date is in this range.
+     *
+     * @param date the Byzantine date, not null
+     * @return true if the date is in this range
+     */
+    public boolean contains(ByzDate date) {
+        assert date != null;
+
+        return !date.isBefore(this.start) && date.isBefore(this.end);
+    }
+
+    /**
+     * Returns a sequential ordered stream of the dates of this range.
+     *
+     * @return the stream of the dates, not null
+     */
+    public Stream<ByzDate> stream() {
+        return stream(1);
+    }
+
+    /**
+     * Returns a sequential ordered stream of the dates of this range,
+     * with the step in days.
+     *
+     * @param step the number of days between the dates, positive
+     * @return the stream of the dates, not null
+     * @throws IllegalArgumentException if the step is not positive
+     */
+    public Stream<ByzDate> stream(int step) {
+        return StreamSupport.stream(new Dates(epochDaySpliterator(step)), false);
+    }
+
+    /**
+     * Returns a sequential ordered stream of the epoch days of this range.
+     *
+     * @return the stream of the epoch days, not null
+     * @see ByzDate#toEpochDay()
+     */
+    public LongStream epochDays() {
+        return epochDays(1);
+    }
+
+    /**
+     * Returns a sequential ordered stream of the epoch days of this range,
+     * with the step in days.
+     *
+     * @param step the number of days between the dates, positive
+     * @return the stream of the epoch days, not null
+     * @throws IllegalArgumentException if the step is not positive
+     * @see ByzDate#toEpochDay()
+     */
+    public LongStream epochDays(int step) {
+        return StreamSupport.longStream(epochDaySpliterator(step), false);
+    }
+
+    /**
+     * Returns a spliterator over the dates of this range.
+     *
+     * The spliterator is SIZED and SUBSIZED.
+     *
+     * @return the spliterator, not null
+     */
+    public Spliterator<ByzDate> spliterator() {
+        return new Dates(epochDaySpliterator(1));
+    }
+
+    /**
+     * Checks if this object is equal to the other object.
+     *
+     * @param other the object to check
+     * @return true if the other is a range with the same dates
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other != null
+            && getClass() == other.getClass()
+            && this.start.equals(((ByzDateRange) other).start)
+            && this.end.equals(((ByzDateRange) other).end);
+    }
+
+    /**
+     * Returns a hash code for this range.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.start.hashCode() + this.end.hashCode();
+    }
+
+    /**
+     * Returns a string representation of this range.
+     *
+     * For example, [APRIL 3, 7531, MAY 3, 7531).
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return "[" + this.start + ", " + this.end + ")";
+    }
+
+    private EpochDays epochDaySpliterator(int step) {
+        if (step <= 0)
+            throw new IllegalArgumentException("Step must be positive: " + step);
+
+        long count = (length() + step - 1) / step;
+        return new EpochDays(this.start.toEpochDay(), step, 0, count);
+    }
+
+    private ByzDateRange(ByzDate start, ByzDate end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    // the epoch days first + i * step, for i from index to fence
+    private static final class EpochDays implements Spliterator.OfLong {
+
+        private static final int CHARACTERISTICS = ORDERED | DISTINCT | SORTED
+            | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+
+        private final long first;
+        private final long step;
+        private long index;
+        private final long fence;
+
+        EpochDays(long first, long step, long index, long fence) {
+            this.first = first;
+            this.step = step;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (this.index >= this.fence)
+                return false;
+            action.accept(this.first + this.index++ * this.step);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            for (long i = this.index; i < this.fence; i++)
+                action.accept(this.first + i * this.step);
+            this.index = this.fence;
+        }
+
+        @Override
+        public EpochDays trySplit() {
+            long middle = (this.index + this.fence) >>> 1;
+            if (middle <= this.index)
+                return null;
+
+            var prefix = new EpochDays(this.first, this.step, this.index, middle);
+            this.index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.fence - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            return null; // the natural order
+        }
+    }
+
+    private static final class Dates implements Spliterator<ByzDate> {
+
+        private final EpochDays epochDays;
+
+        Dates(EpochDays epochDays) {
+            this.epochDays = epochDays;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ByzDate> action) {
+            return this.epochDays.tryAdvance((long epochDay) -> action.accept(ByzDate.ofEpochDay(epochDay)));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super ByzDate> action) {
+            this.epochDays.forEachRemaining((long epochDay) -> action.accept(ByzDate.ofEpochDay(epochDay)));
+        }
+
+        @Override
+        public Dates trySplit() {
+            var prefix = this.epochDays.trySplit();
+            return prefix == null ? null : new Dates(prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.epochDays.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return this.epochDays.characteristics();
+        }
+
+        @Override
+        public Comparator<? super ByzDate> getComparator() {
+            return null; // the natural order
+        }
+    }
+}
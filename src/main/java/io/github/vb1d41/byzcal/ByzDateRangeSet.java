@@ -0,0 +1,383 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of Byzantine dates, as sorted disjoint ranges.
+ *
+ * Adjacent and overlapping ranges are merged when added, so a set of long
+ * periods (for example, fasts) takes two ints per period. The dates can be
+ * read in packed form (see {@link ByzDate#toPacked()}) without creating
+ * instances of ByzDate.
+ *
+ * This class is not thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzDateRangeSet {
+
+    // the packed dates of the ranges, the ends are exclusive
+    private int[] starts = new int[4];
+    private int[] ends = new int[4];
+    private int count;
+
+    /**
+     * Creates an empty set.
+     */
+    public ByzDateRangeSet() {
+        // the set is empty
+    }
+
+    /**
+     * Creates a set of the dates of the ranges.
+     *
+     * @param ranges the ranges of the dates, not null
+     * @return the set, not null
+     */
+    public static ByzDateRangeSet of(ByzDateRange... ranges) {
+        assert ranges != null;
+
+        var set = new ByzDateRangeSet();
+        for (var range : ranges)
+            set.add(range);
+        return set;
+    }
+
+    /**
+     * Returns the number of dates in this set.
+     *
+     * @return the number of dates
+     */
+    public long size() {
+        long size = 0;
+        for (int i = 0; i < this.count; i++)
+            size += (long) this.ends[i] - this.starts[i];
+        return size;
+    }
+
+    /**
+     * Returns the number of disjoint ranges of this set.
+     *
+     * @return the number of ranges
+     */
+    public int rangeCount() {
+        return this.count;
+    }
+
+    /**
+     * Checks if this set has no dates.
+     *
+     * @return true if this set is empty
+     */
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    /**
+     * Returns the disjoint ranges of this set, in ascending order.
+     *
+     * @return a new list of the ranges, not null
+     */
+    public List<ByzDateRange> ranges() {
+        var ranges = new ArrayList<ByzDateRange>(this.count);
+        for (int i = 0; i < this.count; i++)
+            ranges.add(ByzDateRange.of(ByzDate.fromPacked(this.starts[i]), ByzDate.fromPacked(this.ends[i])));
+        return ranges;
+    }
+
+    /**
+     * Checks if the date is in this set.
+     *
+     * @param date the Byzantine date, not null
+     * @return true if the date is in this set
+     */
+    public boolean contains(ByzDate date) {
+        assert date != null;
+
+        return containsPacked(date.toPacked());
+    }
+
+    /**
+     * Checks if the packed date is in this set.
+     *
+     * @param packed the packed date
+     * @return true if the date is in this set
+     */
+    public boolean containsPacked(int packed) {
+        int i = upperBound(this.starts, packed) - 1;
+        return i >= 0 && packed < this.ends[i];
+    }
+
+    /**
+     * Adds the dates of the range to this set.
+     *
+     * @param range the range of the dates, not null
+     */
+    public void add(ByzDateRange range) {
+        assert range != null;
+
+        addPacked(range.start().toPacked(), range.end().toPacked());
+    }
+
+    /**
+     * Removes the dates of the range from this set.
+     *
+     * @param range the range of the dates, not null
+     */
+    public void remove(ByzDateRange range) {
+        assert range != null;
+
+        removePacked(range.start().toPacked(), range.end().toPacked());
+    }
+
+    /**
+     * Returns the first date of this set on or after the date.
+     *
+     * @param from the Byzantine date, not null
+     * @return the Byzantine date, or null if there is none
+     */
+    public ByzDate nextSetDate(ByzDate from) {
+        assert from != null;
+
+        int packed = from.toPacked();
+        int i = upperBound(this.ends, packed);
+        return i < this.count ? ByzDate.fromPacked(Math.max(packed, this.starts[i])) : null;
+    }
+
+    /**
+     * Returns the last date of this set on or before the date.
+     *
+     * @param from the Byzantine date, not null
+     * @return the Byzantine date, or null if there is none
+     */
+    public ByzDate previousSetDate(ByzDate from) {
+        assert from != null;
+
+        int packed = from.toPacked();
+        int i = upperBound(this.starts, packed) - 1;
+        return i >= 0 ? ByzDate.fromPacked(Math.min(packed, this.ends[i] - 1)) : null;
+    }
+
+    /**
+     * Returns the union of this set and the other set.
+     *
+     * @param other the set, not null
+     * @return a new set, not null
+     */
+    public ByzDateRangeSet union(ByzDateRangeSet other) {
+        assert other != null;
+
+        var result = copy();
+        for (int i = 0; i < other.count; i++)
+            result.addPacked(other.starts[i], other.ends[i]);
+        return result;
+    }
+
+    /**
+     * Returns the intersection of this set and the other set.
+     *
+     * @param other the set, not null
+     * @return a new set, not null
+     */
+    public ByzDateRangeSet intersection(ByzDateRangeSet other) {
+        assert other != null;
+
+        var result = new ByzDateRangeSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.count && j < other.count) {
+            int start = Math.max(this.starts[i], other.starts[j]);
+            int end = Math.min(this.ends[i], other.ends[j]);
+            if (start < end)
+                result.replace(result.count, result.count, start, end);
+
+            if (this.ends[i] < other.ends[j])
+                i++;
+            else
+                j++;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the dates of this set that are not in the other set.
+     *
+     * @param other the set, not null
+     * @return a new set, not null
+     */
+    public ByzDateRangeSet difference(ByzDateRangeSet other) {
+        assert other != null;
+
+        var result = copy();
+        for (int i = 0; i < other.count; i++)
+            result.removePacked(other.starts[i], other.ends[i]);
+        return result;
+    }
+
+    /**
+     * Performs the action for each packed date of this set, in ascending
+     * order.
+     *
+     * @param action the action, not null
+     */
+    public void forEachPacked(IntConsumer action) {
+        assert action != null;
+
+        for (int i = 0; i < this.count; i++) {
+            for (int packed = this.starts[i]; packed < this.ends[i]; packed++)
+                action.accept(packed);
+        }
+    }
+
+    /**
+     * Checks if this object is equal to the other object.
+     *
+     * @param other the object to check
+     * @return true if the other is a set of the same dates
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == null || getClass() != other.getClass())
+            return false;
+
+        var set = (ByzDateRangeSet) other;
+        return Arrays.equals(this.starts, 0, this.count, set.starts, 0, set.count)
+            && Arrays.equals(this.ends, 0, this.count, set.ends, 0, set.count);
+    }
+
+    /**
+     * Returns a hash code for this set.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < this.count; i++)
+            hash = 31 * hash + (this.starts[i] ^ this.ends[i] << 16);
+        return hash;
+    }
+
+    /**
+     * Returns a string representation of this set.
+     *
+     * For example, [[APRIL 3, 7531, MAY 3, 7531)].
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return ranges().toString();
+    }
+
+    private void addPacked(int start, int end) {
+        if (start >= end)
+            return;
+
+        // the ranges from lo to hi overlap or touch the new range
+        int lo = lowerBound(this.ends, start);
+        int hi = upperBound(this.starts, end);
+        if (lo < hi)
+            replace(lo, hi, Math.min(start, this.starts[lo]), Math.max(end, this.ends[hi - 1]));
+        else
+            replace(lo, hi, start, end);
+    }
+
+    private void removePacked(int start, int end) {
+        if (start >= end)
+            return;
+
+        // the ranges from lo to hi overlap the removed range
+        int lo = upperBound(this.ends, start);
+        int hi = lowerBound(this.starts, end);
+        if (lo >= hi)
+            return;
+
+        int left = this.starts[lo];
+        int right = this.ends[hi - 1];
+        if (left < start && right > end) {
+            replace(lo, hi, left, start);
+            replace(lo + 1, lo + 1, end, right);
+        } else if (left < start) {
+            replace(lo, hi, left, start);
+        } else if (right > end) {
+            replace(lo, hi, end, right);
+        } else {
+            replace(lo, hi);
+        }
+    }
+
+    // replaces the ranges from lo to hi with the range, if any
+    private void replace(int lo, int hi, int... range) {
+        int added = range.length / 2;
+        int newCount = this.count - (hi - lo) + added;
+        if (newCount > this.starts.length) {
+            this.starts = Arrays.copyOf(this.starts, newCount * 2);
+            this.ends = Arrays.copyOf(this.ends, newCount * 2);
+        }
+
+        System.arraycopy(this.starts, hi, this.starts, lo + added, this.count - hi);
+        System.arraycopy(this.ends, hi, this.ends, lo + added, this.count - hi);
+        if (added == 1) {
+            this.starts[lo] = range[0];
+            this.ends[lo] = range[1];
+        }
+        this.count = newCount;
+    }
+
+    private ByzDateRangeSet copy() {
+        var set = new ByzDateRangeSet();
+        set.starts = Arrays.copyOf(this.starts, Math.max(4, this.count));
+        set.ends = Arrays.copyOf(this.ends, Math.max(4, this.count));
+        set.count = this.count;
+        return set;
+    }
+
+    // the first index of a value not less than the key
+    private int lowerBound(int[] values, int key) {
+        int lo = 0;
+        int hi = this.count;
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            if (values[middle] < key)
+                lo = middle + 1;
+            else
+                hi = middle;
+        }
+        return lo;
+    }
+
+    // the first index of a value greater than the key
+    private int upperBound(int[] values, int key) {
+        int lo = 0;
+        int hi = this.count;
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            if (values[middle] <= key)
+                lo = middle + 1;
+            else
+                hi = middle;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,581 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A set of Byzantine dates, as a bitmap of epoch days.
+ *
+ * The days are split into chunks of 4096 days (about 11 years). A chunk
+ * with few dates keeps them as a sorted array, a chunk with more dates as
+ * a bitmap; empty chunks are not kept. The dates can be read in packed
+ * form (see {@link ByzDate#toPacked()}) without creating instances of
+ * ByzDate.
+ *
+ * This class is not thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzDateSet {
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int LOW_MASK = CHUNK_SIZE - 1;
+    private static final int WORDS = CHUNK_SIZE / Long.SIZE;
+
+    // a sorted array of this many dates is as large as a bitmap
+    private static final int SPARSE_MAX = CHUNK_SIZE / Short.SIZE;
+
+    private static final int OR = 0;
+    private static final int AND = 1;
+    private static final int AND_NOT = 2;
+
+    private int[] keys = new int[0]; // the sorted high bits of the chunks
+    private Chunk[] chunks = new Chunk[0];
+    private int chunkCount;
+
+    /**
+     * Creates an empty set.
+     */
+    public ByzDateSet() {
+        // the set is empty
+    }
+
+    /**
+     * Creates a set of the dates.
+     *
+     * @param dates the Byzantine dates, not null
+     * @return the set, not null
+     */
+    public static ByzDateSet of(ByzDate... dates) {
+        assert dates != null;
+
+        var set = new ByzDateSet();
+        for (var date : dates)
+            set.add(date);
+        return set;
+    }
+
+    /**
+     * Creates a set of the dates of the range.
+     *
+     * @param range the range of the dates, not null
+     * @return the set, not null
+     */
+    public static ByzDateSet of(ByzDateRange range) {
+        var set = new ByzDateSet();
+        set.addRange(range);
+        return set;
+    }
+
+    /**
+     * Returns the number of dates in this set.
+     *
+     * @return the number of dates
+     */
+    public long size() {
+        long size = 0;
+        for (int i = 0; i < this.chunkCount; i++)
+            size += this.chunks[i].cardinality;
+        return size;
+    }
+
+    /**
+     * Checks if this set has no dates.
+     *
+     * @return true if this set is empty
+     */
+    public boolean isEmpty() {
+        return this.chunkCount == 0;
+    }
+
+    /**
+     * Checks if the date is in this set.
+     *
+     * @param date the Byzantine date, not null
+     * @return true if the date is in this set
+     */
+    public boolean contains(ByzDate date) {
+        assert date != null;
+
+        return containsPacked(date.toPacked());
+    }
+
+    /**
+     * Checks if the packed date is in this set.
+     *
+     * @param packed the packed date
+     * @return true if the date is in this set
+     */
+    public boolean containsPacked(int packed) {
+        int i = Arrays.binarySearch(this.keys, 0, this.chunkCount, packed >> CHUNK_BITS);
+        return i >= 0 && this.chunks[i].contains(packed & LOW_MASK);
+    }
+
+    /**
+     * Adds the date to this set.
+     *
+     * @param date the Byzantine date, not null
+     * @return true if the date was not in this set
+     */
+    public boolean add(ByzDate date) {
+        assert date != null;
+
+        return addPacked(date.toPacked());
+    }
+
+    /**
+     * Adds the packed date to this set.
+     *
+     * @param packed the packed date
+     * @return true if the date was not in this set
+     */
+    public boolean addPacked(int packed) {
+        int key = packed >> CHUNK_BITS;
+        int i = Arrays.binarySearch(this.keys, 0, this.chunkCount, key);
+        if (i < 0) {
+            i = -i - 1;
+            insertChunk(i, key, new Chunk());
+        }
+        return this.chunks[i].add(packed & LOW_MASK);
+    }
+
+    /**
+     * Adds the dates of the range to this set.
+     *
+     * @param range the range of the dates, not null
+     */
+    public void addRange(ByzDateRange range) {
+        assert range != null;
+
+        int end = range.end().toPacked();
+        for (int packed = range.start().toPacked(); packed < end; packed++)
+            addPacked(packed);
+    }
+
+    /**
+     * Removes the date from this set.
+     *
+     * @param date the Byzantine date, not null
+     * @return true if the date was in this set
+     */
+    public boolean remove(ByzDate date) {
+        assert date != null;
+
+        return removePacked(date.toPacked());
+    }
+
+    /**
+     * Removes the packed date from this set.
+     *
+     * @param packed the packed date
+     * @return true if the date was in this set
+     */
+    public boolean removePacked(int packed) {
+        int i = Arrays.binarySearch(this.keys, 0, this.chunkCount, packed >> CHUNK_BITS);
+        if (i < 0 || !this.chunks[i].remove(packed & LOW_MASK))
+            return false;
+
+        if (this.chunks[i].cardinality == 0)
+            removeChunk(i);
+        return true;
+    }
+
+    /**
+     * Removes all the dates from this set.
+     */
+    public void clear() {
+        Arrays.fill(this.chunks, 0, this.chunkCount, null);
+        this.chunkCount = 0;
+    }
+
+    /**
+     * Returns the first date of this set on or after the date.
+     *
+     * @param from the Byzantine date, not null
+     * @return the Byzantine date, or null if there is none
+     */
+    public ByzDate nextSetDate(ByzDate from) {
+        assert from != null;
+
+        int packed = from.toPacked();
+        int i = Arrays.binarySearch(this.keys, 0, this.chunkCount, packed >> CHUNK_BITS);
+        if (i >= 0) {
+            int low = this.chunks[i].next(packed & LOW_MASK);
+            if (low >= 0)
+                return dateOf(i, low);
+            i++;
+        } else {
+            i = -i - 1;
+        }
+        return i < this.chunkCount ? dateOf(i, this.chunks[i].next(0)) : null;
+    }
+
+    /**
+     * Returns the last date of this set on or before the date.
+     *
+     * @param from the Byzantine date, not null
+     * @return the Byzantine date, or null if there is none
+     */
+    public ByzDate previousSetDate(ByzDate from) {
+        assert from != null;
+
+        int packed = from.toPacked();
+        int i = Arrays.binarySearch(this.keys, 0, this.chunkCount, packed >> CHUNK_BITS);
+        if (i >= 0) {
+            int low = this.chunks[i].previous(packed & LOW_MASK);
+            if (low >= 0)
+                return dateOf(i, low);
+            i--;
+        } else {
+            i = -i - 2;
+        }
+        return i >= 0 ? dateOf(i, this.chunks[i].previous(LOW_MASK)) : null;
+    }
+
+    /**
+     * Returns the union of this set and the other set.
+     *
+     * @param other the set, not null
+     * @return a new set, not null
+     */
+    public ByzDateSet union(ByzDateSet other) {
+        return combine(other, OR);
+    }
+
+    /**
+     * Returns the intersection of this set and the other set.
+     *
+     * @param other the set, not null
+     * @return a new set, not null
+     */
+    public ByzDateSet intersection(ByzDateSet other) {
+        return combine(other, AND);
+    }
+
+    /**
+     * Returns the dates of this set that are not in the other set.
+     *
+     * @param other the set, not null
+     * @return a new set, not null
+     */
+    public ByzDateSet difference(ByzDateSet other) {
+        return combine(other, AND_NOT);
+    }
+
+    /**
+     * Performs the action for each packed date of this set, in ascending
+     * order.
+     *
+     * @param action the action, not null
+     */
+    public void forEachPacked(IntConsumer action) {
+        assert action != null;
+
+        for (int i = 0; i < this.chunkCount; i++)
+            this.chunks[i].forEach(this.keys[i] << CHUNK_BITS, action);
+    }
+
+    /**
+     * Returns the packed dates of this set, in ascending order.
+     *
+     * @return the stream of the packed dates, not null
+     */
+    public IntStream packedDates() {
+        var builder = IntStream.builder();
+        forEachPacked(builder);
+        return builder.build();
+    }
+
+    /**
+     * Returns the dates of this set, in ascending order.
+     *
+     * @return the stream of the dates, not null
+     */
+    public Stream<ByzDate> stream() {
+        return packedDates().mapToObj(ByzDate::fromPacked);
+    }
+
+    /**
+     * Checks if this object is equal to the other object.
+     *
+     * @param other the object to check
+     * @return true if the other is a set of the same dates
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == null || getClass() != other.getClass())
+            return false;
+
+        var set = (ByzDateSet) other;
+        if (this.chunkCount != set.chunkCount)
+            return false;
+        for (int i = 0; i < this.chunkCount; i++) {
+            if (this.keys[i] != set.keys[i]
+                    || !Arrays.equals(this.chunks[i].toBitmap(), set.chunks[i].toBitmap()))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this set.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < this.chunkCount; i++)
+            hash = 31 * hash + (this.keys[i] ^ Arrays.hashCode(this.chunks[i].toBitmap()));
+        return hash;
+    }
+
+    /**
+     * Returns a string representation of this set.
+     *
+     * For example, [APRIL 3, 7531, APRIL 4, 7531].
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("[");
+        forEachPacked(packed -> {
+            if (builder.length() > 1)
+                builder.append(", ");
+            ByzDateFormatter.TEXTUAL.formatTo(ByzDate.fromPacked(packed), builder);
+        });
+        return builder.append(']').toString();
+    }
+
+    private ByzDate dateOf(int chunk, int low) {
+        return ByzDate.fromPacked(this.keys[chunk] << CHUNK_BITS | low);
+    }
+
+    private ByzDateSet combine(ByzDateSet other, int op) {
+        assert other != null;
+
+        var result = new ByzDateSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.chunkCount || j < other.chunkCount) {
+            int key1 = i < this.chunkCount ? this.keys[i] : Integer.MAX_VALUE;
+            int key2 = j < other.chunkCount ? other.keys[j] : Integer.MAX_VALUE;
+
+            if (j >= other.chunkCount || i < this.chunkCount && key1 < key2) {
+                if (op != AND)
+                    result.insertChunk(result.chunkCount, key1, this.chunks[i].copy());
+                i++;
+            } else if (i >= this.chunkCount || key2 < key1) {
+                if (op == OR)
+                    result.insertChunk(result.chunkCount, key2, other.chunks[j].copy());
+                j++;
+            } else {
+                var chunk = Chunk.combine(this.chunks[i++], other.chunks[j++], op);
+                if (chunk != null)
+                    result.insertChunk(result.chunkCount, key1, chunk);
+            }
+        }
+        return result;
+    }
+
+    private void insertChunk(int i, int key, Chunk chunk) {
+        if (this.chunkCount == this.keys.length) {
+            int capacity = Math.max(4, this.chunkCount * 2);
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.chunks = Arrays.copyOf(this.chunks, capacity);
+        }
+        System.arraycopy(this.keys, i, this.keys, i + 1, this.chunkCount - i);
+        System.arraycopy(this.chunks, i, this.chunks, i + 1, this.chunkCount - i);
+        this.keys[i] = key;
+        this.chunks[i] = chunk;
+        this.chunkCount++;
+    }
+
+    private void removeChunk(int i) {
+        System.arraycopy(this.keys, i + 1, this.keys, i, this.chunkCount - i - 1);
+        System.arraycopy(this.chunks, i + 1, this.chunks, i, this.chunkCount - i - 1);
+        this.chunks[--this.chunkCount] = null;
+    }
+
+    // the dates of a chunk, by the low bits of the packed dates
+    private static final class Chunk {
+
+        private long[] bitmap; // null if the chunk is sparse
+        private short[] values = new short[4]; // the sorted low bits if sparse
+        int cardinality;
+
+        boolean contains(int low) {
+            if (this.bitmap != null)
+                return (this.bitmap[low >>> 6] & 1L << low) != 0;
+            return Arrays.binarySearch(this.values, 0, this.cardinality, (short) low) >= 0;
+        }
+
+        boolean add(int low) {
+            if (this.bitmap != null) {
+                long word = this.bitmap[low >>> 6];
+                this.bitmap[low >>> 6] = word | 1L << low;
+                if (word == this.bitmap[low >>> 6])
+                    return false;
+                this.cardinality++;
+                return true;
+            }
+
+            int i = Arrays.binarySearch(this.values, 0, this.cardinality, (short) low);
+            if (i >= 0)
+                return false;
+            if (this.cardinality == SPARSE_MAX) {
+                this.bitmap = toBitmap();
+                this.values = null;
+                return add(low);
+            }
+
+            i = -i - 1;
+            if (this.cardinality == this.values.length)
+                this.values = Arrays.copyOf(this.values, this.cardinality * 2);
+            System.arraycopy(this.values, i, this.values, i + 1, this.cardinality - i);
+            this.values[i] = (short) low;
+            this.cardinality++;
+            return true;
+        }
+
+        boolean remove(int low) {
+            if (this.bitmap != null) {
+                long word = this.bitmap[low >>> 6];
+                this.bitmap[low >>> 6] = word & ~(1L << low);
+                if (word == this.bitmap[low >>> 6])
+                    return false;
+                this.cardinality--;
+                return true;
+            }
+
+            int i = Arrays.binarySearch(this.values, 0, this.cardinality, (short) low);
+            if (i < 0)
+                return false;
+            System.arraycopy(this.values, i + 1, this.values, i, this.cardinality - i - 1);
+            this.cardinality--;
+            return true;
+        }
+
+        // the first value from low, or -1
+        int next(int low) {
+            if (this.bitmap != null) {
+                int w = low >>> 6;
+                long word = this.bitmap[w] & -1L << low;
+                while (word == 0) {
+                    if (++w == WORDS)
+                        return -1;
+                    word = this.bitmap[w];
+                }
+                return w * Long.SIZE + Long.numberOfTrailingZeros(word);
+            }
+
+            int i = Arrays.binarySearch(this.values, 0, this.cardinality, (short) low);
+            if (i < 0)
+                i = -i - 1;
+            return i < this.cardinality ? this.values[i] : -1;
+        }
+
+        // the last value to low, or -1
+        int previous(int low) {
+            if (this.bitmap != null) {
+                int w = low >>> 6;
+                long word = this.bitmap[w] & -1L >>> (Long.SIZE - 1 - (low & 63));
+                while (word == 0) {
+                    if (--w < 0)
+                        return -1;
+                    word = this.bitmap[w];
+                }
+                return w * Long.SIZE + Long.SIZE - 1 - Long.numberOfLeadingZeros(word);
+            }
+
+            int i = Arrays.binarySearch(this.values, 0, this.cardinality, (short) low);
+            if (i < 0)
+                i = -i - 2;
+            return i >= 0 ? this.values[i] : -1;
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (this.bitmap == null) {
+                for (int i = 0; i < this.cardinality; i++)
+                    action.accept(base | this.values[i]);
+                return;
+            }
+            for (int w = 0; w < WORDS; w++) {
+                for (long word = this.bitmap[w]; word != 0; word &= word - 1)
+                    action.accept(base | w * Long.SIZE + Long.numberOfTrailingZeros(word));
+            }
+        }
+
+        long[] toBitmap() {
+            if (this.bitmap != null)
+                return this.bitmap.clone();
+
+            var bits = new long[WORDS];
+            for (int i = 0; i < this.cardinality; i++)
+                bits[this.values[i] >>> 6] |= 1L << this.values[i];
+            return bits;
+        }
+
+        Chunk copy() {
+            var chunk = new Chunk();
+            chunk.bitmap = this.bitmap == null ? null : this.bitmap.clone();
+            chunk.values = this.values == null ? null : this.values.clone();
+            chunk.cardinality = this.cardinality;
+            return chunk;
+        }
+
+        // the chunk of the bits, or null if there are none
+        static Chunk combine(Chunk chunk1, Chunk chunk2, int op) {
+            long[] bits = chunk1.toBitmap();
+            long[] bits2 = chunk2.toBitmap();
+            int cardinality = 0;
+            for (int w = 0; w < WORDS; w++) {
+                bits[w] = switch (op) {
+                    case OR -> bits[w] | bits2[w];
+                    case AND -> bits[w] & bits2[w];
+                    default -> bits[w] & ~bits2[w];
+                };
+                cardinality += Long.bitCount(bits[w]);
+            }
+            if (cardinality == 0)
+                return null;
+
+            var chunk = new Chunk();
+            chunk.cardinality = cardinality;
+            if (cardinality > SPARSE_MAX) {
+                chunk.bitmap = bits;
+                chunk.values = null;
+                return chunk;
+            }
+
+            chunk.values = new short[cardinality];
+            int i = 0;
+            for (int w = 0; w < WORDS; w++) {
+                for (long word = bits[w]; word != 0; word &= word - 1)
+                    chunk.values[i++] = (short) (w * Long.SIZE + Long.numberOfTrailingZeros(word));
+            }
+            return chunk;
+        }
+    }
+}
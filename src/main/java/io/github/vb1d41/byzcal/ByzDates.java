@@ -0,0 +1,240 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bulk operations on columns of dates.
+ *
+ * The columns are primitive arrays of the same length. A packed date is
+ * also the epoch day, see {@link ByzDate#toPacked()}. A month is written
+ * as the ordinal of ByzMonth (September is 0), a day of the week as the
+ * ordinal of ByzDayOfWeek (Lordsday is 0). Large columns are split across
+ * the common ForkJoinPool; no objects are created per date.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzDates {
+
+    // the number of dates converted by one task
+    private static final int BATCH_SIZE = 1 << 14;
+
+    private ByzDates() {
+    }
+
+    /**
+     * Converts the Gregorian dates to Byzantine dates.
+     *
+     * The minimum supported Gregorian date is October 15, 1582.
+     *
+     * @param years the years in the Gregorian calendar, not null
+     * @param months the months, from 1 (Jan) to 12 (Dec), not null
+     * @param daysOfMonth the days of the month, not null
+     * @param outYears the years in the Byzantine calendar, not null
+     * @param outMonths the Byzantine months, not null
+     * @param outDaysOfMonth the days of the month, not null
+     * @param outDaysOfWeek the Byzantine days of the week, not null
+     */
+    public static void convertGregorian(int[] years, int[] months, int[] daysOfMonth,
+            int[] outYears, byte[] outMonths, byte[] outDaysOfMonth, byte[] outDaysOfWeek) {
+        assert years != null && months != null && daysOfMonth != null;
+        assert months.length == years.length && daysOfMonth.length == years.length;
+        assertOutputs(years.length, outYears, outMonths, outDaysOfMonth, outDaysOfWeek);
+
+        run(years.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                long epochDay = JulGreCalendar.hybridToEpochDay(years[i], months[i], daysOfMonth[i]);
+                decode(epochDay, i, outYears, outMonths, outDaysOfMonth, outDaysOfWeek);
+            }
+        });
+    }
+
+    /**
+     * Converts the epoch days to Byzantine dates.
+     *
+     * An epoch day is the number of days from January 1, 1970 (Gregorian).
+     *
+     * @param epochDays the epoch days, not null
+     * @param outYears the years in the Byzantine calendar, not null
+     * @param outMonths the Byzantine months, not null
+     * @param outDaysOfMonth the days of the month, not null
+     * @param outDaysOfWeek the Byzantine days of the week, not null
+     */
+    public static void convertEpochDays(long[] epochDays,
+            int[] outYears, byte[] outMonths, byte[] outDaysOfMonth, byte[] outDaysOfWeek) {
+        assert epochDays != null;
+        assertOutputs(epochDays.length, outYears, outMonths, outDaysOfMonth, outDaysOfWeek);
+
+        run(epochDays.length, (from, to) -> {
+            for (int i = from; i < to; i++)
+                decode(epochDays[i], i, outYears, outMonths, outDaysOfMonth, outDaysOfWeek);
+        });
+    }
+
+    /**
+     * Computes the days of the year of the packed dates.
+     *
+     * @param packed the packed dates, see {@link ByzDate#toPacked()}, not null
+     * @param outDaysOfYear the days of the year, from 1 (September 1) to 366, not null
+     */
+    public static void daysOfYear(int[] packed, short[] outDaysOfYear) {
+        assert packed != null && outDaysOfYear != null;
+        assert outDaysOfYear.length >= packed.length;
+
+        run(packed.length, (from, to) -> {
+            for (int i = from; i < to; i++)
+                outDaysOfYear[i] = (short) dayOfYear(packed[i]);
+        });
+    }
+
+    /**
+     * Computes the weeks of the year of the packed dates.
+     *
+     * @param packed the packed dates, see {@link ByzDate#toPacked()}, not null
+     * @param outWeeksOfYear the weeks of the year, from 1 to 53, not null
+     * @see ByzDate#weekOfYear()
+     */
+    public static void weeksOfYear(int[] packed, byte[] outWeeksOfYear) {
+        assert packed != null && outWeeksOfYear != null;
+        assert outWeeksOfYear.length >= packed.length;
+
+        run(packed.length, (from, to) -> {
+            for (int i = from; i < to; i++)
+                outWeeksOfYear[i] = (byte) ByzYearTable.weekOfYear(dayOfYear(packed[i]));
+        });
+    }
+
+    /**
+     * Computes the indictions of the packed dates.
+     *
+     * @param packed the packed dates, see {@link ByzDate#toPacked()}, not null
+     * @param outIndictions the indictions, from 1 to 15, not null
+     */
+    public static void indictions(int[] packed, byte[] outIndictions) {
+        yearFields(packed, outIndictions, ByzYearTable::indiction);
+    }
+
+    /**
+     * Computes the circles of the sun of the packed dates.
+     *
+     * @param packed the packed dates, see {@link ByzDate#toPacked()}, not null
+     * @param outSolarCycles the circles of the sun, from 1 to 28, not null
+     */
+    public static void solarCycles(int[] packed, byte[] outSolarCycles) {
+        yearFields(packed, outSolarCycles, ByzYearTable::solarCycle);
+    }
+
+    /**
+     * Computes the circles of the moon of the packed dates.
+     *
+     * @param packed the packed dates, see {@link ByzDate#toPacked()}, not null
+     * @param outLunarCycles the circles of the moon, from 1 to 19, not null
+     */
+    public static void lunarCycles(int[] packed, byte[] outLunarCycles) {
+        yearFields(packed, outLunarCycles, ByzYearTable::lunarCycle);
+    }
+
+    /**
+     * Computes the Golden Numbers of the packed dates.
+     *
+     * @param packed the packed dates, see {@link ByzDate#toPacked()}, not null
+     * @param outGoldenNumbers the Golden Numbers, from 1 to 19, not null
+     */
+    public static void goldenNumbers(int[] packed, byte[] outGoldenNumbers) {
+        yearFields(packed, outGoldenNumbers, ByzYearTable::goldenNumber);
+    }
+
+    private static int dayOfYear(int packed) {
+        return ByzYearTable.dayOfYear(packed, ByzYearTable.year(ByzYearTable.fields(packed)));
+    }
+
+    private static void yearFields(int[] packed, byte[] out, YearField field) {
+        assert packed != null && out != null;
+        assert out.length >= packed.length;
+
+        run(packed.length, (from, to) -> {
+            for (int i = from; i < to; i++)
+                out[i] = (byte) field.of(ByzYearTable.year(ByzYearTable.fields(packed[i])));
+        });
+    }
+
+    private static void decode(long epochDay, int i,
+            int[] outYears, byte[] outMonths, byte[] outDaysOfMonth, byte[] outDaysOfWeek) {
+        long fields = ByzYearTable.fields(epochDay);
+
+        outYears[i] = ByzYearTable.year(fields);
+        outMonths[i] = (byte) ByzYearTable.month(fields);
+        outDaysOfMonth[i] = (byte) ByzYearTable.dayOfMonth(fields);
+        outDaysOfWeek[i] = (byte) ByzYearTable.dayOfWeek(epochDay);
+    }
+
+    private static void assertOutputs(int length,
+            int[] outYears, byte[] outMonths, byte[] outDaysOfMonth, byte[] outDaysOfWeek) {
+        assert outYears != null && outMonths != null;
+        assert outDaysOfMonth != null && outDaysOfWeek != null;
+        assert outYears.length >= length && outMonths.length >= length;
+        assert outDaysOfMonth.length >= length && outDaysOfWeek.length >= length;
+    }
+
+    static void run(int length, Batch batch) {
+        if (length <= BATCH_SIZE)
+            batch.run(0, length);
+        else
+            ForkJoinPool.commonPool().invoke(new BatchTask(batch, 0, length));
+    }
+
+    // converts the dates from (inclusive) to (exclusive)
+    @FunctionalInterface
+    interface Batch {
+        void run(int from, int to);
+    }
+
+    // a field computed from the year
+    @FunctionalInterface
+    private interface YearField {
+        int of(int year);
+    }
+
+    private static final class BatchTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Batch batch;
+        private final int from;
+        private final int to;
+
+        BatchTask(Batch batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= BATCH_SIZE) {
+                this.batch.run(this.from, this.to);
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new BatchTask(this.batch, this.from, middle),
+                new BatchTask(this.batch, middle, this.to));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.time.DateTimeException;
+import java.time.chrono.Era;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * An era in the Byzantine calendar.
+ *
+ * Dates from year 1 on are in the era Anno Mundi; year 0 and the years
+ * before it are in the era before it.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public enum ByzEra implements Era {
+    /**
+     * The era before the creation of the world, with the value 0.
+     */
+    BEFORE_AM,
+    /**
+     * The era from the creation of the world (Anno Mundi), with the value 1.
+     */
+    AM;
+
+    /**
+     * Returns the era of the value.
+     *
+     * @param value 0 for BEFORE_AM, 1 for AM
+     * @return the era, not null
+     * @throws DateTimeException if the value is invalid
+     */
+    public static ByzEra of(int value) {
+        return switch (value) {
+            case 0 -> BEFORE_AM;
+            case 1 -> AM;
+            default -> throw new DateTimeException("Invalid era: " + value);
+        };
+    }
+
+    /**
+     * Returns the value of this era.
+     *
+     * @return 0 for BEFORE_AM, 1 for AM
+     */
+    @Override
+    public int getValue() {
+        return ordinal();
+    }
+
+    /**
+     * Returns the name of this era.
+     *
+     * @param style the style of the text, ignored
+     * @param locale the locale, ignored
+     * @return the name of this era, not null
+     */
+    @Override
+    public String getDisplayName(TextStyle style, Locale locale) {
+        return name();
+    }
+}
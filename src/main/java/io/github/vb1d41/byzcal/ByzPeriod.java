@@ -0,0 +1,199 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+/**
+ * An amount of time in years, months and days, in the Byzantine calendar.
+ *
+ * This class is immutable and thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzPeriod {
+
+    /**
+     * The period of zero.
+     */
+    public static final ByzPeriod ZERO = new ByzPeriod(0, 0, 0);
+
+    private final int years;
+    private final int months;
+    private final int days;
+
+    /**
+     * Creates a period.
+     *
+     * @param years the number of years
+     * @param months the number of months
+     * @param days the number of days
+     * @return the period, not null
+     */
+    public static ByzPeriod of(int years, int months, int days) {
+        return (years | months | days) == 0 ? ZERO : new ByzPeriod(years, months, days);
+    }
+
+    /**
+     * Returns the period from the start date to the end date.
+     *
+     * The period is the whole months (as years and months) and then the
+     * remaining days, as in {@link ByzDate#monthsUntil(ByzDate)}. If the end
+     * date is not before the start date, adding the period to the start date
+     * gives the end date. A negative period is computed as by
+     * LocalDate.until, and adding it may miss the end date when a month is
+     * pinned: from MARCH 31 to FEBRUARY 28 is P-1M-3D, which added to MARCH 31
+     * gives FEBRUARY 25.
+     *
+     * @param start the start date, not null
+     * @param endExclusive the end date, not null
+     * @return the period, negative if the end date is before the start date
+     */
+    public static ByzPeriod between(ByzDate start, ByzDate endExclusive) {
+        assert start != null && endExclusive != null;
+
+        long totalMonths = endExclusive.prolepticMonth() - start.prolepticMonth();
+        int days = endExclusive.dayOfMonth() - start.dayOfMonth();
+        if (totalMonths > 0 && days < 0) {
+            totalMonths--;
+            var date = start.addMonths(Math.toIntExact(totalMonths));
+            days = (int) date.daysUntil(endExclusive);
+        } else if (totalMonths < 0 && days > 0) {
+            totalMonths++;
+            days -= ByzYearTable.lengthOfMonth(endExclusive.year(), endExclusive.month().ordinal());
+        }
+        return of(Math.toIntExact(totalMonths / 12), (int) (totalMonths % 12), days);
+    }
+
+    /**
+     * Returns the number of years of this period.
+     *
+     * @return the number of years
+     */
+    public int years() {
+        return this.years;
+    }
+
+    /**
+     * Returns the number of months of this period.
+     *
+     * @return the number of months
+     */
+    public int months() {
+        return this.months;
+    }
+
+    /**
+     * Returns the number of days of this period.
+     *
+     * @return the number of days
+     */
+    public int days() {
+        return this.days;
+    }
+
+    /**
+     * Returns the number of months of the years and the months of this period.
+     *
+     * @return the number of months
+     */
+    public long toTotalMonths() {
+        return this.years * 12L + this.months;
+    }
+
+    /**
+     * Checks if this period is zero.
+     *
+     * @return true if the years, the months and the days are zero
+     */
+    public boolean isZero() {
+        return this == ZERO;
+    }
+
+    /**
+     * Adds this period to the date.
+     *
+     * The years and the months are added first, with the day of the month
+     * pinned to the end of the month, then the days.
+     *
+     * @param date the Byzantine date, not null
+     * @return the Byzantine date, not null
+     */
+    public ByzDate addTo(ByzDate date) {
+        assert date != null;
+
+        var result = date;
+        long totalMonths = toTotalMonths();
+        if (totalMonths != 0)
+            result = result.addMonths(Math.toIntExact(totalMonths));
+        if (this.days != 0)
+            result = result.addDays(this.days);
+        return result;
+    }
+
+    /**
+     * Checks if this object is equal to the other object.
+     *
+     * @param other the object to check
+     * @return true if the other is a period of the same amounts
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other != null
+            && getClass() == other.getClass()
+            && this.years == ((ByzPeriod) other).years
+            && this.months == ((ByzPeriod) other).months
+            && this.days == ((ByzPeriod) other).days;
+    }
+
+    /**
+     * Returns a hash code for this period.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return this.years + Integer.rotateLeft(this.months, 8) + Integer.rotateLeft(this.days, 16);
+    }
+
+    /**
+     * Returns a string representation of this period, in the ISO-8601 form.
+     *
+     * For example, P1Y5M28D.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        if (isZero())
+            return "P0D";
+
+        var builder = new StringBuilder("P");
+        if (this.years != 0)
+            builder.append(this.years).append('Y');
+        if (this.months != 0)
+            builder.append(this.months).append('M');
+        if (this.days != 0)
+            builder.append(this.days).append('D');
+        return builder.toString();
+    }
+
+    private ByzPeriod(int years, int months, int days) {
+        this.years = years;
+        this.months = months;
+        this.days = days;
+    }
+}
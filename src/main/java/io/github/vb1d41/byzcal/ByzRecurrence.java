@@ -0,0 +1,444 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A rule of recurring Byzantine dates.
+ *
+ * A rule selects the dates in some months, on a day of the month, on some
+ * days of the week, or on the nth day of the week of the month; then the
+ * selected date can be moved to a day of the week and by a number of days.
+ * For example, every Fifth day which falls on the 1st of a month:
+ * <pre>
+ * ByzRecurrence.daily().onDayOfMonth(1).onDaysOfWeek(ByzDayOfWeek.FIFTH)
+ * </pre>
+ * and the Lordsday nearest September 14 of every year:
+ * <pre>
+ * ByzRecurrence.yearly(ByzMonth.SEPTEMBER, 14).adjustedTo(Adjustment.NEAREST, ByzDayOfWeek.LORDSDAY)
+ * </pre>
+ *
+ * The next date is found month by month with the calendar arithmetic, the
+ * days between are not visited. The days of the week and the months repeat
+ * every 28 years, so a rule with no date in 28 years has no date at all.
+ *
+ * This class is immutable and thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzRecurrence {
+
+    private static final int ALL_MONTHS = (1 << 12) - 1;
+    private static final int ALL_DAYS_OF_WEEK = (1 << 7) - 1;
+
+    // the day of the month or the nth day of the week is not set
+    private static final int ANY = 0;
+
+    // the months of the 28-year cycle, and one more
+    private static final int MAX_MONTHS = 28 * 12 + 1;
+
+    // the largest move of an adjustment
+    private static final int MAX_ADJUSTMENT = 7;
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private static final ByzRecurrence DAILY =
+        new ByzRecurrence(ALL_MONTHS, ANY, ALL_DAYS_OF_WEEK, ANY, null, null, 0);
+
+    /**
+     * The move of a selected date to a day of the week.
+     */
+    public enum Adjustment {
+        /**
+         * The first day of the week on or after the date.
+         */
+        ON_OR_AFTER,
+        /**
+         * The first day of the week after the date.
+         */
+        AFTER,
+        /**
+         * The last day of the week on or before the date.
+         */
+        ON_OR_BEFORE,
+        /**
+         * The last day of the week before the date.
+         */
+        BEFORE,
+        /**
+         * The day of the week nearest to the date, at most three days away.
+         */
+        NEAREST
+    }
+
+    private final int months; // the bits of the ordinals of ByzMonth
+    private final int dayOfMonth; // 1 to 31, -1 is the last day, or ANY
+    private final int daysOfWeek; // the bits of the ordinals of ByzDayOfWeek
+    private final int nth; // 1 to 5, -1 is the last one, or ANY
+    private final Adjustment adjustment;
+    private final ByzDayOfWeek adjustmentDay;
+    private final int offset; // the days added at the end
+
+    /**
+     * Returns the rule of every day.
+     *
+     * @return the rule, not null
+     */
+    public static ByzRecurrence daily() {
+        return DAILY;
+    }
+
+    /**
+     * Returns the rule of a day of every year.
+     *
+     * February 29 occurs in the leap years only.
+     *
+     * @param month the Byzantine month, not null
+     * @param dayOfMonth the day of the month
+     * @return the rule, not null
+     */
+    public static ByzRecurrence yearly(ByzMonth month, int dayOfMonth) {
+        return DAILY.inMonths(month).onDayOfMonth(dayOfMonth);
+    }
+
+    /**
+     * Returns a copy of this rule limited to the months.
+     *
+     * @param months the Byzantine months, not empty
+     * @return the rule, not null
+     */
+    public ByzRecurrence inMonths(ByzMonth... months) {
+        assert months != null && months.length > 0;
+
+        int bits = 0;
+        for (var month : months)
+            bits |= 1 << month.ordinal();
+        return new ByzRecurrence(bits, this.dayOfMonth, this.daysOfWeek, this.nth,
+            this.adjustment, this.adjustmentDay, this.offset);
+    }
+
+    /**
+     * Returns a copy of this rule limited to the day of the month.
+     *
+     * A month shorter than the day has no date.
+     *
+     * @param dayOfMonth the day of the month, from 1 to 31, or -1 for the last day
+     * @return the rule, not null
+     */
+    public ByzRecurrence onDayOfMonth(int dayOfMonth) {
+        assert dayOfMonth >= 1 && dayOfMonth <= 31 || dayOfMonth == -1;
+
+        return new ByzRecurrence(this.months, dayOfMonth, this.daysOfWeek, this.nth,
+            this.adjustment, this.adjustmentDay, this.offset);
+    }
+
+    /**
+     * Returns a copy of this rule limited to the days of the week.
+     *
+     * @param daysOfWeek the Byzantine days of the week, not empty
+     * @return the rule, not null
+     */
+    public ByzRecurrence onDaysOfWeek(ByzDayOfWeek... daysOfWeek) {
+        assert daysOfWeek != null && daysOfWeek.length > 0;
+        assert this.nth == ANY;
+
+        int bits = 0;
+        for (var dayOfWeek : daysOfWeek)
+            bits |= 1 << dayOfWeek.ordinal();
+        return new ByzRecurrence(this.months, this.dayOfMonth, bits, ANY,
+            this.adjustment, this.adjustmentDay, this.offset);
+    }
+
+    /**
+     * Returns a copy of this rule limited to the nth day of the week of the
+     * month, for example the second Lordsday.
+     *
+     * @param nth from 1 to 5, or from -1 (the last) to -5
+     * @param dayOfWeek the Byzantine day of the week, not null
+     * @return the rule, not null
+     */
+    public ByzRecurrence onNthDayOfWeek(int nth, ByzDayOfWeek dayOfWeek) {
+        assert nth != 0 && nth >= -5 && nth <= 5;
+        assert dayOfWeek != null;
+
+        return new ByzRecurrence(this.months, this.dayOfMonth, 1 << dayOfWeek.ordinal(), nth,
+            this.adjustment, this.adjustmentDay, this.offset);
+    }
+
+    /**
+     * Returns a copy of this rule which moves the selected dates to the day
+     * of the week.
+     *
+     * @param adjustment the move, not null
+     * @param dayOfWeek the Byzantine day of the week, not null
+     * @return the rule, not null
+     */
+    public ByzRecurrence adjustedTo(Adjustment adjustment, ByzDayOfWeek dayOfWeek) {
+        assert adjustment != null;
+        assert dayOfWeek != null;
+
+        return new ByzRecurrence(this.months, this.dayOfMonth, this.daysOfWeek, this.nth,
+            adjustment, dayOfWeek, this.offset);
+    }
+
+    /**
+     * Returns a copy of this rule which adds the days to the dates, after
+     * the adjustment.
+     *
+     * @param days the number of days, may be negative
+     * @return the rule, not null
+     */
+    public ByzRecurrence plusDays(int days) {
+        return new ByzRecurrence(this.months, this.dayOfMonth, this.daysOfWeek, this.nth,
+            this.adjustment, this.adjustmentDay, Math.addExact(this.offset, days));
+    }
+
+    /**
+     * Checks if the date is a date of this rule.
+     *
+     * @param date the Byzantine date, not null
+     * @return true if the date is a date of this rule
+     */
+    public boolean matches(ByzDate date) {
+        assert date != null;
+
+        return nextOrSame(date.toEpochDay()) == date.toEpochDay();
+    }
+
+    /**
+     * Returns the first date of this rule on or after the date.
+     *
+     * @param date the Byzantine date, not null
+     * @return the Byzantine date, or null if there is none
+     */
+    public ByzDate nextOrSame(ByzDate date) {
+        assert date != null;
+
+        return toDate(nextOrSame(date.toEpochDay()));
+    }
+
+    /**
+     * Returns the first date of this rule after the date.
+     *
+     * @param date the Byzantine date, not null
+     * @return the Byzantine date, or null if there is none
+     */
+    public ByzDate next(ByzDate date) {
+        assert date != null;
+
+        return toDate(nextOrSame(date.toEpochDay() + 1));
+    }
+
+    /**
+     * Returns a sequential ordered stream of the dates of this rule in the
+     * range.
+     *
+     * @param range the range of the dates, not null
+     * @return the stream of the dates, not null
+     */
+    public Stream<ByzDate> occurrences(ByzDateRange range) {
+        var spliterator = Spliterators.spliteratorUnknownSize(iterator(range),
+            Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED
+                | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Returns an iterator over the dates of this rule in the range.
+     *
+     * @param range the range of the dates, not null
+     * @return the iterator, not null
+     */
+    public Iterator<ByzDate> iterator(ByzDateRange range) {
+        assert range != null;
+
+        return new Occurrences(range.start().toEpochDay(), range.end().toEpochDay());
+    }
+
+    /**
+     * Checks if this object is equal to the other object.
+     *
+     * @param other the object to check
+     * @return true if the other is the same rule
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == null || getClass() != other.getClass())
+            return false;
+
+        var rule = (ByzRecurrence) other;
+        return this.months == rule.months
+            && this.dayOfMonth == rule.dayOfMonth
+            && this.daysOfWeek == rule.daysOfWeek
+            && this.nth == rule.nth
+            && this.adjustment == rule.adjustment
+            && this.adjustmentDay == rule.adjustmentDay
+            && this.offset == rule.offset;
+    }
+
+    /**
+     * Returns a hash code for this rule.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        int hash = this.months;
+        hash = 31 * hash + this.dayOfMonth;
+        hash = 31 * hash + this.daysOfWeek;
+        hash = 31 * hash + this.nth;
+        hash = 31 * hash + (this.adjustment == null ? 0 : this.adjustment.hashCode());
+        hash = 31 * hash + (this.adjustmentDay == null ? 0 : this.adjustmentDay.hashCode());
+        return 31 * hash + this.offset;
+    }
+
+    // the first epoch day of this rule on or after the epoch day, or NONE
+    private long nextOrSame(long epochDay) {
+        // an adjustment moves a date back by at most a week
+        long selected = nextSelected(epochDay - this.offset - MAX_ADJUSTMENT);
+        while (selected != NONE) {
+            long date = adjust(selected) + this.offset;
+            if (date >= epochDay)
+                return date;
+            selected = nextSelected(selected + 1);
+        }
+        return NONE;
+    }
+
+    // the first selected epoch day on or after the epoch day, or NONE
+    private long nextSelected(long epochDay) {
+        long fields = ByzYearTable.fields(epochDay);
+        int year = ByzYearTable.year(fields);
+        int month = ByzYearTable.month(fields);
+        int fromDay = ByzYearTable.dayOfMonth(fields);
+
+        for (int i = 0; i < MAX_MONTHS; i++) {
+            if ((this.months & 1 << month) != 0) {
+                long first = ByzYearTable.toEpochDay(year, month, 1);
+                int day = selectedDay(first, ByzYearTable.lengthOfMonth(year, month), fromDay);
+                if (day != ANY)
+                    return first + day - 1;
+            }
+            if (++month == 12) {
+                month = 0;
+                year++;
+            }
+            fromDay = 1;
+        }
+        return NONE;
+    }
+
+    // the first selected day of the month on or after the day, or ANY
+    private int selectedDay(long first, int length, int fromDay) {
+        int firstDayOfWeek = ByzYearTable.dayOfWeek(first);
+        int day;
+
+        if (this.nth > 0) {
+            int dayOfWeek = Integer.numberOfTrailingZeros(this.daysOfWeek);
+            day = 1 + Math.floorMod(dayOfWeek - firstDayOfWeek, 7) + 7 * (this.nth - 1);
+        } else if (this.nth < 0) {
+            int dayOfWeek = Integer.numberOfTrailingZeros(this.daysOfWeek);
+            int lastDayOfWeek = (firstDayOfWeek + length - 1) % 7;
+            day = length - Math.floorMod(lastDayOfWeek - dayOfWeek, 7) + 7 * (this.nth + 1);
+        } else if (this.dayOfMonth != ANY) {
+            day = this.dayOfMonth > 0 ? this.dayOfMonth : length;
+            if (!hasDayOfWeek((firstDayOfWeek + day - 1) % 7))
+                return ANY;
+        } else {
+            // the next day of the week in the set
+            day = fromDay;
+            while (!hasDayOfWeek((firstDayOfWeek + day - 1) % 7))
+                day++;
+        }
+
+        boolean inMonth = day >= Math.max(1, fromDay) && day <= length;
+        boolean onDay = this.dayOfMonth == ANY || this.nth == ANY
+            || day == (this.dayOfMonth > 0 ? this.dayOfMonth : length);
+        return inMonth && onDay ? day : ANY;
+    }
+
+    private boolean hasDayOfWeek(int dayOfWeek) {
+        return (this.daysOfWeek & 1 << dayOfWeek) != 0;
+    }
+
+    private long adjust(long epochDay) {
+        if (this.adjustment == null)
+            return epochDay;
+
+        int from = ByzYearTable.dayOfWeek(epochDay);
+        int to = this.adjustmentDay.ordinal();
+        return switch (this.adjustment) {
+            case ON_OR_AFTER -> epochDay + Math.floorMod(to - from, 7);
+            case AFTER -> epochDay + Math.floorMod(to - from - 1, 7) + 1;
+            case ON_OR_BEFORE -> epochDay - Math.floorMod(from - to, 7);
+            case BEFORE -> epochDay - Math.floorMod(from - to - 1, 7) - 1;
+            case NEAREST -> {
+                int days = Math.floorMod(to - from, 7);
+                yield epochDay + (days <= 3 ? days : days - 7);
+            }
+        };
+    }
+
+    private static ByzDate toDate(long epochDay) {
+        return epochDay == NONE ? null : ByzDate.ofEpochDay(epochDay);
+    }
+
+    private ByzRecurrence(int months, int dayOfMonth, int daysOfWeek, int nth,
+            Adjustment adjustment, ByzDayOfWeek adjustmentDay, int offset) {
+        this.months = months;
+        this.dayOfMonth = dayOfMonth;
+        this.daysOfWeek = daysOfWeek;
+        this.nth = nth;
+        this.adjustment = adjustment;
+        this.adjustmentDay = adjustmentDay;
+        this.offset = offset;
+    }
+
+    // the dates from start (inclusive) to end (exclusive)
+    private final class Occurrences implements Iterator<ByzDate> {
+
+        private long next;
+        private final long end;
+
+        Occurrences(long start, long end) {
+            this.next = nextOrSame(start);
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != NONE && this.next < this.end;
+        }
+
+        @Override
+        public ByzDate next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            long date = this.next;
+            this.next = nextOrSame(date + 1);
+            return ByzDate.ofEpochDay(date);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The current date in a time zone.
+ *
+ * The holder keeps the date and the instants of its first and next
+ * midnight; a time in the same day is answered with one comparison. The
+ * day is recomputed when the time falls outside it, forwards at midnight,
+ * or backwards when the clock is set back. The day is an immutable object
+ * replaced as a whole, so concurrent callers see either the old day or the
+ * new one, and check it against their own time.
+ *
+ * This class is thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+final class ByzToday {
+
+    // the holders by the time zone
+    private static final ConcurrentMap<ZoneId, ByzToday> HOLDERS = new ConcurrentHashMap<>();
+
+    // the holder of the last lookup, usually of the only zone in use
+    private static volatile ByzToday recent = new ByzToday(ZoneOffset.UTC);
+
+    private final ZoneId zone;
+    private Day day;
+
+    // the holder of the time zone
+    static ByzToday of(ZoneId zone) {
+        var holder = recent;
+        if (holder.zone.equals(zone))
+            return holder;
+
+        holder = HOLDERS.computeIfAbsent(zone, ByzToday::new);
+        recent = holder;
+        return holder;
+    }
+
+    // the date of the time
+    ByzDate today(long epochMilli) {
+        var day = this.day;
+        if (epochMilli < day.start || epochMilli >= day.end) {
+            day = dayOf(epochMilli);
+            this.day = day;
+        }
+        return day.date;
+    }
+
+    private Day dayOf(long epochMilli) {
+        var date = LocalDate.ofInstant(Instant.ofEpochMilli(epochMilli), this.zone);
+        // a zone may skip midnight, then the day starts at the end of the gap
+        long start = date.atStartOfDay(this.zone).toInstant().toEpochMilli();
+        long end = date.plusDays(1).atStartOfDay(this.zone).toInstant().toEpochMilli();
+        return new Day(ByzDate.ofEpochDay(date.toEpochDay()), start, end);
+    }
+
+    private ByzToday(ZoneId zone) {
+        this.zone = zone;
+        this.day = new Day(null, 0, 0); // empty, filled on first use
+    }
+
+    // the date of the instants from start (inclusive) to end (exclusive)
+    private static final class Day {
+
+        final ByzDate date;
+        final long start;
+        final long end;
+
+        Day(ByzDate date, long start, long end) {
+            this.date = date;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+/**
+ * Conversion between epoch days and Byzantine date fields.
+ *
+ * The first days of the years 7000 to 8000 are kept in a table, which is
+ * built on first use. A date in these years is decoded with a table lookup,
+ * any other date with the Julian calendar arithmetic. The window is set with
+ * the system properties io.github.vb1d41.byzcal.tableMinYear and
+ * io.github.vb1d41.byzcal.tableMaxYear.
+ *
+ * Months are given as ordinals of ByzMonth, September is 0.
+ *
+ * @version 1.3.0
+ */
+final class ByzYearTable {
+
+    static final String MIN_YEAR_PROPERTY = "io.github.vb1d41.byzcal.tableMinYear";
+    static final String MAX_YEAR_PROPERTY = "io.github.vb1d41.byzcal.tableMaxYear";
+
+    // the Byzantine year begins on September 1 of this Julian year
+    private static final int YEAR_OFFSET = 5509;
+
+    private static final int DAYS_PER_4_YEARS = 1_461;
+
+    // the days from September 1 to the first day of the month
+    private static final int[][] MONTH_STARTS = {
+        { 0, 30, 61, 91, 122, 153, 181, 212, 242, 273, 303, 334, 365 },
+        { 0, 30, 61, 91, 122, 153, 182, 213, 243, 274, 304, 335, 366 }
+    };
+
+    // the month of the day of the year
+    private static final byte[][] MONTHS_OF_DAYS = {
+        monthsOfDays(MONTH_STARTS[0]),
+        monthsOfDays(MONTH_STARTS[1])
+    };
+
+    // the ordinals of ByzMonth, by the Julian month [1,12]
+    private static final byte[] BYZ_MONTHS = { 0, 4, 5, 6, 7, 8, 9, 10, 11, 0, 1, 2, 3 };
+
+    private ByzYearTable() {
+    }
+
+    // packs the Byzantine year, month and day of the month into a long
+    public static long fields(long epochDay) {
+        int[] starts = Table.YEAR_STARTS;
+        int last = starts.length - 2;
+        long offset = epochDay - starts[0];
+
+        if (offset < 0 || epochDay >= starts[last + 1])
+            return julianFields(epochDay);
+
+        int i = (int) Math.min(offset * 4 / DAYS_PER_4_YEARS, last);
+        if (epochDay < starts[i])
+            i--;
+        else if (epochDay >= starts[i + 1])
+            i++;
+
+        int dayOfYear = (int) (epochDay - starts[i]);
+        int leap = starts[i + 1] - starts[i] - 365;
+        int month = MONTHS_OF_DAYS[leap][dayOfYear];
+        int dayOfMonth = dayOfYear - MONTH_STARTS[leap][month] + 1;
+
+        return pack(Table.MIN_YEAR + i, month, dayOfMonth);
+    }
+
+    public static int year(long fields) {
+        return (int) (fields >> 16);
+    }
+
+    public static int month(long fields) {
+        return (int) (fields >>> 8 & 0xFF);
+    }
+
+    public static int dayOfMonth(long fields) {
+        return (int) (fields & 0xFF);
+    }
+
+    // the ordinal of ByzDayOfWeek
+    public static int dayOfWeek(long epochDay) {
+        // the Epoch is Fifth day
+        return (int) Math.floorMod(epochDay + 4, 7L);
+    }
+
+    // dayOfMonth is lenient
+    public static long toEpochDay(int year, int month, int dayOfMonth) {
+        int leap = isLeapYear(year) ? 1 : 0;
+        return yearStart(year) + MONTH_STARTS[leap][month] + dayOfMonth - 1;
+    }
+
+    // the epoch day of September 1
+    public static long yearStart(int year) {
+        if (isInTable(year))
+            return Table.YEAR_STARTS[year - Table.MIN_YEAR];
+        return JulGreCalendar.julianToEpochDay(year - YEAR_OFFSET, 9, 1);
+    }
+
+    // checks if the dates of the year are decoded with the table
+    public static boolean isInTable(int year) {
+        return year >= Table.MIN_YEAR && year <= Table.MAX_YEAR;
+    }
+
+    public static boolean isLeapYear(int year) {
+        // the year has February of the Julian year year - 5508
+        return (year & 3) == 0;
+    }
+
+    public static int lengthOfMonth(int year, int month) {
+        int leap = isLeapYear(year) ? 1 : 0;
+        return MONTH_STARTS[leap][month + 1] - MONTH_STARTS[leap][month];
+    }
+
+    public static int lengthOfYear(int year) {
+        return isLeapYear(year) ? 366 : 365;
+    }
+
+    // the year of the indiction cycle, from 1 to 15
+    public static int indiction(int year) {
+        return Math.floorMod(year - 1, 15) + 1;
+    }
+
+    // the year of the solar cycle, from 1 to 28
+    public static int solarCycle(int year) {
+        return Math.floorMod(year - 1, 28) + 1;
+    }
+
+    // the year of the lunar cycle, from 1 to 19
+    public static int lunarCycle(int year) {
+        return Math.floorMod(year - 1, 19) + 1;
+    }
+
+    // the golden number of the Julian year of March, from 1 to 19
+    public static int goldenNumber(int year) {
+        return Math.floorMod(year + 2, 19) + 1;
+    }
+
+    // the day of the year of the date in the year, from 1 to 366
+    public static int dayOfYear(long epochDay, int year) {
+        return (int) (epochDay - yearStart(year)) + 1;
+    }
+
+    // the week of the year, from 1 to 53, the first week starts on September 1
+    public static int weekOfYear(int dayOfYear) {
+        return (dayOfYear - 1) / 7 + 1;
+    }
+
+    // the letter A to G of the first Sunday of January, 0 to 6
+    public static int dominicalLetter(int year) {
+        long january1 = toEpochDay(year, ByzMonth.JANUARY.ordinal(), 1);
+        return (7 - dayOfWeek(january1)) % 7;
+    }
+
+    private static long julianFields(long epochDay) {
+        long fields = JulGreCalendar.julianFields(epochDay);
+        int calMonth = JulGreCalendar.monthValue(fields);
+        int year = JulGreCalendar.year(fields) + (calMonth >= 9 ? YEAR_OFFSET : YEAR_OFFSET - 1);
+
+        return pack(year, BYZ_MONTHS[calMonth], JulGreCalendar.dayOfMonth(fields));
+    }
+
+    private static long pack(int year, int month, int dayOfMonth) {
+        return (long) year << 16 | month << 8 | dayOfMonth;
+    }
+
+    private static byte[] monthsOfDays(int[] monthStarts) {
+        var months = new byte[monthStarts[12]];
+        for (int month = 0; month < 12; month++) {
+            for (int day = monthStarts[month]; day < monthStarts[month + 1]; day++)
+                months[day] = (byte) month;
+        }
+        return months;
+    }
+
+    // the holder of the table, initialized on first use
+    private static final class Table {
+
+        static final int MIN_YEAR = Integer.getInteger(MIN_YEAR_PROPERTY, 7000);
+        static final int MAX_YEAR = Math.max(MIN_YEAR, Integer.getInteger(MAX_YEAR_PROPERTY, 8000));
+
+        // the first days of the years, and of the year after the window;
+        // the difference of two starts is the length of the year
+        static final int[] YEAR_STARTS = buildYearStarts();
+
+        private static int[] buildYearStarts() {
+            var starts = new int[MAX_YEAR - MIN_YEAR + 2];
+            for (int i = 0; i < starts.length; i++) {
+                long start = JulGreCalendar.julianToEpochDay(MIN_YEAR + i - YEAR_OFFSET, 9, 1);
+                starts[i] = Math.toIntExact(start);
+            }
+            return starts;
+        }
+    }
+}
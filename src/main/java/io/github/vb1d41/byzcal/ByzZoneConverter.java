@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * Converts instants to Byzantine dates in a time zone.
+ *
+ * The converter keeps the period between the two offset transitions of the
+ * last instant converted. An instant in the same period is converted with
+ * the cached offset, without looking up the rules of the zone.
+ *
+ * This class is thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class ByzZoneConverter {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+
+    // replaced as a whole, so a racy read sees a consistent period
+    private Period period;
+
+    /**
+     * Creates a converter for the time zone.
+     *
+     * @param zone the time zone, not null
+     * @return the converter, not null
+     */
+    public static ByzZoneConverter of(ZoneId zone) {
+        assert zone != null;
+
+        return new ByzZoneConverter(zone);
+    }
+
+    /**
+     * Returns the time zone of this converter.
+     *
+     * @return the time zone, not null
+     */
+    public ZoneId zone() {
+        return this.zone;
+    }
+
+    /**
+     * Returns the date of the instant in the time zone.
+     *
+     * @param instant the instant, not null
+     * @return the Byzantine date, not null
+     */
+    public ByzDate toByzDate(Instant instant) {
+        assert instant != null;
+
+        return toByzDate(instant.toEpochMilli());
+    }
+
+    /**
+     * Returns the date of the instant in the time zone.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00:00Z
+     * @return the Byzantine date, not null
+     */
+    public ByzDate toByzDate(long epochMilli) {
+        return ByzDate.ofEpochDay(toEpochDay(epochMilli));
+    }
+
+    /**
+     * Returns the epoch day of the instant in the time zone.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00:00Z
+     * @return the number of days from January 1, 1970 (Gregorian)
+     */
+    public long toEpochDay(long epochMilli) {
+        var period = this.period;
+        if (epochMilli < period.start || epochMilli >= period.end) {
+            period = periodOf(epochMilli);
+            this.period = period;
+        }
+        return Math.floorDiv(epochMilli + period.offset, MILLIS_PER_DAY);
+    }
+
+    /**
+     * Converts the instants to packed dates in the time zone.
+     *
+     * @param epochMillis the milliseconds from 1970-01-01T00:00:00Z, not null
+     * @param outPacked the packed dates, see {@link ByzDate#toPacked()}, not null
+     */
+    public void toPacked(long[] epochMillis, int[] outPacked) {
+        assert epochMillis != null && outPacked != null;
+        assert outPacked.length >= epochMillis.length;
+
+        for (int i = 0; i < epochMillis.length; i++)
+            outPacked[i] = Math.toIntExact(toEpochDay(epochMillis[i]));
+    }
+
+    /**
+     * Returns a string representation of this converter.
+     *
+     * For example, ByzZoneConverter[Europe/Athens].
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return "ByzZoneConverter[" + this.zone + "]";
+    }
+
+    // the offset of the instant in milliseconds
+    static long offsetMillis(ZoneRules rules, Instant instant) {
+        return rules.getOffset(instant).getTotalSeconds() * 1000L;
+    }
+
+    private Period periodOf(long epochMilli) {
+        var instant = Instant.ofEpochMilli(epochMilli);
+        // the nanosecond makes a transition at the instant the previous one
+        ZoneOffsetTransition previous = this.rules.previousTransition(instant.plusNanos(1));
+        ZoneOffsetTransition next = this.rules.nextTransition(instant);
+
+        long start = previous == null ? Long.MIN_VALUE : previous.toEpochSecond() * 1000;
+        long end = next == null ? Long.MAX_VALUE : next.toEpochSecond() * 1000;
+        return new Period(start, end, offsetMillis(this.rules, instant));
+    }
+
+    private ByzZoneConverter(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.period = new Period(0, 0, 0); // empty, filled on first use
+    }
+
+    // the instants from start (inclusive) to end (exclusive) with one offset
+    private static final class Period {
+
+        final long start;
+        final long end;
+        final long offset;
+
+        Period(long start, long end, long offset) {
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+        }
+    }
+}
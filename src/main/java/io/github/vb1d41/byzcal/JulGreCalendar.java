@@ -16,94 +16,101 @@
 
 package io.github.vb1d41.byzcal;
 
-import java.time.DayOfWeek;
-import java.time.Month;
-
-import java.util.Calendar;
-import java.util.Date;
-import java.util.GregorianCalendar;
-import java.util.Locale;
-import java.util.TimeZone;
-
 /**
- * @version 1.2.0
+ * Integer arithmetic on the Julian and Gregorian calendars.
+ *
+ * Dates are counted in epoch days, the number of days from
+ * January 1, 1970 (Gregorian). Nothing is allocated.
+ *
+ * @version 1.3.0
  */
 final class JulGreCalendar {
 
-    private final GregorianCalendar calendar;
+    // October 15, 1582, the first day of the Gregorian calendar
+    static final long GREGORIAN_CUTOVER = -141_427L;
 
-    public JulGreCalendar() {
-        this.calendar = makeCalendar();
-        this.calendar.clear();
-    }
+    // the days from March 1, 0000 to the Epoch
+    private static final long JULIAN_OFFSET = 719_470L;
+    private static final long GREGORIAN_OFFSET = 719_468L;
 
-    public void set(int year, Month month, int dayOfMonth) {
-        set(year, month.getValue(), dayOfMonth);
-    }
+    private static final int DAYS_PER_4_YEARS = 1_461;
+    private static final int DAYS_PER_400_YEARS = 146_097;
 
-    // month [1,12]
-    public void set(int year, int month, int dayOfMonth) {
-        this.calendar.set(year, month - 1, dayOfMonth);
+    private JulGreCalendar() {
     }
 
-    public void set(long milliseconds) {
-        this.calendar.setTimeInMillis(milliseconds);
-    }
+    // month [1,12], dayOfMonth is lenient
+    public static long julianToEpochDay(int year, int month, int dayOfMonth) {
+        long y = year;
+        long m = month;
+        if (m <= 2)
+            y--;
 
-    public void switchToPureJulian() {
-        var maxDate = new Date(Long.MAX_VALUE);
-        this.calendar.setGregorianChange(maxDate);
-    }
+        long cycle = Math.floorDiv(y, 4);
+        long yearOfCycle = y - cycle * 4;
+        long dayOfCycle = yearOfCycle * 365 + dayOfMarchYear(m);
 
-    public int year() {
-        return this.calendar.get(Calendar.YEAR);
+        return cycle * DAYS_PER_4_YEARS + dayOfCycle - JULIAN_OFFSET + dayOfMonth - 1;
     }
 
-    public Month month() {
-        return Month.of(this.calendar.get(Calendar.MONTH) + 1);
-    }
+    // month [1,12], dayOfMonth is lenient
+    public static long gregorianToEpochDay(int year, int month, int dayOfMonth) {
+        long y = year;
+        long m = month;
+        if (m <= 2)
+            y--;
 
-    public int dayOfMonth() {
-        return this.calendar.get(Calendar.DAY_OF_MONTH);
+        long cycle = Math.floorDiv(y, 400);
+        long yearOfCycle = y - cycle * 400;
+        long dayOfCycle = yearOfCycle * 365 + yearOfCycle / 4 - yearOfCycle / 100
+            + dayOfMarchYear(m);
+
+        return cycle * DAYS_PER_400_YEARS + dayOfCycle - GREGORIAN_OFFSET + dayOfMonth - 1;
     }
 
-    public DayOfWeek dayOfWeek() {
-        DayOfWeek dayOfWeek = switch(this.calendar.get(Calendar.DAY_OF_WEEK)) {
-            case Calendar.SUNDAY -> DayOfWeek.SUNDAY;
-            case Calendar.MONDAY -> DayOfWeek.MONDAY;
-            case Calendar.TUESDAY -> DayOfWeek.TUESDAY;
-            case Calendar.WEDNESDAY -> DayOfWeek.WEDNESDAY;
-            case Calendar.THURSDAY -> DayOfWeek.THURSDAY;
-            case Calendar.FRIDAY -> DayOfWeek.FRIDAY;
-            case Calendar.SATURDAY -> DayOfWeek.SATURDAY;
-            default -> null;
-        };
-        assert dayOfWeek != null;
-        return dayOfWeek;
+    // the Julian calendar is used before the cutover, as in GregorianCalendar
+    public static long hybridToEpochDay(int year, int month, int dayOfMonth) {
+        int y = year + Math.floorDiv(month - 1, 12);
+        int m = Math.floorMod(month - 1, 12) + 1;
+
+        long epochDay = gregorianToEpochDay(y, m, dayOfMonth);
+        if (epochDay >= GREGORIAN_CUTOVER)
+            return epochDay;
+        return julianToEpochDay(y, m, dayOfMonth);
     }
 
-    public long milliseconds() {
-        return this.calendar.getTimeInMillis();
+    // packs the Julian year, month and day of the month into a long
+    public static long julianFields(long epochDay) {
+        long z = epochDay + JULIAN_OFFSET;
+        long cycle = Math.floorDiv(z, DAYS_PER_4_YEARS);
+        long dayOfCycle = z - cycle * DAYS_PER_4_YEARS;
+        long yearOfCycle = (dayOfCycle - dayOfCycle / (DAYS_PER_4_YEARS - 1)) / 365;
+        long dayOfYear = dayOfCycle - yearOfCycle * 365; // from March 1
+
+        long marchMonth = (dayOfYear * 5 + 2) / 153; // [0,11], March is 0
+        long dayOfMonth = dayOfYear - (marchMonth * 153 + 2) / 5 + 1;
+        long month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        long year = cycle * 4 + yearOfCycle + (month <= 2 ? 1 : 0);
+
+        return year << 16 | month << 8 | dayOfMonth;
     }
 
-    public JulGreCalendar addYears(int years) {
-        this.calendar.add(Calendar.YEAR, years);
-        return this;
+    public static int year(long fields) {
+        return (int) (fields >> 16);
     }
 
-    public JulGreCalendar addMonths(int months) {
-        this.calendar.add(Calendar.MONTH, months);
-        return this;
+    // month [1,12]
+    public static int monthValue(long fields) {
+        return (int) (fields >>> 8 & 0xFF);
     }
 
-    public JulGreCalendar addDays(int days) {
-        this.calendar.add(Calendar.DAY_OF_MONTH, days);
-        return this;
+    public static int dayOfMonth(long fields) {
+        return (int) (fields & 0xFF);
     }
 
-    private static GregorianCalendar makeCalendar() {
-        var timeZone = TimeZone.getTimeZone("GMT0");
-        return new GregorianCalendar(timeZone, Locale.US);
+    // the days from March 1 to the first day of the month
+    private static long dayOfMarchYear(long month) {
+        long marchMonth = month > 2 ? month - 3 : month + 9;
+        return (marchMonth * 153 + 2) / 5;
     }
 }
-
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A precomputed calendar of a range of days, in a memory-mapped file.
+ *
+ * The file has a record per day, with the Byzantine year, month, day of
+ * the month and day of the week, and optionally the indiction and the
+ * days from Pascha. A lookup reads the record from the mapping, so the
+ * index needs no tables on startup, and the processes that map the same
+ * file share its pages.
+ *
+ * The file starts with a header of 32 bytes: the magic number, the format
+ * version, the bits of the columns, the size of a record, the first epoch
+ * day and the number of days. A record has the year (4 bytes), the month,
+ * the day of the month, the day of the week and the indiction (1 byte
+ * each), then the days from Pascha (2 bytes) and 2 unused bytes if this
+ * column is present. Numbers are big-endian.
+ *
+ * This class is immutable and thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class MappedByzCalendarIndex {
+
+    /**
+     * An optional column of the index.
+     */
+    public enum Column {
+        /**
+         * The indiction of the year, from 1 to 15.
+         */
+        INDICTION,
+        /**
+         * The number of days from Pascha of the year.
+         */
+        PASCHA_OFFSET
+    }
+
+    private static final int MAGIC = 0x42595A49; // "BYZI"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+
+    private static final int YEAR = 0;
+    private static final int MONTH = 4;
+    private static final int DAY_OF_MONTH = 5;
+    private static final int DAY_OF_WEEK = 6;
+    private static final int INDICTION = 7;
+    private static final int PASCHA_OFFSET = 8;
+
+    private static final ByzMonth[] MONTHS = ByzMonth.values();
+    private static final ByzDayOfWeek[] DAYS_OF_WEEK = ByzDayOfWeek.values();
+
+    private final MappedByteBuffer buffer;
+    private final Set<Column> columns;
+    private final int recordSize;
+    private final long firstEpochDay;
+    private final long count;
+
+    /**
+     * Writes an index of the range to the file.
+     *
+     * The file is created or replaced. A range which does not fit a mapped
+     * file of 2 GiB is rejected before the file is opened.
+     *
+     * @param file the path of the file, not null
+     * @param range the range of the days, not null
+     * @param columns the optional columns, not null
+     * @throws IllegalArgumentException if the range is too large
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, ByzDateRange range, Column... columns) throws IOException {
+        assert file != null && range != null && columns != null;
+
+        int bits = 0;
+        for (var column : columns)
+            bits |= 1 << column.ordinal();
+
+        int recordSize = recordSize(bits);
+        long count = range.length();
+        long size = HEADER_SIZE + count * recordSize;
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("The range is too large to map: " + range);
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            long firstEpochDay = range.start().toEpochDay();
+
+            out.putInt(MAGIC).putInt(VERSION).putInt(bits).putInt(recordSize)
+                .putLong(firstEpochDay).putLong(count);
+
+            for (long i = 0; i < count; i++)
+                writeRecord(out, (int) (HEADER_SIZE + i * recordSize), firstEpochDay + i, bits);
+            out.force();
+        }
+    }
+
+    /**
+     * Maps the index file.
+     *
+     * @param file the path of the file, not null
+     * @return the index, not null
+     * @throws IOException if the file cannot be read or is not an index
+     */
+    public static MappedByzCalendarIndex open(Path file) throws IOException {
+        assert file != null;
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE)
+                throw new IOException("Not a Byzantine calendar index: " + file);
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("The index is too large to map: " + file);
+
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int bits = buffer.getInt(8);
+            int recordSize = buffer.getInt(12);
+            long count = buffer.getLong(24);
+
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                    || recordSize != recordSize(bits) || count < 0
+                    || count > (size - HEADER_SIZE) / recordSize)
+                throw new IOException("Not a Byzantine calendar index: " + file);
+
+            return new MappedByzCalendarIndex(buffer, bits, recordSize, buffer.getLong(16), count);
+        }
+    }
+
+    /**
+     * Returns the first date of this index.
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate start() {
+        return ByzDate.ofEpochDay(this.firstEpochDay);
+    }
+
+    /**
+     * Returns the date after the last date of this index.
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate end() {
+        return ByzDate.ofEpochDay(this.firstEpochDay + this.count);
+    }
+
+    /**
+     * Returns the number of days of this index.
+     *
+     * @return the number of days
+     */
+    public long size() {
+        return this.count;
+    }
+
+    /**
+     * Checks if this index has the column.
+     *
+     * @param column the optional column, not null
+     * @return true if the index has the column
+     */
+    public boolean hasColumn(Column column) {
+        return this.columns.contains(column);
+    }
+
+    /**
+     * Checks if this index has the day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian)
+     * @return true if the day is in this index
+     */
+    public boolean contains(long epochDay) {
+        return epochDay >= this.firstEpochDay && epochDay - this.firstEpochDay < this.count;
+    }
+
+    /**
+     * Returns the date of the day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian), in this index
+     * @return the Byzantine date, not null
+     */
+    public ByzDate date(long epochDay) {
+        int offset = offset(epochDay);
+        return ByzDate.ofFields((int) epochDay, this.buffer.getInt(offset + YEAR),
+            this.buffer.get(offset + MONTH), this.buffer.get(offset + DAY_OF_MONTH));
+    }
+
+    /**
+     * Returns the year of the day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian), in this index
+     * @return the year in the Byzantine calendar
+     */
+    public int year(long epochDay) {
+        return this.buffer.getInt(offset(epochDay) + YEAR);
+    }
+
+    /**
+     * Returns the month of the day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian), in this index
+     * @return the Byzantine month, not null
+     */
+    public ByzMonth month(long epochDay) {
+        return MONTHS[this.buffer.get(offset(epochDay) + MONTH)];
+    }
+
+    /**
+     * Returns the day of the month of the day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian), in this index
+     * @return the day of the month
+     */
+    public int dayOfMonth(long epochDay) {
+        return this.buffer.get(offset(epochDay) + DAY_OF_MONTH);
+    }
+
+    /**
+     * Returns the day of the week of the day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian), in this index
+     * @return the Byzantine day of the week, not null
+     */
+    public ByzDayOfWeek dayOfWeek(long epochDay) {
+        return DAYS_OF_WEEK[this.buffer.get(offset(epochDay) + DAY_OF_WEEK)];
+    }
+
+    /**
+     * Returns the indiction of the day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian), in this index
+     * @return the indiction, from 1 to 15
+     * @throws UnsupportedOperationException if the index has no such column
+     */
+    public int indiction(long epochDay) {
+        checkColumn(Column.INDICTION);
+        return this.buffer.get(offset(epochDay) + INDICTION);
+    }
+
+    /**
+     * Returns the number of days from Pascha of the year to the day.
+     *
+     * @param epochDay the number of days from January 1, 1970 (Gregorian), in this index
+     * @return the number of days, negative before Pascha
+     * @throws UnsupportedOperationException if the index has no such column
+     */
+    public int paschaOffset(long epochDay) {
+        checkColumn(Column.PASCHA_OFFSET);
+        return this.buffer.getShort(offset(epochDay) + PASCHA_OFFSET);
+    }
+
+    private int offset(long epochDay) {
+        long index = Objects.checkIndex(epochDay - this.firstEpochDay, this.count);
+        // at most the size of the file, which open checked fits an int
+        return (int) (HEADER_SIZE + index * this.recordSize);
+    }
+
+    private void checkColumn(Column column) {
+        if (!this.columns.contains(column))
+            throw new UnsupportedOperationException("The index has no column " + column);
+    }
+
+    private static int recordSize(int bits) {
+        return (bits & 1 << Column.PASCHA_OFFSET.ordinal()) == 0 ? 8 : 12;
+    }
+
+    private static void writeRecord(ByteBuffer out, int offset, long epochDay, int bits) {
+        long fields = ByzYearTable.fields(epochDay);
+        int year = ByzYearTable.year(fields);
+
+        out.putInt(offset + YEAR, year);
+        out.put(offset + MONTH, (byte) ByzYearTable.month(fields));
+        out.put(offset + DAY_OF_MONTH, (byte) ByzYearTable.dayOfMonth(fields));
+        out.put(offset + DAY_OF_WEEK, (byte) ByzYearTable.dayOfWeek(epochDay));
+
+        if ((bits & 1 << Column.INDICTION.ordinal()) != 0)
+            out.put(offset + INDICTION, (byte) ByzYearTable.indiction(year));
+        if ((bits & 1 << Column.PASCHA_OFFSET.ordinal()) != 0)
+            out.putShort(offset + PASCHA_OFFSET, (short) (epochDay - Paschalion.paschaEpochDay(year)));
+    }
+
+    private MappedByzCalendarIndex(MappedByteBuffer buffer, int bits, int recordSize,
+            long firstEpochDay, long count) {
+        this.buffer = buffer;
+        this.columns = EnumSet.noneOf(Column.class);
+        for (var column : Column.values()) {
+            if ((bits & 1 << column.ordinal()) != 0)
+                this.columns.add(column);
+        }
+        this.recordSize = recordSize;
+        this.firstEpochDay = firstEpochDay;
+        this.count = count;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+/**
+ * The moveable feasts of a Byzantine year.
+ *
+ * Pascha is computed with the Julian computus. The date of Pascha repeats
+ * every 532 years (the Great Indiction), so the dates of one cycle are kept
+ * in a table, which is built on first use.
+ *
+ * This class is immutable and thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class Paschalion {
+
+    // the Great Indiction, 19 * 28 years
+    private static final int CYCLE = 532;
+
+    // March 21 is the day before the earliest Pascha
+    private static final int MARCH = ByzMonth.MARCH.ordinal();
+    private static final int JUNE = ByzMonth.JUNE.ordinal();
+
+    private final int year;
+    private final int pascha; // the epoch day
+
+    /**
+     * Returns the moveable feasts of the year.
+     *
+     * @param year the year in the Byzantine calendar
+     * @return the paschalion, not null
+     */
+    public static Paschalion of(int year) {
+        return new Paschalion(year, paschaEpochDay(year));
+    }
+
+    /**
+     * Computes the dates of Pascha for the years.
+     *
+     * @param years the years in the Byzantine calendar, not null
+     * @param outPacked the packed dates of Pascha, not null
+     * @see ByzDate#toPacked()
+     */
+    public static void pascha(int[] years, int[] outPacked) {
+        assert years != null && outPacked != null;
+        assert outPacked.length >= years.length;
+
+        for (int i = 0; i < years.length; i++)
+            outPacked[i] = paschaEpochDay(years[i]);
+    }
+
+    /**
+     * Returns the year of this paschalion.
+     *
+     * @return the year in the Byzantine calendar
+     */
+    public int year() {
+        return this.year;
+    }
+
+    /**
+     * Returns the date of Pascha.
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate pascha() {
+        return ByzDate.fromPacked(this.pascha);
+    }
+
+    /**
+     * Returns the beginning of the Triodion, the Sunday of the Publican
+     * and the Pharisee, ten weeks before Pascha.
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate triodion() {
+        return afterPascha(-70);
+    }
+
+    /**
+     * Returns the Sunday of the Last Judgment (Meatfare Sunday).
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate meatfareSunday() {
+        return afterPascha(-56);
+    }
+
+    /**
+     * Returns the Sunday of Forgiveness (Cheesefare Sunday).
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate cheesefareSunday() {
+        return afterPascha(-49);
+    }
+
+    /**
+     * Returns the first day of Great Lent (Clean Monday).
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate greatLent() {
+        return afterPascha(-48);
+    }
+
+    /**
+     * Returns Lazarus Saturday.
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate lazarusSaturday() {
+        return afterPascha(-8);
+    }
+
+    /**
+     * Returns Palm Sunday.
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate palmSunday() {
+        return afterPascha(-7);
+    }
+
+    /**
+     * Returns the Ascension.
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate ascension() {
+        return afterPascha(39);
+    }
+
+    /**
+     * Returns Pentecost.
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate pentecost() {
+        return afterPascha(49);
+    }
+
+    /**
+     * Returns the Sunday of All Saints.
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate allSaints() {
+        return afterPascha(56);
+    }
+
+    /**
+     * Returns the first day of the Apostles' Fast, the Monday after the
+     * Sunday of All Saints.
+     *
+     * @return the Byzantine date, not null
+     */
+    public ByzDate apostlesFast() {
+        return afterPascha(57);
+    }
+
+    /**
+     * Returns the number of days of the Apostles' Fast, which lasts until
+     * June 28.
+     *
+     * @return the number of days, from 8 to 42
+     */
+    public int apostlesFastLength() {
+        long feast = ByzYearTable.toEpochDay(this.year, JUNE, 29);
+        return (int) (feast - this.pascha - 57);
+    }
+
+    /**
+     * Checks if this object is equal to the other object.
+     *
+     * @param other the object to check
+     * @return true if the other is a paschalion of the same year
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other != null
+            && getClass() == other.getClass()
+            && this.year == ((Paschalion) other).year;
+    }
+
+    /**
+     * Returns a hash code for this paschalion.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.year);
+    }
+
+    /**
+     * Returns a string representation of this paschalion.
+     *
+     * For example, PASCHA APRIL 3, 7531.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return "PASCHA " + pascha();
+    }
+
+    // the epoch day of Pascha
+    static int paschaEpochDay(int year) {
+        long march21 = ByzYearTable.toEpochDay(year, MARCH, 21);
+        return Math.toIntExact(march21 + Table.OFFSETS[Math.floorMod(year, CYCLE)]);
+    }
+
+    // the days from March 21 to Pascha, by the Julian computus
+    static int computePaschaOffset(int year) {
+        int calYear = year - 5508; // the Julian year of March in the year
+        int a = Math.floorMod(calYear, 4);
+        int b = Math.floorMod(calYear, 7);
+        int c = Math.floorMod(calYear, 19);
+        int d = (19 * c + 15) % 30; // the days from March 21 to the Paschal full moon
+        int e = (2 * a + 4 * b - d + 34) % 7; // the days to the next Sunday
+        return d + e + 1;
+    }
+
+    private ByzDate afterPascha(int days) {
+        return ByzDate.fromPacked(this.pascha + days);
+    }
+
+    private Paschalion(int year, int pascha) {
+        this.year = year;
+        this.pascha = pascha;
+    }
+
+    // the holder of the table, initialized on first use
+    private static final class Table {
+
+        // the days from March 21 to Pascha, by the year modulo 532
+        static final byte[] OFFSETS = buildOffsets();
+
+        private static byte[] buildOffsets() {
+            var offsets = new byte[CYCLE];
+            for (int i = 0; i < CYCLE; i++)
+                offsets[i] = (byte) computePaschaOffset(i);
+            return offsets;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+/**
+ * A system of numbering the years of the Julian calendar.
+ *
+ * The eras count the years from different epochs; the months and the days
+ * of the month are those of the Julian calendar in every era.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ * @see WorldEraCalendar
+ */
+public enum WorldEra {
+    /**
+     * The Constantinopolitan Anno Mundi, from 5509 BC, the era of ByzDate.
+     */
+    CONSTANTINOPOLITAN(5508, YearStart.SEPTEMBER_1),
+    /**
+     * The Alexandrian Anno Mundi, from 5493 BC.
+     */
+    ALEXANDRIAN(5492, YearStart.AUGUST_29),
+    /**
+     * The Christian era, Anno Domini.
+     */
+    JULIAN_AD(0, YearStart.JANUARY_1);
+
+    private final int offset;
+    private final YearStart yearStart;
+
+    WorldEra(int offset, YearStart yearStart) {
+        this.offset = offset;
+        this.yearStart = yearStart;
+    }
+
+    /**
+     * Returns the number of years from the epoch of this era to AD 1.
+     *
+     * The year of this era which contains most of the Julian year AD 1 is
+     * 1 + offset.
+     *
+     * @return the offset in years
+     */
+    public int offset() {
+        return this.offset;
+    }
+
+    /**
+     * Returns the usual first day of the year of this era.
+     *
+     * @return the first day of the year, not null
+     */
+    public YearStart yearStart() {
+        return this.yearStart;
+    }
+}
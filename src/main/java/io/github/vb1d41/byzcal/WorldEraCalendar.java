@@ -0,0 +1,266 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+/**
+ * The numbering of the years of a world era with a first day of the year.
+ *
+ * The dates of every era are ByzDate, which is an epoch day; the eras only
+ * number the years differently. The year of a date in an era, and the date
+ * of a year, a month and a day in an era, are computed with a few integer
+ * operations from the Byzantine year, so a date is converted between the
+ * eras without a calendar conversion.
+ *
+ * The first days of the years are fixed Julian dates; the Alexandrian
+ * Thoth 1 on August 30 before a Julian leap year is not followed.
+ *
+ * This class is immutable and thread-safe.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public final class WorldEraCalendar {
+
+    // the Julian year of January to August of the Byzantine year
+    private static final int BYZ_OFFSET = WorldEra.CONSTANTINOPOLITAN.offset();
+
+    private static final int JANUARY = ByzMonth.JANUARY.ordinal();
+
+    private final WorldEra era;
+    private final YearStart yearStart;
+
+    // the first day of the year as the key of a Julian month and day
+    private final int startKey;
+    // true if the year is numbered after the Julian year in which it ends
+    private final boolean autumnStart;
+
+    /**
+     * Returns the calendar of the era with its usual first day of the year.
+     *
+     * @param era the world era, not null
+     * @return the calendar, not null
+     */
+    public static WorldEraCalendar of(WorldEra era) {
+        assert era != null;
+
+        return of(era, era.yearStart());
+    }
+
+    /**
+     * Returns the calendar of the era with the first day of the year.
+     *
+     * @param era the world era, not null
+     * @param yearStart the first day of the year, not null
+     * @return the calendar, not null
+     */
+    public static WorldEraCalendar of(WorldEra era, YearStart yearStart) {
+        assert era != null;
+        assert yearStart != null;
+
+        return new WorldEraCalendar(era, yearStart);
+    }
+
+    /**
+     * Returns the era of this calendar.
+     *
+     * @return the world era, not null
+     */
+    public WorldEra era() {
+        return this.era;
+    }
+
+    /**
+     * Returns the first day of the year of this calendar.
+     *
+     * @return the first day of the year, not null
+     */
+    public YearStart yearStart() {
+        return this.yearStart;
+    }
+
+    /**
+     * Returns the year of the date in this calendar.
+     *
+     * @param date the Byzantine date, not null
+     * @return the year in this calendar
+     */
+    public int year(ByzDate date) {
+        assert date != null;
+
+        return yearOf(date.year(), date.month().ordinal(), date.dayOfMonth());
+    }
+
+    /**
+     * Returns the date of the year, the month and the day of the month in
+     * this calendar.
+     *
+     * @param year the year in this calendar
+     * @param month the month, not null
+     * @param dayOfMonth the day of the month
+     * @return the Byzantine date, not null
+     */
+    public ByzDate date(int year, ByzMonth month, int dayOfMonth) {
+        assert month != null;
+
+        return ByzDate.of(byzYearOf(year, month.ordinal(), dayOfMonth), month, dayOfMonth);
+    }
+
+    /**
+     * Returns the dates of the year in this calendar.
+     *
+     * @param year the year in this calendar
+     * @return the range from the first day of the year to the first day of
+     *         the next year, not null
+     */
+    public ByzDateRange yearRange(int year) {
+        var month = this.yearStart.month();
+        int dayOfMonth = this.yearStart.dayOfMonth();
+        return ByzDateRange.of(date(year, month, dayOfMonth), date(year + 1, month, dayOfMonth));
+    }
+
+    /**
+     * Converts the year of a date in this calendar to the year in the
+     * other calendar.
+     *
+     * @param year the year in this calendar
+     * @param month the month of the date, not null
+     * @param dayOfMonth the day of the month of the date
+     * @param target the other calendar, not null
+     * @return the year in the other calendar
+     */
+    public int convertYear(int year, ByzMonth month, int dayOfMonth, WorldEraCalendar target) {
+        assert month != null;
+        assert target != null;
+
+        return target.yearOf(byzYearOf(year, month.ordinal(), dayOfMonth), month.ordinal(), dayOfMonth);
+    }
+
+    /**
+     * Computes the years of the packed dates in this calendar.
+     *
+     * @param packed the packed dates, see {@link ByzDate#toPacked()}, not null
+     * @param outYears the years in this calendar, not null
+     */
+    public void years(int[] packed, int[] outYears) {
+        assert packed != null && outYears != null;
+        assert outYears.length >= packed.length;
+
+        ByzDates.run(packed.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                long fields = ByzYearTable.fields(packed[i]);
+                outYears[i] = yearOf(ByzYearTable.year(fields),
+                    ByzYearTable.month(fields), ByzYearTable.dayOfMonth(fields));
+            }
+        });
+    }
+
+    /**
+     * Converts the years of the dates in this calendar to the years in the
+     * other calendar.
+     *
+     * The months are the ordinals of ByzMonth, as in {@link ByzDates}.
+     *
+     * @param years the years in this calendar, not null
+     * @param months the months, not null
+     * @param daysOfMonth the days of the month, not null
+     * @param target the other calendar, not null
+     * @param outYears the years in the other calendar, not null
+     */
+    public void convertYears(int[] years, byte[] months, byte[] daysOfMonth,
+            WorldEraCalendar target, int[] outYears) {
+        assert years != null && months != null && daysOfMonth != null;
+        assert months.length == years.length && daysOfMonth.length == years.length;
+        assert target != null && outYears != null;
+        assert outYears.length >= years.length;
+
+        ByzDates.run(years.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int byzYear = byzYearOf(years[i], months[i], daysOfMonth[i]);
+                outYears[i] = target.yearOf(byzYear, months[i], daysOfMonth[i]);
+            }
+        });
+    }
+
+    /**
+     * Checks if this object is equal to the other object.
+     *
+     * @param other the object to check
+     * @return true if the other is a calendar of the same era and first day
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other != null
+            && getClass() == other.getClass()
+            && this.era == ((WorldEraCalendar) other).era
+            && this.yearStart == ((WorldEraCalendar) other).yearStart;
+    }
+
+    /**
+     * Returns a hash code for this calendar.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.era.hashCode() + this.yearStart.hashCode();
+    }
+
+    /**
+     * Returns a string representation of this calendar.
+     *
+     * For example, ALEXANDRIAN from AUGUST_29.
+     *
+     * @return the string, not null
+     */
+    @Override
+    public String toString() {
+        return this.era + " from " + this.yearStart;
+    }
+
+    // the year in this calendar of the Byzantine date
+    private int yearOf(int byzYear, int month, int dayOfMonth) {
+        int julianYear = byzYear - BYZ_OFFSET - (month < JANUARY ? 1 : 0);
+        boolean started = key(month, dayOfMonth) >= this.startKey;
+
+        if (this.autumnStart)
+            return julianYear + this.era.offset() + (started ? 1 : 0);
+        return julianYear + this.era.offset() - (started ? 0 : 1);
+    }
+
+    // the Byzantine year of the date in this calendar
+    private int byzYearOf(int year, int month, int dayOfMonth) {
+        boolean started = key(month, dayOfMonth) >= this.startKey;
+        int julianYear = this.autumnStart
+            ? year - this.era.offset() - (started ? 1 : 0)
+            : year - this.era.offset() + (started ? 0 : 1);
+
+        return julianYear + BYZ_OFFSET + (month < JANUARY ? 1 : 0);
+    }
+
+    // orders the month and the day in the Julian year, January 1 first
+    private static int key(int month, int dayOfMonth) {
+        int julianMonth = month >= JANUARY ? month - JANUARY : month + 8;
+        return julianMonth << 5 | dayOfMonth;
+    }
+
+    private WorldEraCalendar(WorldEra era, YearStart yearStart) {
+        this.era = era;
+        this.yearStart = yearStart;
+        this.startKey = key(yearStart.month().ordinal(), yearStart.dayOfMonth());
+        this.autumnStart = this.startKey >= key(ByzMonth.JULY.ordinal(), 1);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+/**
+ * The first day of the year of a world era.
+ *
+ * A year which starts in the autumn is numbered after the Julian year in
+ * which it ends, as the Byzantine year which starts on September 1; a year
+ * which starts in the spring or on January 1 is numbered after the Julian
+ * year in which it starts.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+public enum YearStart {
+    /**
+     * January 1, the Julian year.
+     */
+    JANUARY_1(ByzMonth.JANUARY, 1),
+    /**
+     * March 25, the Annunciation.
+     */
+    MARCH_25(ByzMonth.MARCH, 25),
+    /**
+     * August 29, the first day of Thoth of the Alexandrian year.
+     */
+    AUGUST_29(ByzMonth.AUGUST, 29),
+    /**
+     * September 1, the Indiction.
+     */
+    SEPTEMBER_1(ByzMonth.SEPTEMBER, 1);
+
+    private final ByzMonth month;
+    private final int dayOfMonth;
+
+    YearStart(ByzMonth month, int dayOfMonth) {
+        this.month = month;
+        this.dayOfMonth = dayOfMonth;
+    }
+
+    /**
+     * Returns the month of the first day of the year.
+     *
+     * @return the Byzantine month, not null
+     */
+    public ByzMonth month() {
+        return this.month;
+    }
+
+    /**
+     * Returns the day of the month of the first day of the year.
+     *
+     * @return the day of the month
+     */
+    public int dayOfMonth() {
+        return this.dayOfMonth;
+    }
+}
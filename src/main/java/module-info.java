@@ -0,0 +1,34 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * The Byzantine calendar.
+ *
+ * The module depends on java.base, and on jdk.jfr for the events of
+ * {@link io.github.vb1d41.byzcal.ByzCalMetrics}. The chronology is
+ * provided as a service of java.time.chrono.Chronology.
+ *
+ * @version 1.3.0
+ * @since 1.3.0
+ */
+@SuppressWarnings("module") // the name of the module is the name of the package
+module io.github.vb1d41.byzcal {
+    requires jdk.jfr;
+
+    exports io.github.vb1d41.byzcal;
+
+    provides java.time.chrono.Chronology with io.github.vb1d41.byzcal.ByzChronology;
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import io.github.vb1d41.byzcal.ByzCalMetrics.EntryPoint;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * The tests are run without io.github.vb1d41.byzcal.metrics, the default.
+ *
+ * @version 1.3.0
+ */
+public class ByzCalMetricsOffTest {
+
+    @Test
+    public void testDisabled() {
+        assertFalse(ByzCalMetrics.isEnabled());
+
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+        assertEquals(ByzCalMetrics.start(), 0);
+        assertSame(ByzCalMetrics.stop(EntryPoint.OF, 0, date), date);
+
+        date.addDays(1).addMonths(1).addYears(1);
+        ByzDate.fromGregorian(2023, 4, 16);
+
+        var metrics = ByzCalMetrics.snapshot();
+        for (var entryPoint : EntryPoint.values()) {
+            assertEquals(metrics.calls(entryPoint), 0, entryPoint.toString());
+            assertEquals(metrics.totalNanos(entryPoint), 0, entryPoint.toString());
+        }
+    }
+
+    @Test
+    public void testNoEvents() throws IOException {
+        var file = Files.createTempFile("byzcal", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable("io.github.vb1d41.byzcal.Conversion");
+            recording.start();
+            for (int i = 0; i < 1_000; i++)
+                ByzDate.of(7531, ByzMonth.APRIL, 3).addDays(i);
+            recording.stop();
+            recording.dump(file);
+
+            var events = RecordingFile.readAllEvents(file);
+            assertTrue(events.stream().noneMatch(e -> "io.github.vb1d41.byzcal.Conversion"
+                .equals(e.getEventType().getName())));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
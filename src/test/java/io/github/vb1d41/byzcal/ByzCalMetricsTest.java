@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import io.github.vb1d41.byzcal.ByzCalMetrics.EntryPoint;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * The tests are run in a JVM of their own (see pom.xml), with
+ * io.github.vb1d41.byzcal.metrics=true and
+ * io.github.vb1d41.byzcal.eventSampleRate=1.
+ *
+ * @version 1.3.0
+ */
+public class ByzCalMetricsTest {
+
+    @Test
+    public void testSnapshot() {
+        assertTrue(ByzCalMetrics.isEnabled());
+        ByzCalMetrics.reset();
+
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+        for (int i = 0; i < 10; i++)
+            date = date.addDays(1);
+        date.addMonths(1);
+        date.addYears(-3000); // out of the table
+        ByzDate.fromGregorian(2023, 4, 16);
+
+        var metrics = ByzCalMetrics.snapshot();
+
+        assertEquals(metrics.calls(EntryPoint.OF), 1);
+        assertEquals(metrics.calls(EntryPoint.ADD_DAYS), 10);
+        assertEquals(metrics.calls(EntryPoint.ADD_MONTHS), 1);
+        assertEquals(metrics.calls(EntryPoint.FROM_GREGORIAN), 1);
+        assertEquals(metrics.tableHits(EntryPoint.ADD_DAYS), 10);
+        assertEquals(metrics.tableHitRatio(EntryPoint.ADD_YEARS), 0.0);
+        assertTrue(metrics.maxNanos(EntryPoint.ADD_DAYS) <= metrics.totalNanos(EntryPoint.ADD_DAYS));
+
+        ByzCalMetrics.reset();
+        assertEquals(ByzCalMetrics.snapshot().calls(EntryPoint.ADD_DAYS), 0);
+    }
+
+    @Test
+    public void testEvents() throws IOException {
+        var file = Files.createTempFile("byzcal", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable("io.github.vb1d41.byzcal.Conversion");
+            recording.start();
+            ByzDate.of(7531, ByzMonth.APRIL, 3).addDays(1);
+            recording.stop();
+            recording.dump(file);
+
+            var events = RecordingFile.readAllEvents(file);
+            assertTrue(events.stream().anyMatch(e -> "ADD_DAYS".equals(e.getString("entryPoint"))
+                && e.getInt("year") == 7531 && e.getBoolean("tableHit")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import io.github.vb1d41.byzcal.ByzCalendarAggregator.Field;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzCalendarAggregatorTest {
+
+    @Test
+    public void testBucketOf() {
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        assertEquals(Field.YEAR.bucketOf(date), 7531);
+        assertEquals(Field.MONTH.bucketOf(date), 7531 * 12 + 7);
+        assertEquals(Field.DAY_OF_WEEK.bucketOf(date), ByzDayOfWeek.LORDSDAY.ordinal());
+        assertEquals(Field.INDICTION.bucketOf(date), 1);
+    }
+
+    @Test
+    public void testAddEpochDays() {
+        var random = new Random(7531);
+        // from the year 5600 to 8300, in and out of the year table
+        long[] epochDays = random.longs(20_000, -1_500_000, -500_000).toArray();
+        long[] values = random.longs(20_000, 0, 1_000).toArray();
+
+        for (var field : Field.values()) {
+            var aggregator = ByzCalendarAggregator.of(field);
+            aggregator.addEpochDays(epochDays, values);
+
+            assertEquals(totals(aggregator), expected(field, epochDays, values), field.toString());
+            assertEquals(aggregator.count(), epochDays.length);
+            assertEquals(aggregator.sum(), Arrays.stream(values).sum());
+        }
+    }
+
+    @Test
+    public void testAddEpochMillis() {
+        var zone = ZoneId.of("Europe/Athens");
+        var aggregator = ByzCalendarAggregator.of(Field.MONTH, zone);
+        var expected = new ByzDateIntMap();
+
+        // increasing timestamps, as in an event stream
+        long millis = 1_600_000_000_000L;
+        for (int i = 0; i < 50_000; i++) {
+            millis += 997_000;
+            aggregator.addEpochMilli(millis);
+            expected.addTo(ByzDate.ofEpochMilli(millis, zone), 1);
+        }
+
+        var months = new TreeMap<Integer, Long>();
+        expected.forEachPacked((packed, count) ->
+            months.merge(Field.MONTH.bucketOf(ByzDate.fromPacked(packed)), (long) count, Long::sum));
+        months.forEach((bucket, count) -> assertEquals(aggregator.count(bucket), (long) count));
+        assertEquals(aggregator.count(), 50_000);
+        assertEquals(aggregator.zone(), zone);
+    }
+
+    @Test
+    public void testMerge() {
+        var random = new Random(7532);
+        long[] epochMillis = random.longs(10_000, -10_000_000_000_000L, 10_000_000_000_000L).toArray();
+        long[] values = random.longs(10_000, -100, 100).toArray();
+
+        var whole = ByzCalendarAggregator.of(Field.YEAR);
+        whole.addEpochMillis(epochMillis, values);
+
+        var parts = new ArrayList<ByzCalendarAggregator>();
+        for (int from = 0; from < epochMillis.length; from += 2_500) {
+            var part = ByzCalendarAggregator.of(Field.YEAR);
+            for (int i = from; i < from + 2_500; i++)
+                part.addEpochMilli(epochMillis[i], values[i]);
+            parts.add(part);
+        }
+        // merges the later parts first, so the buckets grow both ways
+        var merged = parts.get(3).merge(parts.get(2)).merge(parts.get(1)).merge(parts.get(0));
+
+        assertEquals(totals(merged), totals(whole));
+        assertEquals(merged.sum(), Arrays.stream(values).sum());
+    }
+
+    @Test
+    public void testEmpty() {
+        var aggregator = ByzCalendarAggregator.of(Field.INDICTION);
+
+        assertEquals(aggregator.count(5), 0);
+        assertEquals(aggregator.count(100), 0);
+        assertEquals(totals(aggregator), List.of());
+
+        aggregator.addEpochDay(ByzDate.of(7531, ByzMonth.APRIL, 3).toEpochDay(), 10);
+        assertEquals(aggregator.count(1), 1);
+        assertEquals(aggregator.sum(1), 10);
+        assertEquals(aggregator.toString(), "ByzCalendarAggregator[INDICTION, Z, count=1]");
+
+        aggregator.clear();
+        assertEquals(aggregator.count(), 0);
+    }
+
+    // the bucket, the count and the sum of each bucket with events
+    private static List<List<Long>> totals(ByzCalendarAggregator aggregator) {
+        var totals = new ArrayList<List<Long>>();
+        aggregator.forEach((bucket, count, sum) -> totals.add(List.of((long) bucket, count, sum)));
+        return totals;
+    }
+
+    private static List<List<Long>> expected(Field field, long[] epochDays, long[] values) {
+        var counts = new TreeMap<Integer, Long>();
+        var sums = new TreeMap<Integer, Long>();
+        for (int i = 0; i < epochDays.length; i++) {
+            int bucket = field.bucketOf(ByzDate.ofEpochDay(epochDays[i]));
+            counts.merge(bucket, 1L, Long::sum);
+            sums.merge(bucket, values[i], Long::sum);
+        }
+
+        var totals = new ArrayList<List<Long>>();
+        counts.forEach((bucket, count) -> totals.add(List.of((long) bucket, count, sums.get(bucket))));
+        return totals;
+    }
+}
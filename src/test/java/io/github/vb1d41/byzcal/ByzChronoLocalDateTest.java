@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzChronoLocalDateTest {
+
+    @Test
+    public void testChronology() {
+        assertEquals(Chronology.of("Byzantine"), ByzChronology.INSTANCE);
+        assertEquals(ByzChronology.INSTANCE.eras().size(), 2);
+        assertEquals(ByzChronology.INSTANCE.prolepticYear(ByzEra.BEFORE_AM, 1), 0);
+        assertEquals(ByzChronology.INSTANCE.isLeapYear(7532), true);
+    }
+
+    @Test
+    public void testOf() {
+        var d = ByzChronoLocalDate.of(7531, 8, 3); // APRIL 3, 7531
+
+        assertEquals(LocalDate.from(d), LocalDate.of(2023, 4, 16));
+        assertEquals(d.toByzDate(), ByzDate.of(7531, ByzMonth.APRIL, 3));
+        assertEquals(ByzChronoLocalDate.of(d.toByzDate()), d);
+        assertEquals(ByzChronology.INSTANCE.date(LocalDate.of(2023, 4, 16)), d);
+        assertEquals(d.get(ChronoField.DAY_OF_WEEK), DayOfWeek.SUNDAY.getValue());
+        assertEquals(d.get(ChronoField.DAY_OF_YEAR), 215);
+        assertEquals(d.getEra(), ByzEra.AM);
+        assertEquals(d.toString(), "Byzantine AM 7531-08-03");
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void testOf_Invalid() {
+        ByzChronoLocalDate.of(7531, 6, 29); // FEBRUARY 29 in a common year
+    }
+
+    @Test
+    public void testOf_EveryDay() {
+        var date = LocalDate.of(1, 1, 1);
+        for (int i = 0; i < 800_000; i++, date = date.plusDays(1)) {
+            var d = ByzChronoLocalDate.ofEpochDay(date.toEpochDay());
+            var same = ByzChronology.INSTANCE.date(d.getEra(), d.get(ChronoField.YEAR_OF_ERA),
+                d.get(ChronoField.MONTH_OF_YEAR), d.get(ChronoField.DAY_OF_MONTH));
+
+            assertEquals(same, d);
+            assertEquals(ByzChronology.INSTANCE.dateYearDay(d.get(ChronoField.YEAR), d.get(ChronoField.DAY_OF_YEAR)), d);
+        }
+    }
+
+    @Test
+    public void testAdjusters() {
+        var d = ByzChronoLocalDate.of(7531, 8, 3);
+
+        assertEquals(d.with(TemporalAdjusters.firstDayOfMonth()), ByzChronoLocalDate.of(7531, 8, 1));
+        assertEquals(d.with(TemporalAdjusters.lastDayOfMonth()), ByzChronoLocalDate.of(7531, 8, 30));
+        assertEquals(d.with(TemporalAdjusters.firstDayOfYear()), ByzChronoLocalDate.of(7531, 1, 1));
+        assertEquals(d.with(TemporalAdjusters.lastDayOfYear()), ByzChronoLocalDate.of(7531, 12, 31));
+        assertEquals(d.with(TemporalAdjusters.next(DayOfWeek.SUNDAY)), ByzChronoLocalDate.of(7531, 8, 10));
+        assertEquals(d.with(ChronoField.MONTH_OF_YEAR, 6), ByzChronoLocalDate.of(7531, 6, 3));
+    }
+
+    @Test
+    public void testPlus() {
+        assertEquals(ByzChronoLocalDate.of(7532, 5, 31).plus(1, ChronoUnit.MONTHS),
+            ByzChronoLocalDate.of(7532, 6, 29));
+        assertEquals(ByzChronoLocalDate.of(7532, 6, 29).plus(1, ChronoUnit.YEARS),
+            ByzChronoLocalDate.of(7533, 6, 28));
+        assertEquals(ByzChronoLocalDate.of(7531, 12, 31).plus(1, ChronoUnit.DAYS),
+            ByzChronoLocalDate.of(7532, 1, 1));
+        assertEquals(ByzChronoLocalDate.of(7532, 1, 1).minus(2, ChronoUnit.WEEKS),
+            ByzChronoLocalDate.of(7531, 12, 18));
+    }
+
+    @Test
+    public void testUntil() {
+        var start = ByzChronoLocalDate.of(7531, 8, 3);
+        var end = ByzChronoLocalDate.of(7533, 2, 1);
+
+        assertEquals(ChronoUnit.DAYS.between(start, end), 547);
+        assertEquals(ChronoUnit.MONTHS.between(start, end), 17);
+        assertEquals(ChronoUnit.YEARS.between(start, end), 1);
+        assertEquals(ChronoUnit.MONTHS.between(end, start), -17);
+        assertEquals(start.until(end), ByzChronology.INSTANCE.period(1, 5, 28));
+        assertEquals(start.plus(start.until(end)), end);
+    }
+
+    @Test
+    public void testFormatter() {
+        var formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd").withChronology(ByzChronology.INSTANCE);
+        ChronoLocalDate d = ByzChronoLocalDate.of(7531, 8, 3);
+
+        assertEquals(formatter.format(d), "7531-08-03");
+        assertEquals(formatter.format(LocalDate.of(2023, 4, 16)), "7531-08-03");
+        assertEquals(ByzChronoLocalDate.from(formatter.parse("7531-08-03")), d);
+    }
+}
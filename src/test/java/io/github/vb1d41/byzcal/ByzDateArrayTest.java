@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import static io.github.vb1d41.byzcal.ByzDateTest.APR_3_7531;
+import static io.github.vb1d41.byzcal.ByzDateTest.APR_3_7532;
+import static io.github.vb1d41.byzcal.ByzDateTest.APR_4_7531;
+import static io.github.vb1d41.byzcal.ByzDateTest.MAY_3_7531;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDateArrayTest {
+
+    @Test
+    public void testAddAndGet() {
+        var a = new ByzDateArray(1);
+        a.add(APR_3_7531);
+        a.add(APR_4_7531);
+        a.addPacked(MAY_3_7531.toPacked());
+
+        assertEquals(3, a.size());
+        assertEquals(APR_3_7531, a.get(0));
+        assertEquals(APR_4_7531, a.get(1));
+        assertEquals(MAY_3_7531, a.get(2));
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testGet_OutOfBounds() {
+        var a = new ByzDateArray();
+        a.add(APR_3_7531);
+
+        a.get(1);
+    }
+
+    @Test
+    public void testSet() {
+        var a = ByzDateArray.ofPacked(APR_3_7531.toPacked());
+        a.set(0, APR_3_7532);
+
+        assertEquals(APR_3_7532, a.get(0));
+    }
+
+    @Test
+    public void testFields() {
+        var a = new ByzDateArray();
+        for (int i = 0; i < 2000; i++)
+            a.add(APR_3_7531.addDays(i * 7 - 5000));
+
+        for (int i = 0; i < a.size(); i++) {
+            var d = a.get(i);
+
+            assertEquals(d.year(), a.year(i));
+            assertEquals(d.month(), a.month(i));
+            assertEquals(d.dayOfMonth(), a.dayOfMonth(i));
+            assertEquals(d.dayOfWeek(), a.dayOfWeek(i));
+        }
+    }
+
+    @Test
+    public void testSortAndBinarySearch() {
+        var a = ByzDateArray.ofPacked(
+            APR_3_7532.toPacked(), MAY_3_7531.toPacked(), APR_3_7531.toPacked());
+        a.sort();
+
+        assertEquals(APR_3_7531, a.get(0));
+        assertEquals(MAY_3_7531, a.get(1));
+        assertEquals(APR_3_7532, a.get(2));
+
+        assertEquals(1, a.binarySearch(MAY_3_7531));
+        assertEquals(-2, a.binarySearch(APR_4_7531));
+        assertTrue(a.binarySearchPacked(APR_3_7532.toPacked() + 1) < 0);
+    }
+
+    @Test
+    public void testToPackedArray() {
+        var a = new ByzDateArray();
+        a.add(APR_3_7531);
+        a.add(APR_4_7531);
+
+        assertEquals(new int[] { APR_3_7531.toPacked(), APR_4_7531.toPacked() },
+            a.toPackedArray());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import io.github.vb1d41.byzcal.ByzDateCache.Eviction;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDateCacheTest {
+
+    @Test
+    public void testOf() {
+        var cache = ByzDateCache.of(100);
+        var date = cache.of(7531, ByzMonth.APRIL, 3);
+
+        assertEquals(date, ByzDate.of(7531, ByzMonth.APRIL, 3));
+        assertSame(cache.of(7531, ByzMonth.APRIL, 3), date);
+        assertEquals(cache.capacity(), 128);
+        assertEquals(cache.eviction(), Eviction.TWO_WAY_LRU);
+        assertEquals(cache.hitCount(), 1);
+        assertEquals(cache.missCount(), 1);
+        assertEquals(cache.hitRatio(), 0.5);
+        assertEquals(cache.toString(), "ByzDateCache[capacity=128, TWO_WAY_LRU, hits=1, misses=1]");
+    }
+
+    @Test
+    public void testFromGregorian() {
+        var cache = ByzDateCache.of(16, Eviction.DIRECT_MAPPED);
+        var date = cache.fromGregorian(2023, 4, 16);
+
+        assertEquals(date, ByzDate.of(7531, ByzMonth.APRIL, 3));
+        assertSame(cache.fromGregorian(2023, 4, 16), date);
+        // the Byzantine and the Gregorian fields are different keys
+        assertNotSame(cache.of(7531, ByzMonth.APRIL, 3), date);
+        assertEquals(cache.hitCount(), 1);
+        assertEquals(cache.missCount(), 2);
+    }
+
+    @Test
+    public void testLenient() {
+        var cache = ByzDateCache.of(16);
+
+        assertEquals(cache.of(7531, ByzMonth.APRIL, 0), ByzDate.of(7531, ByzMonth.APRIL, 0));
+        assertEquals(cache.of(7531, ByzMonth.APRIL, 40), ByzDate.of(7531, ByzMonth.APRIL, 40));
+        assertEquals(cache.hitCount() + cache.missCount(), 0);
+    }
+
+    @Test
+    public void testTwoWayLru() {
+        var cache = ByzDateCache.of(2, Eviction.TWO_WAY_LRU);
+        var a = cache.of(7531, ByzMonth.APRIL, 1);
+        var b = cache.of(7531, ByzMonth.APRIL, 2);
+
+        assertSame(cache.of(7531, ByzMonth.APRIL, 1), a);
+        cache.of(7531, ByzMonth.APRIL, 3); // evicts b
+        assertSame(cache.of(7531, ByzMonth.APRIL, 1), a);
+        assertNotSame(cache.of(7531, ByzMonth.APRIL, 2), b);
+        assertEquals(cache.hitCount(), 2);
+        assertEquals(cache.missCount(), 4);
+
+        cache.clear();
+        assertEquals(cache.hitCount() + cache.missCount(), 0);
+        assertNotSame(cache.of(7531, ByzMonth.APRIL, 1), a);
+    }
+
+    @Test
+    public void testEviction() {
+        for (var eviction : Eviction.values()) {
+            var cache = ByzDateCache.of(64, eviction);
+            var random = new Random(7531);
+
+            for (int i = 0; i < 10_000; i++) {
+                int year = 7000 + random.nextInt(10);
+                var month = ByzMonth.values()[random.nextInt(12)];
+                int dayOfMonth = 1 + random.nextInt(ByzYearTable.lengthOfMonth(year, month.ordinal()));
+                assertEquals(cache.of(year, month, dayOfMonth), ByzDate.of(year, month, dayOfMonth));
+            }
+            assertEquals(cache.hitCount() + cache.missCount(), 10_000);
+            assertTrue(cache.hitCount() > 0, eviction.toString());
+        }
+    }
+
+    @Test
+    public void testConcurrent() {
+        var cache = ByzDateCache.of(256);
+        var start = ByzDate.of(7531, ByzMonth.SEPTEMBER, 1);
+
+        IntStream.range(0, 200_000).parallel().forEach(i -> {
+            var expected = start.addDays(i % 500);
+            var date = cache.of(expected.year(), expected.month(), expected.dayOfMonth());
+            assertEquals(date, expected);
+        });
+        assertEquals(cache.hitCount() + cache.missCount(), 200_000);
+    }
+}
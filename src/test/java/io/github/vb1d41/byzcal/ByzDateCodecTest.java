@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDateCodecTest {
+
+    static final ByzDate APR_3_7531 = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+    @Test
+    public void testEncode() {
+        var date = ByzDate.ofEpochDay(0x0102);
+
+        assertEquals(ByzDateCodec.encode(date), new byte[] { (byte) 0x80, 0, 1, 2 });
+        assertEquals(ByzDateCodec.decode(ByzDateCodec.encode(APR_3_7531), 0), APR_3_7531);
+    }
+
+    @Test
+    public void testEncode_ByteBuffer() {
+        for (var order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            var buffer = ByteBuffer.allocate(8).order(order);
+            ByzDateCodec.encode(APR_3_7531, buffer);
+            ByzDateCodec.encodePacked(-1, buffer);
+
+            assertEquals(buffer.array(), concat(ByzDateCodec.encode(APR_3_7531), ByzDateCodec.encode(ByzDate.fromPacked(-1))));
+
+            buffer.flip();
+            assertEquals(ByzDateCodec.decode(buffer), APR_3_7531);
+            assertEquals(ByzDateCodec.decodePacked(buffer), -1);
+        }
+    }
+
+    @Test
+    public void testEncode_Order() {
+        var random = new Random(7531);
+        var dates = new ByzDate[1_000];
+        for (int i = 0; i < dates.length; i++)
+            dates[i] = ByzDate.ofEpochDay(random.nextInt(2_000_000) - 1_000_000);
+
+        for (int i = 1; i < dates.length; i++) {
+            int byteOrder = Integer.signum(Arrays.compareUnsigned(
+                ByzDateCodec.encode(dates[i - 1]), ByzDateCodec.encode(dates[i])));
+            assertEquals(byteOrder, Integer.signum(dates[i - 1].compareTo(dates[i])));
+        }
+    }
+
+    @Test
+    public void testEncode_Bulk() {
+        var dates = new ByzDate[] { APR_3_7531, ByzDate.ofEpochDay(-100_000), ByzDate.ofEpochDay(100_000) };
+        var packed = Arrays.stream(dates).mapToInt(ByzDate::toPacked).toArray();
+
+        for (var order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            var buffer1 = ByteBuffer.allocate(dates.length * ByzDateCodec.BYTES).order(order);
+            var buffer2 = ByteBuffer.allocate(dates.length * ByzDateCodec.BYTES).order(order);
+            ByzDateCodec.encode(dates, buffer1);
+            ByzDateCodec.encodePacked(packed, buffer2);
+
+            assertEquals(buffer1.array(), buffer2.array());
+            for (int i = 0; i < dates.length; i++)
+                assertEquals(ByzDateCodec.decode(buffer1.array(), i * ByzDateCodec.BYTES), dates[i]);
+
+            var decoded = new int[dates.length];
+            ByzDateCodec.decodePacked(buffer2.flip(), decoded);
+            assertEquals(decoded, packed);
+        }
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(APR_3_7531);
+        }
+
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(in.readObject(), APR_3_7531);
+        }
+        assertTrue(bytes.size() <= 64, "size " + bytes.size());
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        var result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDateCursorTest {
+
+    @Test
+    public void testNext_NewYear() {
+        var cursor = new ByzDateCursor(ByzDate.of(7531, ByzMonth.AUGUST, 31));
+
+        cursor.next();
+        assertEquals(cursor.year(), 7532);
+        assertEquals(cursor.month(), ByzMonth.SEPTEMBER);
+        assertEquals(cursor.dayOfMonth(), 1);
+        assertEquals(cursor.toByzDate(), ByzDate.of(7532, ByzMonth.SEPTEMBER, 1));
+
+        cursor.previous();
+        assertEquals(cursor.toString(), "AUGUST 31, 7531");
+    }
+
+    @Test
+    public void testNext_EveryDay() {
+        var date = ByzDate.of(7400, ByzMonth.SEPTEMBER, 1);
+        var cursor = new ByzDateCursor(date);
+
+        for (int i = 0; i < 80_000; i++) {
+            cursor.next();
+            assertCursor(cursor, ByzDate.ofEpochDay(date.toEpochDay() + i + 1));
+        }
+        for (int i = 80_000; i > 0; i--) {
+            cursor.previous();
+            assertCursor(cursor, ByzDate.ofEpochDay(date.toEpochDay() + i - 1));
+        }
+    }
+
+    @Test
+    public void testAdvance() {
+        var random = new Random(7531);
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+        var cursor = new ByzDateCursor(date);
+
+        for (int i = 0; i < 10_000; i++) {
+            int days = random.nextInt(i % 2 == 0 ? 30 : 3_000) - (i % 2 == 0 ? 15 : 1_500);
+            date = date.addDays(days);
+            cursor.advance(days);
+            assertCursor(cursor, date);
+        }
+    }
+
+    private static void assertCursor(ByzDateCursor cursor, ByzDate expected) {
+        assertEquals(cursor.toPacked(), expected.toPacked());
+        assertEquals(cursor.year(), expected.year());
+        assertEquals(cursor.month(), expected.month());
+        assertEquals(cursor.dayOfMonth(), expected.dayOfMonth());
+        assertEquals(cursor.dayOfWeek(), expected.dayOfWeek());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDateFormatterTest {
+
+    static final ByzDate APR_3_7531 = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+    @DataProvider(name = "format")
+    public Object[][] format() {
+        return new Object[][] {
+            { ByzDateFormatter.TEXTUAL, APR_3_7531, "APRIL 3, 7531" },
+            { ByzDateFormatter.NUMERIC, APR_3_7531, "7531-08-03" },
+            { ByzDateFormatter.NUMERIC, ByzDate.of(7532, ByzMonth.SEPTEMBER, 14), "7532-01-14" },
+            { ByzDateFormatter.ofPattern("d.M.y"), ByzDate.of(7531, ByzMonth.AUGUST, 31), "31.12.7531" },
+            { ByzDateFormatter.ofPattern("yyyyMMdd"), APR_3_7531, "75310803" },
+            { ByzDateFormatter.ofPattern("dd MONTH yyyy"), ByzDate.of(6000, ByzMonth.MAY, 1), "01 MAY 6000" },
+            { ByzDateFormatter.ofPattern("d\u2014MM\u00B7yyyy"), APR_3_7531, "3\u201408\u00B77531" },
+            { ByzDateFormatter.ofPattern("\uD83D\uDCC5 d MONTH y"), APR_3_7531, "\uD83D\uDCC5 3 APRIL 7531" }
+        };
+    }
+
+    @Test(dataProvider = "format")
+    public void testFormat(ByzDateFormatter formatter, ByzDate date, String text) throws IOException {
+        assertEquals(formatter.format(date), text);
+        assertEquals(formatter.formatTo(date, new StringBuilder("> ")).toString(), "> " + text);
+
+        var writer = new StringWriter();
+        formatter.formatTo(date, writer);
+        assertEquals(writer.toString(), text);
+
+        var buffer = new byte[32];
+        int end = formatter.formatTo(date, buffer, 2);
+        assertEquals(Arrays.copyOfRange(buffer, 2, end), text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(dataProvider = "format")
+    public void testParse(ByzDateFormatter formatter, ByzDate date, String text) {
+        assertEquals(formatter.parse(text), date);
+    }
+
+    @Test
+    public void testFormatAndParse_EveryDay() {
+        var builder = new StringBuilder();
+        for (int epochDay = -200_000; epochDay < 200_000; epochDay++) {
+            var date = ByzDate.ofEpochDay(epochDay);
+
+            builder.setLength(0);
+            ByzDateFormatter.NUMERIC.formatTo(date, builder);
+            assertEquals(ByzDateFormatter.NUMERIC.parse(builder), date);
+
+            builder.setLength(0);
+            ByzDateFormatter.TEXTUAL.formatTo(date, builder);
+            assertEquals(ByzDateFormatter.TEXTUAL.parse(builder), date);
+        }
+    }
+
+    @Test
+    public void testParse_Position() {
+        var text = "Pascha: april 3, 7531; Pentecost";
+        var position = new ParsePosition(8);
+
+        assertEquals(ByzDateFormatter.TEXTUAL.parse(text, position), APR_3_7531);
+        assertEquals(position.getIndex(), 21);
+    }
+
+    @Test
+    public void testParse_Invalid() {
+        var position = new ParsePosition(0);
+
+        assertNull(ByzDateFormatter.TEXTUAL.parse("FEBRUARY 29, 7531", position));
+        assertEquals(position.getErrorIndex(), 0);
+        assertEquals(position.getIndex(), 0);
+
+        position = new ParsePosition(0);
+        assertNull(ByzDateFormatter.TEXTUAL.parse("APRIL x, 7531", position));
+        assertEquals(position.getErrorIndex(), 6);
+
+        position = new ParsePosition(0);
+        assertNull(ByzDateFormatter.NUMERIC.parse("7531-13-01", position));
+        assertEquals(position.getErrorIndex(), 0);
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void testParse_TrailingText() {
+        ByzDateFormatter.NUMERIC.parse("7531-08-03Z");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testOfPattern_UnknownLetter() {
+        ByzDateFormatter.ofPattern("yyyy-MM-dd EEE");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testOfPattern_NoYear() {
+        ByzDateFormatter.ofPattern("MONTH d");
+    }
+}
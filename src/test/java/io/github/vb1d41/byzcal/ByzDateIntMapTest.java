@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDateIntMapTest {
+
+    @Test
+    public void testPut() {
+        var map = new ByzDateIntMap();
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        assertEquals(map.put(date, 5), 0);
+        assertEquals(map.put(date, 7), 5);
+        assertEquals(map.get(date, -1), 7);
+        assertEquals(map.get(7531, ByzMonth.APRIL, 3, -1), 7);
+        assertEquals(map.get(7531, ByzMonth.APRIL, 4, -1), -1);
+        assertEquals(map.size(), 1);
+
+        assertTrue(map.remove(date));
+        assertFalse(map.remove(date));
+        assertEquals(map.get(date, -1), -1);
+    }
+
+    @Test
+    public void testAddTo() {
+        var map = new ByzDateIntMap();
+        var start = ByzDate.of(7531, ByzMonth.SEPTEMBER, 1);
+
+        for (int i = 0; i < 10_000; i++)
+            map.addTo(start.addDays(i % 365), 1);
+
+        assertEquals(map.size(), 365);
+        assertEquals(map.get(start, 0), 28);
+        assertEquals(map.get(start.addDays(364), 0), 27);
+        assertEquals(map.addToPacked(start.toPacked(), -28), 0);
+        assertTrue(map.containsKey(start));
+
+        var dates = new ArrayList<Integer>();
+        map.forEachPacked((packed, value) -> dates.add(packed));
+        assertEquals(dates.get(0), start.toPacked());
+        assertEquals(dates, map.packedDates().boxed().toList());
+    }
+
+    @Test
+    public void testRandom() {
+        var map = new ByzDateIntMap();
+        var expected = new HashMap<Integer, Integer>();
+        var random = new Random(7531);
+
+        for (int i = 0; i < 100_000; i++) {
+            int packed = random.nextInt(2_000);
+            if (random.nextInt(4) == 0) {
+                assertEquals(map.removePacked(packed), expected.remove(packed) != null);
+            } else {
+                int value = expected.merge(packed, i, Integer::sum);
+                assertEquals(map.addToPacked(packed, i), value);
+            }
+        }
+        assertEquals(map.size(), expected.size());
+        expected.forEach((packed, value) -> assertEquals(map.getPacked(packed, 0), (int) value));
+    }
+
+    @Test
+    public void testEquals() {
+        var a = new ByzDateIntMap();
+        var b = new ByzDateIntMap(1_000);
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        a.put(date, 1);
+        a.put(date.addDays(-1), 2);
+        b.put(date.addDays(-1), 2);
+        b.put(date, 1);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.toString(), "{APRIL 2, 7531=2, APRIL 3, 7531=1}");
+
+        var values = new ArrayList<Integer>();
+        a.forEachPacked((packed, value) -> values.add(value));
+        assertEquals(values, List.of(2, 1));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDateLongMapTest {
+
+    @Test
+    public void testPut() {
+        var map = new ByzDateLongMap();
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        assertEquals(map.put(date, 1L << 40), 0);
+        assertEquals(map.put(date, 7), 1L << 40);
+        assertEquals(map.get(date, -1), 7);
+        assertEquals(map.get(7531, ByzMonth.APRIL, 3, -1), 7);
+        assertEquals(map.get(7531, ByzMonth.APRIL, 4, -1), -1);
+        assertEquals(map.getPacked(date.toPacked(), -1), 7);
+        assertEquals(map.size(), 1);
+
+        assertTrue(map.remove(date));
+        assertFalse(map.remove(date));
+        assertEquals(map.get(date, -1), -1);
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testAddTo() {
+        var map = new ByzDateLongMap();
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        assertEquals(map.addTo(date, Integer.MAX_VALUE), Integer.MAX_VALUE);
+        assertEquals(map.addTo(date, Integer.MAX_VALUE), 2L * Integer.MAX_VALUE);
+        assertEquals(map.addToPacked(date.toPacked() + 1, -5), -5);
+
+        // a removed date starts from 0 again
+        assertTrue(map.remove(date));
+        assertEquals(map.addTo(date, 3), 3);
+        assertEquals(map.size(), 2);
+    }
+
+    @Test
+    public void testRandom() {
+        var map = new ByzDateLongMap(1);
+        var expected = new HashMap<Integer, Long>();
+        var random = new Random(7532);
+
+        for (int i = 0; i < 100_000; i++) {
+            int packed = 19_000 + random.nextInt(2_000);
+            switch (random.nextInt(4)) {
+                case 0 -> assertEquals(map.removePacked(packed), expected.remove(packed) != null);
+                case 1 -> {
+                    long value = random.nextLong();
+                    Long previous = expected.put(packed, value);
+                    assertEquals(map.putPacked(packed, value), previous == null ? 0 : (long) previous);
+                }
+                default -> {
+                    long value = expected.merge(packed, (long) i << 32, Long::sum);
+                    assertEquals(map.addToPacked(packed, (long) i << 32), value);
+                }
+            }
+        }
+        assertEquals(map.size(), expected.size());
+        expected.forEach((packed, value) -> assertEquals(map.getPacked(packed, 0), (long) value));
+        for (int packed = 18_900; packed < 21_100; packed++)
+            assertEquals(map.containsPacked(packed), expected.containsKey(packed));
+    }
+
+    @Test
+    public void testEquals() {
+        var a = new ByzDateLongMap();
+        var b = new ByzDateLongMap();
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        a.put(date, 1L << 40);
+        a.put(date.addDays(-1), 2);
+        b.put(date.addDays(-1), 2);
+        b.put(date, 1L << 40);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.toString(), "{APRIL 2, 7531=2, APRIL 3, 7531=1099511627776}");
+
+        var values = new ArrayList<Long>();
+        a.forEachPacked((packed, value) -> values.add(value));
+        assertEquals(values, List.of(2L, 1L << 40));
+
+        b.clear();
+        assertTrue(b.isEmpty());
+        assertEquals(b.toString(), "{}");
+    }
+}
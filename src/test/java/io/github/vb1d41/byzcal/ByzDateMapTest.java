@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDateMapTest {
+
+    @Test
+    public void testPut() {
+        var map = new ByzDateMap<String>();
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        assertTrue(map.isEmpty());
+        assertNull(map.put(date, "Pascha"));
+        assertEquals(map.put(date, "PASCHA"), "Pascha");
+        assertEquals(map.size(), 1);
+        assertEquals(map.get(date), "PASCHA");
+        assertEquals(map.get(7531, ByzMonth.APRIL, 3), "PASCHA");
+        assertEquals(map.getPacked(date.toPacked()), "PASCHA");
+        assertNull(map.get(7531, ByzMonth.APRIL, 4));
+        assertTrue(map.containsKey(date));
+        assertFalse(map.containsPacked(date.toPacked() + 1));
+
+        assertEquals(map.remove(date), "PASCHA");
+        assertNull(map.remove(date));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        var map = new ByzDateMap<List<String>>();
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        map.computeIfAbsent(date, d -> new ArrayList<>()).add("Matins");
+        map.computeIfAbsent(date, d -> new ArrayList<>()).add("Liturgy");
+
+        assertEquals(map.get(date), List.of("Matins", "Liturgy"));
+        assertEquals(map.size(), 1);
+    }
+
+    @Test
+    public void testOrder() {
+        var map = new ByzDateMap<Integer>();
+        var random = new Random(7531);
+        var expected = new TreeMap<Integer, Integer>();
+
+        for (int i = 0; i < 1_000; i++) {
+            int packed = random.nextInt(100_000) - 50_000;
+            map.putPacked(packed, i);
+            expected.put(packed, i);
+        }
+
+        var keys = new ArrayList<Integer>();
+        var values = new ArrayList<Integer>();
+        map.forEachPacked((packed, value) -> {
+            keys.add(packed);
+            values.add(value);
+        });
+        assertEquals(keys, new ArrayList<>(expected.keySet()));
+        assertEquals(values, new ArrayList<>(expected.values()));
+        assertEquals(map.packedDates().boxed().toList(), keys);
+        assertEquals(map.dates().map(ByzDate::toPacked).toList(), keys);
+
+        var dates = new ArrayList<ByzDate>();
+        map.forEach((date, value) -> dates.add(date));
+        assertEquals(dates, map.dates().toList());
+    }
+
+    @Test
+    public void testRandom() {
+        // runs of consecutive days make long clusters, which removals must keep intact
+        var map = new ByzDateMap<Integer>(4);
+        var expected = new HashMap<Integer, Integer>();
+        var random = new Random(7532);
+
+        for (int i = 0; i < 200_000; i++) {
+            int packed = 19_000 + random.nextInt(3_000);
+            if (random.nextInt(3) == 0)
+                assertEquals(map.removePacked(packed), expected.remove(packed));
+            else
+                assertEquals(map.putPacked(packed, i), expected.put(packed, i));
+            assertEquals(map.size(), expected.size());
+        }
+        expected.forEach((packed, value) -> assertEquals(map.getPacked(packed), value));
+        for (int packed = 18_900; packed < 22_100; packed++)
+            assertEquals(map.containsPacked(packed), expected.containsKey(packed));
+    }
+
+    @Test
+    public void testClear() {
+        var map = new ByzDateMap<String>();
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        map.put(date, "Pascha");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(date));
+        assertEquals(map.toString(), "{}");
+    }
+
+    @Test
+    public void testEquals() {
+        var a = new ByzDateMap<String>();
+        var b = new ByzDateMap<String>(100);
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        a.put(date, "Pascha");
+        a.put(date.addDays(1), "Bright Monday");
+        b.put(date.addDays(1), "Bright Monday");
+        b.put(date, "Pascha");
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.toString(), "{APRIL 3, 7531=Pascha, APRIL 4, 7531=Bright Monday}");
+
+        b.put(date, "PASCHA");
+        assertNotEquals(a, b);
+    }
+}
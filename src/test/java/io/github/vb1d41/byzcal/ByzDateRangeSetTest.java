@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDateRangeSetTest {
+
+    static final ByzDate APR_3_7531 = ByzDate.of(7531, ByzMonth.APRIL, 3);
+    static final ByzDate APR_10_7531 = ByzDate.of(7531, ByzMonth.APRIL, 10);
+    static final ByzDate MAY_3_7531 = ByzDate.of(7531, ByzMonth.MAY, 3);
+    static final ByzDate MAY_10_7531 = ByzDate.of(7531, ByzMonth.MAY, 10);
+
+    @Test
+    public void testAdd_Merge() {
+        var set = ByzDateRangeSet.of(ByzDateRange.of(APR_3_7531, APR_10_7531),
+            ByzDateRange.of(MAY_3_7531, MAY_10_7531));
+
+        assertEquals(set.rangeCount(), 2);
+        assertEquals(set.size(), 14);
+
+        set.add(ByzDateRange.of(APR_10_7531, MAY_3_7531));
+        assertEquals(set.ranges(), List.of(ByzDateRange.of(APR_3_7531, MAY_10_7531)));
+        assertEquals(set.toString(), "[[APRIL 3, 7531, MAY 10, 7531)]");
+
+        set.remove(ByzDateRange.of(APR_10_7531, MAY_3_7531));
+        assertEquals(set.rangeCount(), 2);
+        assertTrue(set.contains(APR_3_7531));
+        assertFalse(set.contains(APR_10_7531));
+        assertTrue(set.contains(MAY_3_7531));
+        assertFalse(set.contains(MAY_10_7531));
+        assertEquals(set.nextSetDate(APR_10_7531), MAY_3_7531);
+        assertEquals(set.previousSetDate(APR_10_7531), APR_10_7531.addDays(-1));
+        assertNull(set.nextSetDate(MAY_10_7531));
+    }
+
+    @Test
+    public void testRandom() {
+        var random = new Random(7531);
+        var set1 = new ByzDateRangeSet();
+        var set2 = new ByzDateRangeSet();
+        var expected1 = new TreeSet<Integer>();
+        var expected2 = new TreeSet<Integer>();
+
+        for (int i = 0; i < 300; i++) {
+            int start = random.nextInt(4_000) - 2_000;
+            int end = start + random.nextInt(40);
+            var range = ByzDateRange.of(ByzDate.fromPacked(start), ByzDate.fromPacked(end));
+            boolean add = random.nextInt(3) > 0;
+
+            for (int packed = start; packed < end; packed++) {
+                if (add)
+                    expected1.add(packed);
+                else
+                    expected1.remove(packed);
+            }
+            if (add)
+                set1.add(range);
+            else
+                set1.remove(range);
+
+            start = random.nextInt(4_000) - 2_000;
+            end = start + random.nextInt(40);
+            set2.add(ByzDateRange.of(ByzDate.fromPacked(start), ByzDate.fromPacked(end)));
+            for (int packed = start; packed < end; packed++)
+                expected2.add(packed);
+        }
+
+        assertEquals(packedDates(set1), new ArrayList<>(expected1));
+        assertEquals(set1.size(), expected1.size());
+        for (int packed = -2_100; packed < 2_100; packed++) {
+            var date = ByzDate.fromPacked(packed);
+            var next = expected1.ceiling(packed);
+            var previous = expected1.floor(packed);
+
+            assertEquals(set1.containsPacked(packed), expected1.contains(packed));
+            assertEquals(set1.nextSetDate(date), next == null ? null : ByzDate.fromPacked(next));
+            assertEquals(set1.previousSetDate(date), previous == null ? null : ByzDate.fromPacked(previous));
+        }
+
+        var union = new TreeSet<>(expected1);
+        union.addAll(expected2);
+        var intersection = new TreeSet<>(expected1);
+        intersection.retainAll(expected2);
+        var difference = new TreeSet<>(expected1);
+        difference.removeAll(expected2);
+
+        assertEquals(packedDates(set1.union(set2)), new ArrayList<>(union));
+        assertEquals(packedDates(set1.intersection(set2)), new ArrayList<>(intersection));
+        assertEquals(packedDates(set1.difference(set2)), new ArrayList<>(difference));
+    }
+
+    private static List<Integer> packedDates(ByzDateRangeSet set) {
+        var dates = new ArrayList<Integer>();
+        set.forEachPacked(dates::add);
+        return dates;
+    }
+}
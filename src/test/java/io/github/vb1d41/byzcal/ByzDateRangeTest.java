@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import static io.github.vb1d41.byzcal.ByzDateTest.APR_3_7531;
+import static io.github.vb1d41.byzcal.ByzDateTest.APR_3_7532;
+import static io.github.vb1d41.byzcal.ByzDateTest.APR_4_7531;
+import static io.github.vb1d41.byzcal.ByzDateTest.MAY_3_7531;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDateRangeTest {
+
+    @Test
+    public void testLength() {
+        assertEquals(ByzDateRange.of(APR_3_7531, MAY_3_7531).length(), 30);
+        assertEquals(ByzDateRange.of(APR_3_7531, APR_3_7532).length(), 366);
+
+        assertTrue(ByzDateRange.of(APR_3_7531, APR_3_7531).isEmpty());
+        assertFalse(ByzDateRange.of(APR_3_7531, APR_4_7531).isEmpty());
+    }
+
+    @Test
+    public void testOf_EndBeforeStart() {
+        assertThrows(IllegalArgumentException.class, () -> ByzDateRange.of(APR_4_7531, APR_3_7531));
+        assertThrows(IllegalArgumentException.class, () -> APR_4_7531.datesUntil(APR_3_7531));
+        assertThrows(IllegalArgumentException.class, () -> APR_4_7531.datesUntil(APR_3_7531, 7));
+        assertThrows(IllegalArgumentException.class, () -> APR_3_7531.datesUntil(APR_4_7531, 0));
+    }
+
+    @Test
+    public void testContains() {
+        var r = ByzDateRange.of(APR_3_7531, MAY_3_7531);
+
+        assertTrue(r.contains(APR_3_7531));
+        assertTrue(r.contains(APR_4_7531));
+
+        assertFalse(r.contains(MAY_3_7531));
+        assertFalse(r.contains(APR_3_7531.addDays(-1)));
+    }
+
+    @Test
+    public void testStream() {
+        var dates = ByzDateRange.of(APR_3_7531, MAY_3_7531).stream().toList();
+
+        assertEquals(dates.size(), 30);
+        assertEquals(dates.get(0), APR_3_7531);
+        assertEquals(dates.get(1), APR_4_7531);
+        assertEquals(dates.get(29), MAY_3_7531.addDays(-1));
+    }
+
+    @Test
+    public void testStream_Step() {
+        var dates = ByzDateRange.of(APR_3_7531, MAY_3_7531).stream(7).toList();
+
+        assertEquals(dates.size(), 5);
+        assertEquals(dates.get(4), APR_3_7531.addDays(28));
+    }
+
+    @Test
+    public void testStream_Parallel() {
+        var r = ByzDateRange.of(APR_3_7531, APR_3_7531.addYears(100));
+
+        var sequential = r.stream().collect(Collectors.toList());
+        var parallel = r.stream().parallel().collect(Collectors.toList());
+
+        assertEquals(parallel, sequential);
+    }
+
+    @Test
+    public void testEpochDays() {
+        var r = ByzDateRange.of(APR_3_7531, MAY_3_7531);
+
+        assertEquals(r.epochDays().toArray(), r.stream().mapToLong(ByzDate::toEpochDay).toArray());
+        assertEquals(r.epochDays(10).toArray(), new long[] {
+            APR_3_7531.toEpochDay(), APR_3_7531.toEpochDay() + 10, APR_3_7531.toEpochDay() + 20
+        });
+    }
+
+    @Test
+    public void testSpliterator() {
+        var s = ByzDateRange.of(APR_3_7531, APR_3_7532).spliterator();
+
+        assertTrue(s.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(s.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(s.getExactSizeIfKnown(), 366);
+
+        var prefix = s.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(prefix.getExactSizeIfKnown() + s.getExactSizeIfKnown(), 366);
+        assertEquals(prefix.getExactSizeIfKnown(), 183);
+    }
+
+    @Test
+    public void testEquals() {
+        var r1 = ByzDateRange.of(APR_3_7531, MAY_3_7531);
+        var r2 = ByzDateRange.of(APR_3_7531, MAY_3_7531);
+        var r3 = ByzDateRange.of(APR_4_7531, MAY_3_7531);
+
+        assertTrue(r1.equals(r2));
+        assertEquals(r1.hashCode(), r2.hashCode());
+
+        assertFalse(r1.equals(r3));
+        assertFalse(r1.equals(null));
+    }
+
+    @Test
+    public void testToString() {
+        var r = ByzDateRange.of(APR_3_7531, MAY_3_7531);
+
+        assertEquals(r.toString(), "[APRIL 3, 7531, MAY 3, 7531)");
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDateSetTest {
+
+    static final ByzDate APR_3_7531 = ByzDate.of(7531, ByzMonth.APRIL, 3);
+    static final ByzDate APR_4_7531 = ByzDate.of(7531, ByzMonth.APRIL, 4);
+    static final ByzDate MAY_3_7531 = ByzDate.of(7531, ByzMonth.MAY, 3);
+
+    @Test
+    public void testAddAndContains() {
+        var set = ByzDateSet.of(APR_3_7531, MAY_3_7531);
+
+        assertTrue(set.contains(APR_3_7531));
+        assertFalse(set.contains(APR_4_7531));
+        assertFalse(set.add(APR_3_7531));
+        assertTrue(set.add(APR_4_7531));
+        assertEquals(set.size(), 3);
+        assertEquals(set.toString(), "[APRIL 3, 7531, APRIL 4, 7531, MAY 3, 7531]");
+
+        assertTrue(set.remove(APR_4_7531));
+        assertFalse(set.remove(APR_4_7531));
+        assertEquals(set, ByzDateSet.of(MAY_3_7531, APR_3_7531));
+        assertEquals(set.hashCode(), ByzDateSet.of(MAY_3_7531, APR_3_7531).hashCode());
+
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void testNextAndPreviousSetDate() {
+        var set = ByzDateSet.of(APR_3_7531, MAY_3_7531);
+
+        assertEquals(set.nextSetDate(APR_3_7531), APR_3_7531);
+        assertEquals(set.nextSetDate(APR_4_7531), MAY_3_7531);
+        assertNull(set.nextSetDate(MAY_3_7531.addDays(1)));
+        assertEquals(set.previousSetDate(APR_4_7531), APR_3_7531);
+        assertEquals(set.previousSetDate(MAY_3_7531.addYears(100)), MAY_3_7531);
+        assertNull(set.previousSetDate(APR_3_7531.addDays(-1)));
+    }
+
+    @Test
+    public void testRandom() {
+        var random = new Random(7531);
+        var set1 = new ByzDateSet();
+        var set2 = new ByzDateSet();
+        var expected1 = new TreeSet<Integer>();
+        var expected2 = new TreeSet<Integer>();
+
+        // dense and sparse chunks, before and after the Epoch
+        for (int i = 0; i < 20_000; i++) {
+            int packed = i % 2 == 0 ? random.nextInt(3_000) - 1_500 : random.nextInt(2_000_000) - 1_000_000;
+            assertEquals(set1.addPacked(packed), expected1.add(packed));
+            packed = random.nextInt(6_000) - 3_000;
+            assertEquals(set2.addPacked(packed), expected2.add(packed));
+        }
+        for (int i = 0; i < 2_000; i++) {
+            int packed = random.nextInt(3_000) - 1_500;
+            assertEquals(set1.removePacked(packed), expected1.remove(packed));
+        }
+
+        assertEquals(set1.size(), expected1.size());
+        assertEquals(set1.packedDates().boxed().toList(), expected1.stream().toList());
+        for (int packed = -5_000; packed < 5_000; packed++) {
+            var date = ByzDate.fromPacked(packed);
+            var next = expected1.ceiling(packed);
+            var previous = expected1.floor(packed);
+
+            assertEquals(set1.containsPacked(packed), expected1.contains(packed));
+            assertEquals(set1.nextSetDate(date), next == null ? null : ByzDate.fromPacked(next));
+            assertEquals(set1.previousSetDate(date), previous == null ? null : ByzDate.fromPacked(previous));
+        }
+
+        var union = new TreeSet<>(expected1);
+        union.addAll(expected2);
+        var intersection = new TreeSet<>(expected1);
+        intersection.retainAll(expected2);
+        var difference = new TreeSet<>(expected1);
+        difference.removeAll(expected2);
+
+        assertEquals(set1.union(set2).packedDates().boxed().toList(), union.stream().toList());
+        assertEquals(set1.intersection(set2).packedDates().boxed().toList(), intersection.stream().toList());
+        assertEquals(set1.difference(set2).packedDates().boxed().toList(), difference.stream().toList());
+        assertEquals(set1.union(set2).difference(set2), set1.difference(set2));
+    }
+
+    @Test
+    public void testOf_Range() {
+        var range = ByzDateRange.of(APR_3_7531, MAY_3_7531);
+        var set = ByzDateSet.of(range);
+
+        assertEquals(set.size(), range.length());
+        assertEquals(set.stream().toList(), range.stream().toList());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Checks the classes initialized by the first conversion in a fresh JVM.
+ *
+ * The first conversion is on the startup path of command line tools; the
+ * classes below made it ten times slower when they were initialized eagerly.
+ *
+ * @version 1.3.0
+ */
+public class ByzDateStartupTest {
+
+    private static final List<String> LAZY_CLASSES = List.of(
+        "io/github/vb1d41/byzcal/ByzCalMetrics$Registry",
+        "java/util/concurrent/atomic/LongAdder",
+        "java/util/GregorianCalendar",
+        "java/util/TimeZone");
+
+    @Test
+    public void testFirstConversion() throws Exception {
+        String log = runFirstConversion();
+
+        assertTrue(log.contains("APRIL 3, 7531"), log);
+        assertTrue(log.contains("Initializing 'io/github/vb1d41/byzcal/ByzDate'"), log);
+        for (var name : LAZY_CLASSES)
+            assertFalse(log.contains("Initializing '" + name + "'"), name);
+    }
+
+    // the output of FirstConversion, with the log of the initialized classes
+    private static String runFirstConversion() throws IOException, InterruptedException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        String classPath = location(ByzDate.class) + File.pathSeparator + location(FirstConversion.class);
+
+        var process = new ProcessBuilder(java, "-Xlog:class+init=info", "-cp", classPath,
+            FirstConversion.class.getName()).redirectErrorStream(true).start();
+        String log;
+        try (InputStream out = process.getInputStream()) {
+            log = new String(out.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        assertEquals(process.exitValue(), 0, log);
+        return log;
+    }
+
+    private static String location(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Converts one date, run in the fresh JVM.
+     */
+    public static final class FirstConversion {
+
+        private FirstConversion() {
+        }
+
+        public static void main(String[] args) {
+            System.out.println(ByzDate.fromGregorian(2023, 4, 16));
+        }
+    }
+}
@@ -27,7 +27,7 @@ import static org.testng.Assert.assertTrue;
 import java.time.LocalDate;
 
 /**
- * @version 1.2.0
+ * @version 1.3.0
  */
 public class ByzDateTest {
 
@@ -112,6 +112,32 @@ public class ByzDateTest {
         assertEquals(d1, d2);
     }
 
+    @Test
+    public void testFromPacked() {
+        ByzDate d = APR_3_7531;
+
+        assertEquals(d, ByzDate.fromPacked(d.toPacked()));
+    }
+
+    @Test
+    public void testToPacked() {
+        ByzDate d1 = APR_3_7531;
+        ByzDate d2 = APR_4_7531;
+        ByzDate d3 = APR_3_7532;
+
+        assertEquals(d1.toPacked() + 1, d2.toPacked());
+        assertEquals(d1.toPacked() + 366, d3.toPacked());
+        assertEquals(19_463, ByzDate.fromGregorian(2023, 4, 16).toPacked());
+    }
+
+    @Test
+    public void testOfEpochDay() {
+        ByzDate d = APR_3_7531;
+
+        assertEquals(d, ByzDate.ofEpochDay(d.toEpochDay()));
+        assertEquals(19_463, ByzDate.fromGregorian(2023, 4, 16).toEpochDay());
+    }
+
     @DataProvider(name = "dayOfWeek")
     public Object[][] dayOfWeek() {
         return new Object[][] {
@@ -161,6 +187,16 @@ public class ByzDateTest {
         assertEquals(d1, d2.addDays(-1));
     }
 
+    @Test
+    public void testDatesUntil() {
+        ByzDate d1 = APR_3_7531;
+        ByzDate d2 = MAY_3_7531;
+
+        assertEquals(d1.datesUntil(d2).count(), 30);
+        assertEquals(d1.datesUntil(d2, 2).count(), 15);
+        assertEquals(d1.datesUntil(d1).count(), 0);
+    }
+
     @Test
     public void testIsEqual() {
         ByzDate d1 = APR_3_7531;
@@ -240,5 +276,51 @@ public class ByzDateTest {
 
         assertEquals("APRIL 3, 7531", d.toString());
     }
-}
 
+    @Test
+    public void testParse() {
+        assertEquals(ByzDate.parse("APRIL 3, 7531"), APR_3_7531);
+        assertEquals(ByzDate.parse(APR_3_7532.toString()), APR_3_7532);
+    }
+
+    @Test
+    public void testDaysMonthsYearsUntil() {
+        assertEquals(APR_3_7531.daysUntil(MAY_3_7531), 30);
+        assertEquals(MAY_3_7531.daysUntil(APR_3_7531), -30);
+        assertEquals(APR_3_7531.monthsUntil(MAY_3_7531), 1);
+        assertEquals(APR_4_7531.monthsUntil(MAY_3_7531), 0);
+        assertEquals(APR_3_7531.monthsUntil(APR_3_7532), 12);
+        assertEquals(APR_3_7532.yearsUntil(APR_3_7531), -1);
+        assertEquals(APR_4_7531.yearsUntil(APR_3_7532), 0);
+    }
+
+    @Test
+    public void testDerivedFields() {
+        assertEquals(APR_3_7531.dayOfYear(), 215);
+        assertEquals(APR_3_7531.weekOfYear(), 31);
+        assertEquals(APR_3_7531.indiction(), 1);
+        assertEquals(APR_3_7531.solarCycle(), 27);
+        assertEquals(APR_3_7531.lunarCycle(), 7);
+        assertEquals(APR_3_7531.goldenNumber(), 10);
+        assertEquals(APR_3_7531.dominicalLetters(), "B");
+        assertEquals(APR_3_7532.dominicalLetters(), "AG");
+        assertEquals(ByzDate.of(7530, ByzMonth.SEPTEMBER, 1).indiction(), 15);
+        assertEquals(ByzDate.of(7532, ByzMonth.AUGUST, 31).dayOfYear(), 366);
+        assertEquals(ByzDate.of(7532, ByzMonth.AUGUST, 31).weekOfYear(), 53);
+    }
+
+    @Test
+    public void testDerivedFields_EveryYear() {
+        for (int year = 5600; year < 12000; year++) {
+            var date = ByzDate.of(year, ByzMonth.MARCH, 1);
+            var january1 = ByzDate.of(year, ByzMonth.JANUARY, 1);
+            var sunday = january1.addDays((7 - january1.dayOfWeek().ordinal()) % 7);
+            int julianYear = year - 5508;
+
+            assertEquals(date.goldenNumber(), Math.floorMod(julianYear, 19) + 1);
+            assertEquals(date.goldenNumber(), (date.lunarCycle() + 2) % 19 + 1);
+            assertEquals(date.dominicalLetters().charAt(0), (char) ('A' + sunday.dayOfMonth() - 1));
+            assertEquals(date.dominicalLetters().length(), year % 4 == 0 ? 2 : 1);
+        }
+    }
+}
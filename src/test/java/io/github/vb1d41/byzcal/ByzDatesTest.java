@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzDatesTest {
+
+    @DataProvider(name = "sizes")
+    public Object[][] sizes() {
+        return new Object[][] { { 0 }, { 1 }, { 1_000 }, { 100_000 } };
+    }
+
+    @Test(dataProvider = "sizes")
+    public void testConvertGregorian(int size) {
+        var random = new Random(size);
+        var years = new int[size];
+        var months = new int[size];
+        var daysOfMonth = new int[size];
+        for (int i = 0; i < size; i++) {
+            var date = LocalDate.ofEpochDay(random.nextInt(400_000) - 140_000);
+            years[i] = date.getYear();
+            months[i] = date.getMonthValue();
+            daysOfMonth[i] = date.getDayOfMonth();
+        }
+        var out = new Output(size);
+
+        ByzDates.convertGregorian(years, months, daysOfMonth,
+            out.years, out.months, out.daysOfMonth, out.daysOfWeek);
+
+        for (int i = 0; i < size; i++)
+            out.assertDate(i, ByzDate.fromGregorian(years[i], months[i], daysOfMonth[i]));
+    }
+
+    @Test(dataProvider = "sizes")
+    public void testDerivedFields(int size) {
+        var random = new Random(size);
+        var packed = new int[size];
+        for (int i = 0; i < size; i++)
+            packed[i] = random.nextInt(400_000) - 140_000;
+
+        var daysOfYear = new short[size];
+        var weeksOfYear = new byte[size];
+        var indictions = new byte[size];
+        var solarCycles = new byte[size];
+        var lunarCycles = new byte[size];
+        var goldenNumbers = new byte[size];
+
+        ByzDates.daysOfYear(packed, daysOfYear);
+        ByzDates.weeksOfYear(packed, weeksOfYear);
+        ByzDates.indictions(packed, indictions);
+        ByzDates.solarCycles(packed, solarCycles);
+        ByzDates.lunarCycles(packed, lunarCycles);
+        ByzDates.goldenNumbers(packed, goldenNumbers);
+
+        for (int i = 0; i < size; i++) {
+            var date = ByzDate.fromPacked(packed[i]);
+
+            assertEquals(daysOfYear[i], date.dayOfYear());
+            assertEquals(weeksOfYear[i], date.weekOfYear());
+            assertEquals(indictions[i], date.indiction());
+            assertEquals(solarCycles[i], date.solarCycle());
+            assertEquals(lunarCycles[i], date.lunarCycle());
+            assertEquals(goldenNumbers[i], date.goldenNumber());
+        }
+    }
+
+    @Test(dataProvider = "sizes")
+    public void testConvertEpochDays(int size) {
+        var random = new Random(size);
+        var epochDays = new long[size];
+        for (int i = 0; i < size; i++)
+            epochDays[i] = random.nextInt(2_000_000) - 1_000_000;
+        var out = new Output(size);
+
+        ByzDates.convertEpochDays(epochDays,
+            out.years, out.months, out.daysOfMonth, out.daysOfWeek);
+
+        for (int i = 0; i < size; i++)
+            out.assertDate(i, ByzDate.fromPacked((int) epochDays[i]));
+    }
+
+    static final class Output {
+
+        final int[] years;
+        final byte[] months;
+        final byte[] daysOfMonth;
+        final byte[] daysOfWeek;
+
+        Output(int size) {
+            this.years = new int[size];
+            this.months = new byte[size];
+            this.daysOfMonth = new byte[size];
+            this.daysOfWeek = new byte[size];
+        }
+
+        void assertDate(int i, ByzDate expected) {
+            assertEquals(this.years[i], expected.year());
+            assertEquals(this.months[i], expected.month().ordinal());
+            assertEquals(this.daysOfMonth[i], expected.dayOfMonth());
+            assertEquals(this.daysOfWeek[i], expected.dayOfWeek().ordinal());
+        }
+    }
+}
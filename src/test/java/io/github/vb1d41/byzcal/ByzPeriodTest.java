@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzPeriodTest {
+
+    @DataProvider(name = "between")
+    public Object[][] between() {
+        return new Object[][] {
+            { ByzDate.of(7531, ByzMonth.APRIL, 3), ByzDate.of(7533, ByzMonth.OCTOBER, 1), ByzPeriod.of(1, 5, 28) },
+            { ByzDate.of(7531, ByzMonth.AUGUST, 31), ByzDate.of(7532, ByzMonth.SEPTEMBER, 1), ByzPeriod.of(0, 0, 1) },
+            { ByzDate.of(7531, ByzMonth.JANUARY, 31), ByzDate.of(7531, ByzMonth.FEBRUARY, 28), ByzPeriod.of(0, 0, 28) },
+            { ByzDate.of(7531, ByzMonth.JANUARY, 31), ByzDate.of(7531, ByzMonth.MARCH, 1), ByzPeriod.of(0, 1, 1) },
+            { ByzDate.of(7532, ByzMonth.FEBRUARY, 29), ByzDate.of(7533, ByzMonth.FEBRUARY, 28), ByzPeriod.of(0, 11, 30) },
+            { ByzDate.of(7531, ByzMonth.MAY, 3), ByzDate.of(7531, ByzMonth.APRIL, 3), ByzPeriod.of(0, -1, 0) },
+            { ByzDate.of(7531, ByzMonth.MAY, 3), ByzDate.of(7531, ByzMonth.MAY, 3), ByzPeriod.ZERO }
+        };
+    }
+
+    @Test(dataProvider = "between")
+    public void testBetween(ByzDate start, ByzDate end, ByzPeriod period) {
+        assertEquals(ByzPeriod.between(start, end), period);
+    }
+
+    @Test
+    public void testBetween_Random() {
+        var random = new Random(7531);
+        for (int i = 0; i < 100_000; i++) {
+            var start = ByzDate.ofEpochDay(random.nextInt(100_000));
+            var end = ByzDate.ofEpochDay(random.nextInt(100_000));
+            var period = ByzPeriod.between(start, end);
+            var expected = ByzChronoLocalDate.of(start).until(ByzChronoLocalDate.of(end));
+
+            assertEquals(period.years(), expected.get(ChronoUnit.YEARS));
+            assertEquals(period.months(), expected.get(ChronoUnit.MONTHS));
+            assertEquals(period.days(), expected.get(ChronoUnit.DAYS));
+            assertEquals(period.toTotalMonths(), start.monthsUntil(end));
+            if (end.isBefore(start))
+                assertEquals(ByzPeriod.between(end, start).addTo(end), start);
+            else
+                assertEquals(period.addTo(start), end);
+        }
+    }
+
+    @Test
+    public void testBetween_Negative() {
+        var start = ByzDate.of(7531, ByzMonth.MARCH, 31);
+        var end = ByzDate.of(7531, ByzMonth.FEBRUARY, 28);
+        var period = ByzPeriod.between(start, end);
+
+        assertEquals(period, ByzPeriod.of(0, -1, -3));
+        // February 28 is pinned from March 31, then 3 days are subtracted
+        assertEquals(period.addTo(start), ByzDate.of(7531, ByzMonth.FEBRUARY, 25));
+        assertEquals(ByzPeriod.between(end, start).addTo(end), start);
+    }
+
+    @Test
+    public void testAddTo() {
+        var date = ByzDate.of(7532, ByzMonth.JANUARY, 31);
+
+        assertEquals(ByzPeriod.of(0, 1, 0).addTo(date), ByzDate.of(7532, ByzMonth.FEBRUARY, 29));
+        assertEquals(ByzPeriod.of(1, 1, 1).addTo(date), ByzDate.of(7533, ByzMonth.MARCH, 1));
+        assertEquals(ByzPeriod.ZERO.addTo(date), date);
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals(ByzPeriod.of(1, 5, 28).toString(), "P1Y5M28D");
+        assertEquals(ByzPeriod.of(0, -1, 0).toString(), "P-1M");
+        assertEquals(ByzPeriod.of(0, 0, 0).toString(), "P0D");
+        assertTrue(ByzPeriod.of(0, 0, 0).isZero());
+    }
+}
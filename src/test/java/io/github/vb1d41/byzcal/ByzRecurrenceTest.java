@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import io.github.vb1d41.byzcal.ByzRecurrence.Adjustment;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzRecurrenceTest {
+
+    private static final ByzDateRange RANGE =
+        ByzDateRange.of(ByzDate.of(7500, ByzMonth.SEPTEMBER, 1), ByzDate.of(7560, ByzMonth.SEPTEMBER, 1));
+
+    @Test
+    public void testDayOfMonthAndDayOfWeek() {
+        var rule = ByzRecurrence.daily().onDayOfMonth(1).onDaysOfWeek(ByzDayOfWeek.FIFTH);
+
+        assertRule(rule, date -> date.dayOfMonth() == 1 && date.dayOfWeek() == ByzDayOfWeek.FIFTH);
+        assertEquals(rule.nextOrSame(ByzDate.of(7531, ByzMonth.APRIL, 3)), ByzDate.of(7532, ByzMonth.SEPTEMBER, 1));
+    }
+
+    @Test
+    public void testNearest() {
+        var rule = ByzRecurrence.yearly(ByzMonth.SEPTEMBER, 14)
+            .adjustedTo(Adjustment.NEAREST, ByzDayOfWeek.LORDSDAY);
+
+        assertRule(rule, date -> date.dayOfWeek() == ByzDayOfWeek.LORDSDAY
+            && Math.abs(date.toEpochDay() - ByzDate.of(date.year(), ByzMonth.SEPTEMBER, 14).toEpochDay()) <= 3);
+        // September 14, 7532 is a Fourth day
+        assertEquals(rule.next(ByzDate.of(7531, ByzMonth.APRIL, 3)), ByzDate.of(7532, ByzMonth.SEPTEMBER, 11));
+    }
+
+    @Test
+    public void testAdjustments() {
+        var base = ByzRecurrence.daily().onDayOfMonth(10);
+        var adjustments = List.of(Adjustment.ON_OR_AFTER, Adjustment.AFTER,
+            Adjustment.ON_OR_BEFORE, Adjustment.BEFORE, Adjustment.NEAREST);
+
+        for (var adjustment : adjustments) {
+            var rule = base.adjustedTo(adjustment, ByzDayOfWeek.SABBATH);
+            assertRule(rule, date -> {
+                if (date.dayOfWeek() != ByzDayOfWeek.SABBATH)
+                    return false;
+                for (int days = -7; days <= 7; days++) {
+                    var selected = date.addDays(days);
+                    if (selected.dayOfMonth() == 10 && isAdjusted(adjustment, -days))
+                        return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    @Test
+    public void testNthDayOfWeek() {
+        var second = ByzRecurrence.daily().inMonths(ByzMonth.DECEMBER).onNthDayOfWeek(2, ByzDayOfWeek.LORDSDAY);
+        assertRule(second, date -> date.month() == ByzMonth.DECEMBER
+            && date.dayOfWeek() == ByzDayOfWeek.LORDSDAY && date.dayOfMonth() > 7 && date.dayOfMonth() <= 14);
+
+        var last = ByzRecurrence.daily().onNthDayOfWeek(-1, ByzDayOfWeek.SABBATH);
+        assertRule(last, date -> date.dayOfWeek() == ByzDayOfWeek.SABBATH
+            && date.addDays(7).month() != date.month());
+
+        var fifth = ByzRecurrence.daily().onNthDayOfWeek(5, ByzDayOfWeek.SECOND).onDayOfMonth(31);
+        assertRule(fifth, date -> date.dayOfWeek() == ByzDayOfWeek.SECOND && date.dayOfMonth() == 31);
+    }
+
+    @Test
+    public void testLastDayAndOffset() {
+        var rule = ByzRecurrence.daily().onDayOfMonth(-1).inMonths(ByzMonth.FEBRUARY, ByzMonth.AUGUST).plusDays(1);
+
+        assertRule(rule, date -> date.dayOfMonth() == 1
+            && (date.month() == ByzMonth.MARCH || date.month() == ByzMonth.SEPTEMBER));
+    }
+
+    @Test
+    public void testLeapDay() {
+        var rule = ByzRecurrence.yearly(ByzMonth.FEBRUARY, 29);
+
+        assertRule(rule, date -> date.month() == ByzMonth.FEBRUARY && date.dayOfMonth() == 29);
+        assertEquals(rule.next(ByzDate.of(7529, ByzMonth.MARCH, 1)), ByzDate.of(7532, ByzMonth.FEBRUARY, 29));
+    }
+
+    @Test
+    public void testNone() {
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        assertNull(ByzRecurrence.yearly(ByzMonth.FEBRUARY, 30).next(date));
+        assertNull(ByzRecurrence.daily().onNthDayOfWeek(5, ByzDayOfWeek.FIFTH).inMonths(ByzMonth.FEBRUARY)
+            .onDayOfMonth(30).next(date));
+        assertEquals(ByzRecurrence.yearly(ByzMonth.FEBRUARY, 30).occurrences(RANGE).count(), 0);
+    }
+
+    @Test
+    public void testMatchesAndEquals() {
+        var rule = ByzRecurrence.yearly(ByzMonth.APRIL, 3);
+
+        assertTrue(rule.matches(ByzDate.of(7531, ByzMonth.APRIL, 3)));
+        assertFalse(rule.matches(ByzDate.of(7531, ByzMonth.APRIL, 4)));
+        assertEquals(rule, ByzRecurrence.daily().onDayOfMonth(3).inMonths(ByzMonth.APRIL));
+        assertEquals(rule.hashCode(), ByzRecurrence.daily().onDayOfMonth(3).inMonths(ByzMonth.APRIL).hashCode());
+        assertNotEquals(rule, rule.plusDays(1));
+    }
+
+    // the selected date is the days before the adjusted date
+    private static boolean isAdjusted(Adjustment adjustment, int days) {
+        return switch (adjustment) {
+            case ON_OR_AFTER -> days >= 0 && days < 7;
+            case AFTER -> days > 0 && days <= 7;
+            case ON_OR_BEFORE -> days <= 0 && days > -7;
+            case BEFORE -> days < 0 && days >= -7;
+            case NEAREST -> Math.abs(days) <= 3;
+        };
+    }
+
+    private static void assertRule(ByzRecurrence rule, Predicate<ByzDate> expected) {
+        var dates = RANGE.stream().filter(expected).toList();
+
+        assertEquals(rule.occurrences(RANGE).toList(), dates);
+        for (var date : dates) {
+            assertTrue(rule.matches(date), date.toString());
+            assertEquals(rule.next(date.addDays(-1)), date);
+        }
+        for (int i = 1; i < dates.size(); i++)
+            assertEquals(rule.next(dates.get(i - 1)), dates.get(i));
+    }
+}
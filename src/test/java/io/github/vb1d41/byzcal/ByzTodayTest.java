@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzTodayTest {
+
+    private static final ZoneId ATHENS = ZoneId.of("Europe/Athens");
+    // midnight was skipped at the start of the summer time until 2019
+    private static final ZoneId SAO_PAULO = ZoneId.of("America/Sao_Paulo");
+
+    @Test
+    public void testNow_Clock() {
+        var midnight = Instant.parse("2023-04-15T21:00:00Z"); // April 16 in Athens
+        var clock = Clock.fixed(midnight, ATHENS);
+
+        assertEquals(ByzDate.now(clock), ByzDate.of(7531, ByzMonth.APRIL, 3));
+        assertSame(ByzDate.now(Clock.offset(clock, Duration.ofHours(23))), ByzDate.now(clock));
+        assertEquals(ByzDate.now(Clock.offset(clock, Duration.ofDays(1))), ByzDate.of(7531, ByzMonth.APRIL, 4));
+        assertEquals(ByzDate.now(Clock.offset(clock, Duration.ofMillis(-1))), ByzDate.of(7531, ByzMonth.APRIL, 2));
+    }
+
+    @Test
+    public void testNow() {
+        var zone = ZoneId.systemDefault();
+        var before = ByzDate.fromGregorian(LocalDate.now(zone));
+        var now = ByzDate.now();
+        var after = ByzDate.fromGregorian(LocalDate.now(zone));
+
+        assertTrue(now.compareTo(before) >= 0 && now.compareTo(after) <= 0);
+        assertEquals(ByzDate.now(zone), ByzDate.now());
+    }
+
+    @Test
+    public void testToday_Rollover() {
+        for (var zone : new ZoneId[] { ATHENS, SAO_PAULO, ZoneId.of("Pacific/Apia") }) {
+            var holder = ByzToday.of(zone);
+            long millis = Instant.parse("2010-01-01T00:00:00Z").toEpochMilli();
+            // every 7 minutes for ten years
+            for (int i = 0; i < 750_000; i++, millis += 420_000)
+                assertToday(holder, zone, millis);
+        }
+    }
+
+    @Test
+    public void testToday_Backwards() {
+        var random = new Random(7531);
+        var holder = ByzToday.of(ATHENS);
+        long millis = Instant.parse("2023-04-15T21:00:00Z").toEpochMilli();
+
+        for (int i = 0; i < 10_000; i++) {
+            millis += random.nextInt(4 * 3_600_000) - 2 * 3_600_000;
+            assertToday(holder, ATHENS, millis);
+        }
+    }
+
+    @Test
+    public void testToday_Concurrent() {
+        var holder = ByzToday.of(SAO_PAULO);
+        long start = Instant.parse("2018-11-01T00:00:00Z").toEpochMilli();
+
+        IntStream.range(0, 400_000).parallel().forEach(i -> {
+            long millis = start + (i % 10_000) * 60_000L + (i / 10_000) * 3_600_000L;
+            assertToday(holder, SAO_PAULO, millis);
+        });
+    }
+
+    private static void assertToday(ByzToday holder, ZoneId zone, long millis) {
+        assertEquals(holder.today(millis), ByzDate.ofEpochMilli(millis, zone), Instant.ofEpochMilli(millis).toString());
+    }
+}
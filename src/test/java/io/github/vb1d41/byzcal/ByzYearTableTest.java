@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzYearTableTest {
+
+    @Test
+    public void testFields_AcrossWindow() {
+        // from 6990 to 8010, the table covers 7000 to 8000
+        long from = JulGreCalendar.julianToEpochDay(6990 - 5509, 9, 1);
+        long to = JulGreCalendar.julianToEpochDay(8010 - 5509, 9, 1);
+
+        for (long epochDay = from; epochDay < to; epochDay++) {
+            long julian = JulGreCalendar.julianFields(epochDay);
+            int calMonth = JulGreCalendar.monthValue(julian);
+            int year = JulGreCalendar.year(julian) + (calMonth >= 9 ? 5509 : 5508);
+            int month = (calMonth + 3) % 12;
+
+            long fields = ByzYearTable.fields(epochDay);
+
+            assertEquals(ByzYearTable.year(fields), year, "epoch day " + epochDay);
+            assertEquals(ByzYearTable.month(fields), month, "epoch day " + epochDay);
+            assertEquals(ByzYearTable.dayOfMonth(fields), JulGreCalendar.dayOfMonth(julian),
+                "epoch day " + epochDay);
+            assertEquals(ByzYearTable.toEpochDay(year, month, JulGreCalendar.dayOfMonth(julian)),
+                epochDay);
+        }
+    }
+
+    @DataProvider(name = "yearStart")
+    public Object[][] yearStart() {
+        return new Object[][] {
+            { 6999 }, { 7000 }, { 7531 }, { 7532 }, { 8000 }, { 8001 }
+        };
+    }
+
+    @Test(dataProvider = "yearStart")
+    public void testYearStart(int year) {
+        long expected = JulGreCalendar.julianToEpochDay(year - 5509, 9, 1);
+
+        assertEquals(ByzYearTable.yearStart(year), expected);
+        assertEquals(ByzYearTable.yearStart(year + 1) - expected, ByzYearTable.lengthOfYear(year));
+    }
+
+    @Test
+    public void testIsLeapYear() {
+        // February 29, 2024 (Julian) is in 7532
+        assertTrue(ByzYearTable.isLeapYear(7532));
+
+        assertFalse(ByzYearTable.isLeapYear(7531));
+        assertFalse(ByzYearTable.isLeapYear(7533));
+    }
+
+    @Test
+    public void testLengthOfMonth() {
+        assertEquals(ByzYearTable.lengthOfMonth(7532, ByzMonth.FEBRUARY.ordinal()), 29);
+        assertEquals(ByzYearTable.lengthOfMonth(7531, ByzMonth.FEBRUARY.ordinal()), 28);
+        assertEquals(ByzYearTable.lengthOfMonth(7531, ByzMonth.SEPTEMBER.ordinal()), 30);
+        assertEquals(ByzYearTable.lengthOfMonth(7531, ByzMonth.AUGUST.ordinal()), 31);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * @version 1.3.0
+ */
+public class ByzZoneConverterTest {
+
+    private static final ZoneId ATHENS = ZoneId.of("Europe/Athens");
+
+    @Test
+    public void testToByzDate() {
+        var converter = ByzZoneConverter.of(ATHENS);
+
+        // 2023-04-15T21:30:00Z is 00:30 of April 16 in Athens (EEST)
+        var instant = Instant.parse("2023-04-15T21:30:00Z");
+        assertEquals(converter.toByzDate(instant), ByzDate.of(7531, ByzMonth.APRIL, 3));
+        assertEquals(converter.toByzDate(instant.minusSeconds(3600)), ByzDate.of(7531, ByzMonth.APRIL, 2));
+        assertEquals(converter.zone(), ATHENS);
+        assertEquals(converter.toString(), "ByzZoneConverter[Europe/Athens]");
+    }
+
+    @Test
+    public void testToByzDate_Transitions() {
+        var converter = ByzZoneConverter.of(ATHENS);
+
+        for (var transition : ATHENS.getRules().getTransitions()) {
+            long millis = transition.toEpochSecond() * 1000;
+            for (long delta : new long[] { -86_400_000, -1, 0, 1, 86_400_000 })
+                assertDate(converter, millis + delta);
+        }
+    }
+
+    @Test
+    public void testToByzDate_Random() {
+        var random = new Random(7531);
+        var zones = new ZoneId[] { ATHENS, ZoneId.of("America/New_York"),
+            ZoneId.of("Australia/Lord_Howe"), ZoneOffset.ofHours(-12), ZoneOffset.UTC };
+
+        for (var zone : zones) {
+            var converter = ByzZoneConverter.of(zone);
+            long millis = Instant.parse("1900-01-01T00:00:00Z").toEpochMilli();
+            for (int i = 0; i < 20_000; i++) {
+                // mostly small steps, sometimes a jump backwards
+                millis += i % 100 == 0 ? -random.nextInt(1 << 30) * 1000L : random.nextInt(1 << 30);
+                assertDate(converter, millis);
+            }
+        }
+    }
+
+    @Test
+    public void testToPacked() {
+        var converter = ByzZoneConverter.of(ATHENS);
+        long[] millis = new long[1_000];
+        for (int i = 0; i < millis.length; i++)
+            millis[i] = 1_680_000_000_000L + i * 3_600_000L;
+
+        int[] packed = new int[millis.length];
+        converter.toPacked(millis, packed);
+
+        for (int i = 0; i < millis.length; i++)
+            assertEquals(packed[i], ByzDate.ofEpochMilli(millis[i], ATHENS).toPacked());
+    }
+
+    private static void assertDate(ByzZoneConverter converter, long millis) {
+        var instant = Instant.ofEpochMilli(millis);
+        var expected = ByzDate.ofEpochDay(LocalDate.ofInstant(instant, converter.zone()).toEpochDay());
+
+        assertEquals(converter.toByzDate(millis), expected, instant.toString());
+        assertEquals(ByzDate.ofInstant(instant, converter.zone()), expected);
+        assertEquals(ByzDate.ofEpochMilli(millis, converter.zone()), expected);
+    }
+}
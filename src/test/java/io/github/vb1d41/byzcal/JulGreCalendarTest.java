@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Checks the epoch-day arithmetic against java.util.GregorianCalendar,
+ * which ByzDate used up to version 1.2.0.
+ *
+ * @version 1.3.0
+ */
+public class JulGreCalendarTest {
+
+    static final long MILLIS_PER_DAY = 86_400_000L;
+
+    // March 1, 5512 (Byzantine), the minimum supported date
+    static final long MIN_EPOCH_DAY = JulGreCalendar.julianToEpochDay(4, 3, 1);
+    // September 1, 10000 (Byzantine)
+    static final long MAX_EPOCH_DAY = JulGreCalendar.julianToEpochDay(4491, 9, 1);
+
+    static final ByzMonth[] CALENDAR_MONTHS = {
+        ByzMonth.JANUARY, ByzMonth.FEBRUARY, ByzMonth.MARCH, ByzMonth.APRIL,
+        ByzMonth.MAY, ByzMonth.JUNE, ByzMonth.JULY, ByzMonth.AUGUST,
+        ByzMonth.SEPTEMBER, ByzMonth.OCTOBER, ByzMonth.NOVEMBER, ByzMonth.DECEMBER
+    };
+
+    static final int[] MONTH_AMOUNTS = { 1, -1, 11, -13, 12 * 7 + 5 };
+    static final int[] YEAR_AMOUNTS = { 1, -1, 3, 4 };
+
+    @Test
+    public void testOf_EveryDay() {
+        var legacy = pureJulian();
+
+        for (long epochDay = MIN_EPOCH_DAY; epochDay < MAX_EPOCH_DAY; epochDay++) {
+            legacy.setTimeInMillis(epochDay * MILLIS_PER_DAY);
+            var expected = fields(legacy);
+
+            var d = ByzDate.of(expected.year(), expected.month(), expected.dayOfMonth());
+
+            assertEquals(fields(d), expected, "epoch day " + epochDay);
+        }
+    }
+
+    @Test
+    public void testFromGregorian_EveryDay() {
+        var legacy = pureJulian();
+        var gregorian = new GregorianCalendar(TimeZone.getTimeZone("GMT0"), Locale.US);
+
+        for (long epochDay = JulGreCalendar.GREGORIAN_CUTOVER; epochDay < MAX_EPOCH_DAY; epochDay++) {
+            gregorian.setTimeInMillis(epochDay * MILLIS_PER_DAY);
+            legacy.setTimeInMillis(epochDay * MILLIS_PER_DAY);
+
+            var d = ByzDate.fromGregorian(gregorian.get(Calendar.YEAR),
+                gregorian.get(Calendar.MONTH) + 1, gregorian.get(Calendar.DAY_OF_MONTH));
+
+            assertEquals(fields(d), fields(legacy), "epoch day " + epochDay);
+        }
+    }
+
+    @Test
+    public void testFromGregorian_Lenient() {
+        for (int month = -30; month <= 30; month++) {
+            for (int dayOfMonth = -40; dayOfMonth <= 70; dayOfMonth += 5) {
+                var legacy = new GregorianCalendar(TimeZone.getTimeZone("GMT0"), Locale.US);
+                legacy.clear();
+                legacy.set(2023, month - 1, dayOfMonth);
+                legacy.setGregorianChange(new Date(Long.MAX_VALUE));
+
+                var d = ByzDate.fromGregorian(2023, month, dayOfMonth);
+
+                assertEquals(fields(d), fields(legacy), month + "/" + dayOfMonth);
+            }
+        }
+    }
+
+    @Test
+    public void testAddMonthsAndYears_EveryDay() {
+        var legacy = pureJulian();
+
+        for (long epochDay = MIN_EPOCH_DAY + 1_000; epochDay < MAX_EPOCH_DAY - 1_000; epochDay++) {
+            legacy.setTimeInMillis(epochDay * MILLIS_PER_DAY);
+            var start = fields(legacy);
+            var d = ByzDate.of(start.year(), start.month(), start.dayOfMonth());
+
+            for (int months : MONTH_AMOUNTS) {
+                legacy.setTimeInMillis(epochDay * MILLIS_PER_DAY);
+                legacy.add(Calendar.MONTH, months);
+
+                assertEquals(fields(d.addMonths(months)), fields(legacy),
+                    "epoch day " + epochDay + " + " + months + " months");
+            }
+            for (int years : YEAR_AMOUNTS) {
+                legacy.setTimeInMillis(epochDay * MILLIS_PER_DAY);
+                legacy.add(Calendar.YEAR, years);
+
+                assertEquals(fields(d.addYears(years)), fields(legacy),
+                    "epoch day " + epochDay + " + " + years + " years");
+            }
+        }
+    }
+
+    @Test
+    public void testAddDays() {
+        var legacy = pureJulian();
+        legacy.setTimeInMillis(MIN_EPOCH_DAY * MILLIS_PER_DAY);
+        var start = fields(legacy);
+        var d = ByzDate.of(start.year(), start.month(), start.dayOfMonth());
+
+        for (int days = 0; days < MAX_EPOCH_DAY - MIN_EPOCH_DAY; days += 997) {
+            legacy.setTimeInMillis((MIN_EPOCH_DAY + days) * MILLIS_PER_DAY);
+
+            assertEquals(fields(d.addDays(days)), fields(legacy), "+ " + days + " days");
+        }
+    }
+
+    record Fields(int year, ByzMonth month, int dayOfMonth, ByzDayOfWeek dayOfWeek) {
+    }
+
+    static Fields fields(ByzDate d) {
+        return new Fields(d.year(), d.month(), d.dayOfMonth(), d.dayOfWeek());
+    }
+
+    // the conversion of ByzDate 1.2.0
+    static Fields fields(GregorianCalendar calendar) {
+        int calYear = calendar.get(Calendar.YEAR);
+        int calMonth = calendar.get(Calendar.MONTH);
+        var month = CALENDAR_MONTHS[calMonth];
+        int year = calYear + (calMonth >= Calendar.SEPTEMBER ? 5509 : 5508);
+        var dayOfWeek = ByzDayOfWeek.values()[calendar.get(Calendar.DAY_OF_WEEK) - 1];
+
+        return new Fields(year, month, calendar.get(Calendar.DAY_OF_MONTH), dayOfWeek);
+    }
+
+    static GregorianCalendar pureJulian() {
+        var calendar = new GregorianCalendar(TimeZone.getTimeZone("GMT0"), Locale.US);
+        calendar.clear();
+        calendar.setGregorianChange(new Date(Long.MAX_VALUE));
+        return calendar;
+    }
+}
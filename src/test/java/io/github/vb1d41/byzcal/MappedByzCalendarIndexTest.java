@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class MappedByzCalendarIndexTest {
+
+    static final ByzDateRange RANGE = ByzDateRange.of(
+        ByzDate.of(7400, ByzMonth.SEPTEMBER, 1), ByzDate.of(7600, ByzMonth.SEPTEMBER, 1));
+
+    private Path file;
+
+    @BeforeMethod
+    public void createFile() throws IOException {
+        this.file = Files.createTempFile("byzcal", ".idx");
+    }
+
+    @AfterMethod
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Test
+    public void testLookup() throws IOException {
+        MappedByzCalendarIndex.write(this.file, RANGE,
+            MappedByzCalendarIndex.Column.INDICTION, MappedByzCalendarIndex.Column.PASCHA_OFFSET);
+        var index = MappedByzCalendarIndex.open(this.file);
+
+        assertEquals(index.start(), RANGE.start());
+        assertEquals(index.end(), RANGE.end());
+        assertEquals(index.size(), RANGE.length());
+        assertTrue(index.hasColumn(MappedByzCalendarIndex.Column.PASCHA_OFFSET));
+
+        RANGE.stream().forEach(date -> {
+            long epochDay = date.toEpochDay();
+            var pascha = Paschalion.of(date.year()).pascha();
+
+            assertEquals(index.date(epochDay), date);
+            assertEquals(index.year(epochDay), date.year());
+            assertEquals(index.month(epochDay), date.month());
+            assertEquals(index.dayOfMonth(epochDay), date.dayOfMonth());
+            assertEquals(index.dayOfWeek(epochDay), date.dayOfWeek());
+            assertEquals(index.indiction(epochDay), Math.floorMod(date.year(), 15) == 0 ? 15 : date.year() % 15);
+            assertEquals(index.paschaOffset(epochDay), epochDay - pascha.toEpochDay());
+        });
+    }
+
+    @Test
+    public void testLookup_NoColumns() throws IOException {
+        MappedByzCalendarIndex.write(this.file, RANGE);
+        var index = MappedByzCalendarIndex.open(this.file);
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+
+        assertEquals(Files.size(this.file), 32 + RANGE.length() * 8);
+        assertFalse(index.hasColumn(MappedByzCalendarIndex.Column.INDICTION));
+        assertEquals(index.date(date.toEpochDay()), date);
+        assertTrue(index.contains(date.toEpochDay()));
+        assertFalse(index.contains(RANGE.end().toEpochDay()));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testIndiction_NoColumn() throws IOException {
+        MappedByzCalendarIndex.write(this.file, RANGE);
+        MappedByzCalendarIndex.open(this.file).indiction(RANGE.start().toEpochDay());
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testDate_OutOfRange() throws IOException {
+        MappedByzCalendarIndex.write(this.file, RANGE);
+        MappedByzCalendarIndex.open(this.file).date(RANGE.end().toEpochDay());
+    }
+
+    @Test
+    public void testWrite_TooLarge() throws IOException {
+        MappedByzCalendarIndex.write(this.file, RANGE);
+        long size = Files.size(this.file);
+
+        var range = ByzDateRange.of(ByzDate.of(ByzChronology.MIN_YEAR, ByzMonth.SEPTEMBER, 1),
+            ByzDate.of(ByzChronology.MAX_YEAR, ByzMonth.SEPTEMBER, 1));
+        assertThrows(IllegalArgumentException.class, () -> MappedByzCalendarIndex.write(this.file, range));
+
+        // the existing index is kept
+        assertEquals(Files.size(this.file), size);
+        assertEquals(MappedByzCalendarIndex.open(this.file).size(), RANGE.length());
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testOpen_NotAnIndex() throws IOException {
+        Files.write(this.file, new byte[64]);
+        MappedByzCalendarIndex.open(this.file);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testOpen_CorruptCount() throws IOException {
+        MappedByzCalendarIndex.write(this.file, RANGE);
+        try (var out = new RandomAccessFile(this.file.toFile(), "rw")) {
+            // 2^61 records of 8 bytes overflow the size to 32 bytes
+            out.seek(24);
+            out.writeLong(1L << 61);
+        }
+        MappedByzCalendarIndex.open(this.file);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testOpen_TooLarge() throws IOException {
+        MappedByzCalendarIndex.write(this.file, RANGE);
+        try (var out = new RandomAccessFile(this.file.toFile(), "rw")) {
+            out.setLength(1L << 31); // sparse
+        }
+        MappedByzCalendarIndex.open(this.file);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class PaschalionTest {
+
+    @DataProvider(name = "pascha")
+    public Object[][] pascha() {
+        // the Gregorian dates of Pascha
+        return new Object[][] {
+            { 7529, 2021, 5, 2 },
+            { 7530, 2022, 4, 24 },
+            { 7531, 2023, 4, 16 },
+            { 7532, 2024, 5, 5 },
+            { 7533, 2025, 4, 20 },
+            { 7408, 1900, 4, 22 },
+            { 7608, 2100, 5, 2 }
+        };
+    }
+
+    @Test(dataProvider = "pascha")
+    public void testPascha(int year, int greYear, int greMonth, int greDayOfMonth) {
+        var p = Paschalion.of(year);
+
+        assertEquals(p.year(), year);
+        assertEquals(p.pascha(), ByzDate.fromGregorian(greYear, greMonth, greDayOfMonth));
+    }
+
+    @Test
+    public void testPascha_EveryYear() {
+        for (int year = 5600; year < 12000; year++) {
+            var pascha = Paschalion.of(year).pascha();
+            int offset = Paschalion.computePaschaOffset(year);
+
+            assertEquals(pascha, ByzDate.of(year, ByzMonth.MARCH, 21 + offset));
+            assertEquals(pascha.dayOfWeek(), ByzDayOfWeek.LORDSDAY);
+            assertTrue(offset >= 1 && offset <= 35);
+        }
+    }
+
+    @Test
+    public void testMoveableFeasts() {
+        var p = Paschalion.of(7531); // Pascha APRIL 3, 7531
+
+        assertEquals(p.triodion(), ByzDate.of(7531, ByzMonth.JANUARY, 23));
+        assertEquals(p.meatfareSunday(), ByzDate.of(7531, ByzMonth.FEBRUARY, 6));
+        assertEquals(p.cheesefareSunday(), ByzDate.of(7531, ByzMonth.FEBRUARY, 13));
+        assertEquals(p.greatLent(), ByzDate.of(7531, ByzMonth.FEBRUARY, 14));
+        assertEquals(p.lazarusSaturday(), ByzDate.of(7531, ByzMonth.MARCH, 26));
+        assertEquals(p.palmSunday(), ByzDate.of(7531, ByzMonth.MARCH, 27));
+        assertEquals(p.ascension(), ByzDate.of(7531, ByzMonth.MAY, 12));
+        assertEquals(p.pentecost(), ByzDate.of(7531, ByzMonth.MAY, 22));
+        assertEquals(p.allSaints(), ByzDate.of(7531, ByzMonth.MAY, 29));
+        assertEquals(p.apostlesFast(), ByzDate.of(7531, ByzMonth.MAY, 30));
+        assertEquals(p.apostlesFastLength(), 30);
+    }
+
+    @Test
+    public void testApostlesFastLength() {
+        for (int year = 7000; year < 7532; year++) {
+            var p = Paschalion.of(year);
+            int length = p.apostlesFastLength();
+
+            assertTrue(length >= 8 && length <= 42);
+            assertEquals(p.apostlesFast().addDays(length), ByzDate.of(year, ByzMonth.JUNE, 29));
+        }
+    }
+
+    @Test
+    public void testPascha_Bulk() {
+        int[] years = { 7529, 7530, 7531, 7532, 7533 };
+        var out = new int[years.length];
+
+        Paschalion.pascha(years, out);
+
+        for (int i = 0; i < years.length; i++)
+            assertEquals(out[i], Paschalion.of(years[i]).pascha().toPacked());
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals(Paschalion.of(7531).toString(), "PASCHA APRIL 3, 7531");
+    }
+}
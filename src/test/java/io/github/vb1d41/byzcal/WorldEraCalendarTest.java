@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 vb1d41
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.vb1d41.byzcal;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @version 1.3.0
+ */
+public class WorldEraCalendarTest {
+
+    private static final WorldEraCalendar CONSTANTINOPOLITAN = WorldEraCalendar.of(WorldEra.CONSTANTINOPOLITAN);
+    private static final WorldEraCalendar ALEXANDRIAN = WorldEraCalendar.of(WorldEra.ALEXANDRIAN);
+    private static final WorldEraCalendar ALEXANDRIAN_MARCH =
+        WorldEraCalendar.of(WorldEra.ALEXANDRIAN, YearStart.MARCH_25);
+    private static final WorldEraCalendar JULIAN_AD = WorldEraCalendar.of(WorldEra.JULIAN_AD);
+    private static final WorldEraCalendar ANNUNCIATION = WorldEraCalendar.of(WorldEra.JULIAN_AD, YearStart.MARCH_25);
+
+    private static final WorldEraCalendar[] CALENDARS = {
+        CONSTANTINOPOLITAN, ALEXANDRIAN, ALEXANDRIAN_MARCH, JULIAN_AD, ANNUNCIATION,
+        WorldEraCalendar.of(WorldEra.JULIAN_AD, YearStart.SEPTEMBER_1),
+        WorldEraCalendar.of(WorldEra.CONSTANTINOPOLITAN, YearStart.JANUARY_1)
+    };
+
+    private static final ByzDateRange RANGE =
+        ByzDateRange.of(ByzDate.of(7520, ByzMonth.SEPTEMBER, 1), ByzDate.of(7540, ByzMonth.SEPTEMBER, 1));
+
+    @Test
+    public void testYear() {
+        // April 16, 2023 (Gregorian) is April 3, AD 2023 (Julian)
+        var date = ByzDate.of(7531, ByzMonth.APRIL, 3);
+        assertEquals(CONSTANTINOPOLITAN.year(date), 7531);
+        assertEquals(ALEXANDRIAN.year(date), 7515);
+        assertEquals(JULIAN_AD.year(date), 2023);
+
+        // AM 5501 (Alexandrian) began on August 29, AD 8 or on March 25, AD 9
+        assertEquals(ALEXANDRIAN.date(5501, ByzMonth.AUGUST, 29), JULIAN_AD.date(8, ByzMonth.AUGUST, 29));
+        assertEquals(ALEXANDRIAN.year(JULIAN_AD.date(8, ByzMonth.AUGUST, 28)), 5500);
+        assertEquals(ALEXANDRIAN_MARCH.date(5501, ByzMonth.MARCH, 25), JULIAN_AD.date(9, ByzMonth.MARCH, 25));
+        assertEquals(ALEXANDRIAN_MARCH.year(JULIAN_AD.date(9, ByzMonth.MARCH, 24)), 5500);
+
+        // the Old Style year 1699 ended on March 24, AD 1700
+        assertEquals(ANNUNCIATION.year(JULIAN_AD.date(1700, ByzMonth.MARCH, 24)), 1699);
+        assertEquals(ANNUNCIATION.year(JULIAN_AD.date(1700, ByzMonth.MARCH, 25)), 1700);
+    }
+
+    @Test
+    public void testYear_EveryDay() {
+        RANGE.stream().forEach(date -> {
+            long julian = JulGreCalendar.julianFields(date.toEpochDay());
+
+            assertEquals(CONSTANTINOPOLITAN.year(date), date.year());
+            assertEquals(JULIAN_AD.year(date), JulGreCalendar.year(julian));
+            for (var calendar : CALENDARS) {
+                int year = calendar.year(date);
+                assertEquals(calendar.date(year, date.month(), date.dayOfMonth()), date);
+                assertTrue(calendar.yearRange(year).contains(date), calendar + " " + date);
+            }
+        });
+    }
+
+    @Test
+    public void testYearRange() {
+        var range = ALEXANDRIAN.yearRange(7515);
+
+        assertEquals(range.start(), ByzDate.of(7530, ByzMonth.AUGUST, 29));
+        assertEquals(range.length(), 365);
+        assertEquals(CONSTANTINOPOLITAN.yearRange(7531),
+            ByzDateRange.of(ByzDate.of(7531, ByzMonth.SEPTEMBER, 1), ByzDate.of(7532, ByzMonth.SEPTEMBER, 1)));
+    }
+
+    @Test
+    public void testConvertYears() {
+        int[] packed = RANGE.stream().mapToInt(ByzDate::toPacked).toArray();
+        int n = packed.length;
+        int[] years = new int[n];
+        byte[] months = new byte[n];
+        byte[] daysOfMonth = new byte[n];
+        ByzDates.convertEpochDays(RANGE.epochDays().toArray(), years, months, daysOfMonth, new byte[n]);
+
+        for (var source : CALENDARS) {
+            int[] sourceYears = new int[n];
+            source.years(packed, sourceYears);
+
+            for (var target : CALENDARS) {
+                int[] targetYears = new int[n];
+                source.convertYears(sourceYears, months, daysOfMonth, target, targetYears);
+
+                for (int i = 0; i < n; i += 97) {
+                    var date = ByzDate.fromPacked(packed[i]);
+                    assertEquals(sourceYears[i], source.year(date));
+                    assertEquals(targetYears[i], target.year(date));
+                    assertEquals(source.convertYear(sourceYears[i], date.month(), date.dayOfMonth(), target),
+                        targetYears[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEquals() {
+        assertEquals(WorldEraCalendar.of(WorldEra.ALEXANDRIAN, YearStart.AUGUST_29), ALEXANDRIAN);
+        assertEquals(ALEXANDRIAN.hashCode(), WorldEraCalendar.of(WorldEra.ALEXANDRIAN).hashCode());
+        assertEquals(ALEXANDRIAN_MARCH.toString(), "ALEXANDRIAN from MARCH_25");
+        assertEquals(ALEXANDRIAN_MARCH.era(), WorldEra.ALEXANDRIAN);
+        assertEquals(ALEXANDRIAN_MARCH.yearStart(), YearStart.MARCH_25);
+    }
+}